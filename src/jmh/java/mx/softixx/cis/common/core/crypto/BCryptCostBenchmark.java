@@ -0,0 +1,66 @@
+package mx.softixx.cis.common.core.crypto;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.crypto.bcrypt.BCrypt;
+
+/**
+ * Time of a BCrypt hash and of a login check for each cost, the figures that
+ * {@link BCryptCostCalibrator} estimates at startup.
+ * <p>
+ * Run with {@code mvn -Pjmh test-compile exec:exec -Djmh.args="BCryptCostBenchmark"},
+ * a subset of costs with {@code -Djmh.args="BCryptCostBenchmark -p cost=10,12"}
+ * </p>
+ *
+ * @author Maikel Guerra Ferrer - mguerraferrer@gmail.com
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 1, time = 2)
+@Measurement(iterations = 3, time = 2)
+public class BCryptCostBenchmark {
+
+	private static final String PASSWORD = "benchmark-password";
+
+	@Param({ "4", "5", "6", "7", "8", "9", "10", "11", "12", "13", "14", "15", "16" })
+	public int cost;
+
+	private String salt;
+	private String hash;
+
+	@Setup
+	public void setup() {
+		salt = BCrypt.gensalt(cost);
+		hash = BCrypt.hashpw(PASSWORD, salt);
+	}
+
+	@Benchmark
+	public String hash() {
+		return BCrypt.hashpw(PASSWORD, salt);
+	}
+
+	@Benchmark
+	public boolean check() {
+		return BCrypt.checkpw(PASSWORD, hash);
+	}
+
+	@Benchmark
+	public String rehash() {
+		return BCryptCostCalibrator.rehash(PASSWORD, hash, cost + 1);
+	}
+
+}
@@ -0,0 +1,90 @@
+package mx.softixx.cis.common.core.datetime;
+
+import java.text.ParseException;
+import java.text.ParsePosition;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import mx.softixx.cis.common.core.validator.ValidatorUtils;
+
+/**
+ * Parsing, validation and formatting of dates with 32 threads, the
+ * {@code SimpleDateFormat} methods are the implementations replaced by
+ * {@link LenientDateParser} and the cached {@link DateFormatter}.
+ * <p>
+ * Run with {@code mvn -Pjmh test-compile exec:exec -Djmh.args="DateParsingBenchmark"}
+ * </p>
+ *
+ * @author Maikel Guerra Ferrer - mguerraferrer@gmail.com
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(32)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class DateParsingBenchmark {
+
+	private static final String PATTERN = DateFormatter.DATE_TIME_FULL_FORMAT.getFormat();
+
+	@Param({ "18/10/2026 13:45:30", "32/13/2026 25:61:61", "18-10-2026" })
+	public String text;
+
+	private Date date;
+
+	@Setup
+	public void setup() {
+		date = new Date(1_792_345_530_000L);
+	}
+
+	@Benchmark
+	public Date parseSimpleDateFormat() {
+		return new SimpleDateFormat(PATTERN).parse(text, new ParsePosition(0));
+	}
+
+	@Benchmark
+	public Date parseLenient() {
+		return DateUtils.tryParseDate(text, DateFormatter.DATE_TIME_FULL_FORMAT);
+	}
+
+	@Benchmark
+	public boolean validateSimpleDateFormat() {
+		try {
+			return new SimpleDateFormat(DateFormatter.DATE_SIMPLE_FORMAT.getFormat()).parse(text) != null;
+		} catch (ParseException e) {
+			return false;
+		}
+	}
+
+	@Benchmark
+	public boolean validateLenient() {
+		return ValidatorUtils.validateDate(text);
+	}
+
+	@Benchmark
+	public String formatSimpleDateFormat() {
+		return new SimpleDateFormat(PATTERN).format(date).toLowerCase();
+	}
+
+	@Benchmark
+	public String formatCached() {
+		return DateUtils.formatDate(date, DateFormatter.DATE_TIME_FULL_FORMAT);
+	}
+
+}
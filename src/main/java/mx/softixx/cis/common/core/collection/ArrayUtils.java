@@ -2,6 +2,8 @@ package mx.softixx.cis.common.core.collection;
 
 import java.util.Arrays;
 
+import lombok.val;
+
 public final class ArrayUtils {
 	
 	private ArrayUtils() {		
@@ -14,4 +16,484 @@ public final class ArrayUtils {
 		return Arrays.stream(array).distinct().count() < array.length;
 	}
 	
+	/**
+	 * Evaluates if the array contains repeated values
+	 * 
+	 * @param array {@code long[]}
+	 * @return True if any value is repeated, otherwise false
+	 */
+	public static boolean hasDuplicateValues(long[] array) {
+		if (array == null || array.length <= 1) {
+			return false;
+		}
+
+		val seen = new LongHashSet(array.length);
+		for (val value : array) {
+			if (!seen.add(value)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns the repeated values of the array, each one once, in the order in
+	 * which they are repeated for the first time
+	 * 
+	 * @param array {@code long[]}
+	 * @return {@code long[]} with the repeated values or empty array
+	 */
+	public static long[] findDuplicate(long[] array) {
+		if (array == null || array.length <= 1) {
+			return new long[0];
+		}
+
+		val seen = new LongHashSet(array.length);
+		val reported = new LongHashSet();
+		val result = new LongList();
+		for (val value : array) {
+			if (!seen.add(value) && reported.add(value)) {
+				result.add(value);
+			}
+		}
+		return result.toArray();
+	}
+
+	/**
+	 * Returns the unique values of the array in encounter order
+	 * 
+	 * @param array {@code long[]}
+	 * @return {@code long[]} without repeated values or empty array
+	 */
+	public static long[] distinct(long[] array) {
+		if (array == null) {
+			return new long[0];
+		}
+
+		val seen = new LongHashSet(array.length);
+		val result = new LongList(array.length);
+		for (val value : array) {
+			if (seen.add(value)) {
+				result.add(value);
+			}
+		}
+		return result.toArray();
+	}
+
+	/**
+	 * Returns the unique values of array1 that exist in array2, in the encounter
+	 * order of array1
+	 * 
+	 * @param array1 {@code long[]}
+	 * @param array2 {@code long[]}
+	 * @return {@code long[]} with the intersection values or empty array
+	 */
+	public static long[] intersection(long[] array1, long[] array2) {
+		if (array1 == null || array2 == null) {
+			return new long[0];
+		}
+
+		val lookup = LongHashSet.of(array2);
+		val added = new LongHashSet();
+		val result = new LongList();
+		for (val value : array1) {
+			if (lookup.contains(value) && added.add(value)) {
+				result.add(value);
+			}
+		}
+		return result.toArray();
+	}
+
+	/**
+	 * Returns the values of array1 that do not exist in array2, in the encounter
+	 * order of array1
+	 * 
+	 * @param array1 {@code long[]}
+	 * @param array2 {@code long[]}
+	 * @return {@code long[]} with the values of array1 that do not exist in array2
+	 */
+	public static long[] difference(long[] array1, long[] array2) {
+		if (array1 == null) {
+			return new long[0];
+		}
+		if (array2 == null) {
+			return array1.clone();
+		}
+
+		val lookup = LongHashSet.of(array2);
+		val result = new LongList();
+		for (val value : array1) {
+			if (!lookup.contains(value)) {
+				result.add(value);
+			}
+		}
+		return result.toArray();
+	}
+
+	/**
+	 * Returns the unique values of both arrays. Both arrays must be sorted in
+	 * ascending order, they are merged in linear time without hashing
+	 * 
+	 * @param array1 {@code long[]} sorted
+	 * @param array2 {@code long[]} sorted
+	 * @return {@code long[]} sorted with the union values or empty array
+	 */
+	public static long[] sortedUnion(long[] array1, long[] array2) {
+		val a = array1 != null ? array1 : new long[0];
+		val b = array2 != null ? array2 : new long[0];
+		val result = new LongList(a.length + b.length);
+		var i = 0;
+		var j = 0;
+		while (i < a.length || j < b.length) {
+			long value;
+			if (j == b.length || (i < a.length && a[i] <= b[j])) {
+				value = a[i++];
+			} else {
+				value = b[j++];
+			}
+			addDistinct(result, value);
+		}
+		return result.toArray();
+	}
+
+	/**
+	 * Returns the unique values that exist in both arrays. Both arrays must be
+	 * sorted in ascending order, they are merged in linear time without hashing
+	 * 
+	 * @param array1 {@code long[]} sorted
+	 * @param array2 {@code long[]} sorted
+	 * @return {@code long[]} sorted with the intersection values or empty array
+	 */
+	public static long[] sortedIntersection(long[] array1, long[] array2) {
+		if (array1 == null || array2 == null) {
+			return new long[0];
+		}
+
+		val result = new LongList();
+		var i = 0;
+		var j = 0;
+		while (i < array1.length && j < array2.length) {
+			if (array1[i] < array2[j]) {
+				i++;
+			} else if (array1[i] > array2[j]) {
+				j++;
+			} else {
+				addDistinct(result, array1[i]);
+				i++;
+				j++;
+			}
+		}
+		return result.toArray();
+	}
+
+	/**
+	 * Returns the values of array1 that do not exist in array2. Both arrays must
+	 * be sorted in ascending order, they are merged in linear time without hashing
+	 * 
+	 * @param array1 {@code long[]} sorted
+	 * @param array2 {@code long[]} sorted
+	 * @return {@code long[]} sorted with the values of array1 that do not exist in
+	 *         array2
+	 */
+	public static long[] sortedDifference(long[] array1, long[] array2) {
+		if (array1 == null) {
+			return new long[0];
+		}
+		if (array2 == null) {
+			return array1.clone();
+		}
+
+		val result = new LongList();
+		var j = 0;
+		for (val value : array1) {
+			while (j < array2.length && array2[j] < value) {
+				j++;
+			}
+			if (j == array2.length || array2[j] != value) {
+				result.add(value);
+			}
+		}
+		return result.toArray();
+	}
+
+	/**
+	 * Returns the unique values that exist only in one of the arrays. Both arrays
+	 * must be sorted in ascending order, they are merged in linear time without
+	 * hashing
+	 * 
+	 * @param array1 {@code long[]} sorted
+	 * @param array2 {@code long[]} sorted
+	 * @return {@code long[]} sorted with the difference values or empty array
+	 */
+	public static long[] sortedFullDifference(long[] array1, long[] array2) {
+		val a = array1 != null ? array1 : new long[0];
+		val b = array2 != null ? array2 : new long[0];
+		val result = new LongList();
+		var i = 0;
+		var j = 0;
+		while (i < a.length || j < b.length) {
+			if (j == b.length || (i < a.length && a[i] < b[j])) {
+				addDistinct(result, a[i++]);
+			} else if (i == a.length || a[i] > b[j]) {
+				addDistinct(result, b[j++]);
+			} else {
+				// ##### Skips every occurrence of the common value in both arrays
+				val common = a[i];
+				while (i < a.length && a[i] == common) {
+					i++;
+				}
+				while (j < b.length && b[j] == common) {
+					j++;
+				}
+			}
+		}
+		return result.toArray();
+	}
+
+	private static void addDistinct(LongList sorted, long value) {
+		if (sorted.isEmpty() || sorted.get(sorted.size() - 1) != value) {
+			sorted.add(value);
+		}
+	}
+
+	/**
+	 * Evaluates if the array contains repeated values
+	 * 
+	 * @param array {@code int[]}
+	 * @return True if any value is repeated, otherwise false
+	 */
+	public static boolean hasDuplicateValues(int[] array) {
+		if (array == null || array.length <= 1) {
+			return false;
+		}
+
+		val seen = new IntHashSet(array.length);
+		for (val value : array) {
+			if (!seen.add(value)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns the repeated values of the array, each one once, in the order in
+	 * which they are repeated for the first time
+	 * 
+	 * @param array {@code int[]}
+	 * @return {@code int[]} with the repeated values or empty array
+	 */
+	public static int[] findDuplicate(int[] array) {
+		if (array == null || array.length <= 1) {
+			return new int[0];
+		}
+
+		val seen = new IntHashSet(array.length);
+		val reported = new IntHashSet();
+		val result = new IntList();
+		for (val value : array) {
+			if (!seen.add(value) && reported.add(value)) {
+				result.add(value);
+			}
+		}
+		return result.toArray();
+	}
+
+	/**
+	 * Returns the unique values of the array in encounter order
+	 * 
+	 * @param array {@code int[]}
+	 * @return {@code int[]} without repeated values or empty array
+	 */
+	public static int[] distinct(int[] array) {
+		if (array == null) {
+			return new int[0];
+		}
+
+		val seen = new IntHashSet(array.length);
+		val result = new IntList(array.length);
+		for (val value : array) {
+			if (seen.add(value)) {
+				result.add(value);
+			}
+		}
+		return result.toArray();
+	}
+
+	/**
+	 * Returns the unique values of array1 that exist in array2, in the encounter
+	 * order of array1
+	 * 
+	 * @param array1 {@code int[]}
+	 * @param array2 {@code int[]}
+	 * @return {@code int[]} with the intersection values or empty array
+	 */
+	public static int[] intersection(int[] array1, int[] array2) {
+		if (array1 == null || array2 == null) {
+			return new int[0];
+		}
+
+		val lookup = IntHashSet.of(array2);
+		val added = new IntHashSet();
+		val result = new IntList();
+		for (val value : array1) {
+			if (lookup.contains(value) && added.add(value)) {
+				result.add(value);
+			}
+		}
+		return result.toArray();
+	}
+
+	/**
+	 * Returns the values of array1 that do not exist in array2, in the encounter
+	 * order of array1
+	 * 
+	 * @param array1 {@code int[]}
+	 * @param array2 {@code int[]}
+	 * @return {@code int[]} with the values of array1 that do not exist in array2
+	 */
+	public static int[] difference(int[] array1, int[] array2) {
+		if (array1 == null) {
+			return new int[0];
+		}
+		if (array2 == null) {
+			return array1.clone();
+		}
+
+		val lookup = IntHashSet.of(array2);
+		val result = new IntList();
+		for (val value : array1) {
+			if (!lookup.contains(value)) {
+				result.add(value);
+			}
+		}
+		return result.toArray();
+	}
+
+	/**
+	 * Returns the unique values of both arrays. Both arrays must be sorted in
+	 * ascending order, they are merged in linear time without hashing
+	 * 
+	 * @param array1 {@code int[]} sorted
+	 * @param array2 {@code int[]} sorted
+	 * @return {@code int[]} sorted with the union values or empty array
+	 */
+	public static int[] sortedUnion(int[] array1, int[] array2) {
+		val a = array1 != null ? array1 : new int[0];
+		val b = array2 != null ? array2 : new int[0];
+		val result = new IntList(a.length + b.length);
+		var i = 0;
+		var j = 0;
+		while (i < a.length || j < b.length) {
+			int value;
+			if (j == b.length || (i < a.length && a[i] <= b[j])) {
+				value = a[i++];
+			} else {
+				value = b[j++];
+			}
+			addDistinct(result, value);
+		}
+		return result.toArray();
+	}
+
+	/**
+	 * Returns the unique values that exist in both arrays. Both arrays must be
+	 * sorted in ascending order, they are merged in linear time without hashing
+	 * 
+	 * @param array1 {@code int[]} sorted
+	 * @param array2 {@code int[]} sorted
+	 * @return {@code int[]} sorted with the intersection values or empty array
+	 */
+	public static int[] sortedIntersection(int[] array1, int[] array2) {
+		if (array1 == null || array2 == null) {
+			return new int[0];
+		}
+
+		val result = new IntList();
+		var i = 0;
+		var j = 0;
+		while (i < array1.length && j < array2.length) {
+			if (array1[i] < array2[j]) {
+				i++;
+			} else if (array1[i] > array2[j]) {
+				j++;
+			} else {
+				addDistinct(result, array1[i]);
+				i++;
+				j++;
+			}
+		}
+		return result.toArray();
+	}
+
+	/**
+	 * Returns the values of array1 that do not exist in array2. Both arrays must
+	 * be sorted in ascending order, they are merged in linear time without hashing
+	 * 
+	 * @param array1 {@code int[]} sorted
+	 * @param array2 {@code int[]} sorted
+	 * @return {@code int[]} sorted with the values of array1 that do not exist in
+	 *         array2
+	 */
+	public static int[] sortedDifference(int[] array1, int[] array2) {
+		if (array1 == null) {
+			return new int[0];
+		}
+		if (array2 == null) {
+			return array1.clone();
+		}
+
+		val result = new IntList();
+		var j = 0;
+		for (val value : array1) {
+			while (j < array2.length && array2[j] < value) {
+				j++;
+			}
+			if (j == array2.length || array2[j] != value) {
+				result.add(value);
+			}
+		}
+		return result.toArray();
+	}
+
+	/**
+	 * Returns the unique values that exist only in one of the arrays. Both arrays
+	 * must be sorted in ascending order, they are merged in linear time without
+	 * hashing
+	 * 
+	 * @param array1 {@code int[]} sorted
+	 * @param array2 {@code int[]} sorted
+	 * @return {@code int[]} sorted with the difference values or empty array
+	 */
+	public static int[] sortedFullDifference(int[] array1, int[] array2) {
+		val a = array1 != null ? array1 : new int[0];
+		val b = array2 != null ? array2 : new int[0];
+		val result = new IntList();
+		var i = 0;
+		var j = 0;
+		while (i < a.length || j < b.length) {
+			if (j == b.length || (i < a.length && a[i] < b[j])) {
+				addDistinct(result, a[i++]);
+			} else if (i == a.length || a[i] > b[j]) {
+				addDistinct(result, b[j++]);
+			} else {
+				// ##### Skips every occurrence of the common value in both arrays
+				val common = a[i];
+				while (i < a.length && a[i] == common) {
+					i++;
+				}
+				while (j < b.length && b[j] == common) {
+					j++;
+				}
+			}
+		}
+		return result.toArray();
+	}
+
+	private static void addDistinct(IntList sorted, int value) {
+		if (sorted.isEmpty() || sorted.get(sorted.size() - 1) != value) {
+			sorted.add(value);
+		}
+	}
+	
 }
\ No newline at end of file
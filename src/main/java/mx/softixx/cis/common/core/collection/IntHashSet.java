@@ -0,0 +1,258 @@
+package mx.softixx.cis.common.core.collection;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+import lombok.val;
+
+/**
+ * Set of {@code int} values without boxing.
+ * <p>
+ * Values are stored in a single {@code int[]} with open addressing and linear
+ * probing, so there is no node per element like in {@code HashSet<Integer>}. The
+ * value 0 marks an empty slot and is tracked apart. The table is kept at most
+ * half full and removals shift the following entries back, so lookups never
+ * degrade because of deleted slots.
+ * </p>
+ * <p>
+ * This class is not thread-safe.
+ * </p>
+ *
+ * @author Maikel Guerra Ferrer - mguerraferrer@gmail.com
+ *
+ */
+public final class IntHashSet {
+
+	private static final int MIN_CAPACITY = 8;
+	private static final int MAX_CAPACITY = 1 << 30;
+	private static final int GOLDEN_RATIO = 0x9E3779B9;
+
+	private int[] table;
+	private int shift;
+	private int size;
+	private boolean hasZero;
+
+	public IntHashSet() {
+		this(MIN_CAPACITY);
+	}
+
+	/**
+	 * @param expectedSize Number of values that can be added without resizing
+	 */
+	public IntHashSet(final int expectedSize) {
+		if (expectedSize < 0) {
+			throw new IllegalArgumentException("Illegal size: " + expectedSize);
+		}
+		allocate(capacityFor(expectedSize));
+	}
+
+	/**
+	 * Creates a set with the given values
+	 *
+	 * @param values int...
+	 * @return {@link IntHashSet}
+	 */
+	public static IntHashSet of(final int... values) {
+		val set = new IntHashSet(values.length);
+		set.addAll(values);
+		return set;
+	}
+
+	/**
+	 * Adds a value
+	 *
+	 * @param value int
+	 * @return True if the value was not present, otherwise false
+	 */
+	public boolean add(final int value) {
+		if (value == 0) {
+			if (hasZero) {
+				return false;
+			}
+			hasZero = true;
+			size++;
+			return true;
+		}
+
+		val mask = table.length - 1;
+		var i = index(value);
+		while (table[i] != 0) {
+			if (table[i] == value) {
+				return false;
+			}
+			i = (i + 1) & mask;
+		}
+		table[i] = value;
+		size++;
+		if (size > table.length >>> 1) {
+			rehash(table.length << 1);
+		}
+		return true;
+	}
+
+	/**
+	 * Adds all the values
+	 *
+	 * @param values int[]
+	 */
+	public void addAll(final int[] values) {
+		for (val value : values) {
+			add(value);
+		}
+	}
+
+	/**
+	 * @param value int
+	 * @return True if the set contains the value, otherwise false
+	 */
+	public boolean contains(final int value) {
+		if (value == 0) {
+			return hasZero;
+		}
+
+		val mask = table.length - 1;
+		var i = index(value);
+		while (table[i] != 0) {
+			if (table[i] == value) {
+				return true;
+			}
+			i = (i + 1) & mask;
+		}
+		return false;
+	}
+
+	/**
+	 * Removes a value
+	 *
+	 * @param value int
+	 * @return True if the value was present, otherwise false
+	 */
+	public boolean remove(final int value) {
+		if (value == 0) {
+			if (!hasZero) {
+				return false;
+			}
+			hasZero = false;
+			size--;
+			return true;
+		}
+
+		val mask = table.length - 1;
+		var i = index(value);
+		while (table[i] != value) {
+			if (table[i] == 0) {
+				return false;
+			}
+			i = (i + 1) & mask;
+		}
+
+		// ##### Backward shift: moves back the entries of the same probe sequence
+		var free = i;
+		var j = (i + 1) & mask;
+		while (table[j] != 0) {
+			val home = index(table[j]);
+			if (((j - home) & mask) >= ((j - free) & mask)) {
+				table[free] = table[j];
+				free = j;
+			}
+			j = (j + 1) & mask;
+		}
+		table[free] = 0;
+		size--;
+		return true;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Removes all the values keeping the current capacity
+	 */
+	public void clear() {
+		Arrays.fill(table, 0);
+		hasZero = false;
+		size = 0;
+	}
+
+	/**
+	 * Performs the given action for each value, in no particular order
+	 *
+	 * @param action IntConsumer
+	 */
+	public void forEach(final IntConsumer action) {
+		if (hasZero) {
+			action.accept(0);
+		}
+		for (val value : table) {
+			if (value != 0) {
+				action.accept(value);
+			}
+		}
+	}
+
+	/**
+	 * @return int[] with the values, in no particular order
+	 */
+	public int[] toArray() {
+		val result = new int[size];
+		var i = 0;
+		if (hasZero) {
+			result[i++] = 0;
+		}
+		for (val value : table) {
+			if (value != 0) {
+				result[i++] = value;
+			}
+		}
+		return result;
+	}
+
+	private int index(final int value) {
+		return (value * GOLDEN_RATIO) >>> shift;
+	}
+
+	private void allocate(final int capacity) {
+		table = new int[capacity];
+		shift = Integer.SIZE - Integer.numberOfTrailingZeros(capacity);
+	}
+
+	private void rehash(final int capacity) {
+		if (capacity > MAX_CAPACITY) {
+			throw new IllegalStateException("IntHashSet is full");
+		}
+
+		val old = table;
+		allocate(capacity);
+		val mask = capacity - 1;
+		for (val value : old) {
+			if (value != 0) {
+				var i = index(value);
+				while (table[i] != 0) {
+					i = (i + 1) & mask;
+				}
+				table[i] = value;
+			}
+		}
+	}
+
+	private static int capacityFor(final int expectedSize) {
+		var capacity = MIN_CAPACITY;
+		while (capacity < MAX_CAPACITY && capacity >>> 1 < expectedSize) {
+			capacity <<= 1;
+		}
+		return capacity;
+	}
+
+	@Override
+	public String toString() {
+		val sorted = toArray();
+		Arrays.sort(sorted);
+		return Arrays.toString(sorted);
+	}
+
+}
@@ -0,0 +1,194 @@
+package mx.softixx.cis.common.core.collection;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+import lombok.val;
+
+/**
+ * Growable list of {@code int} values without boxing, backed by a
+ * {@code int[]}.
+ * <p>
+ * This class is not thread-safe.
+ * </p>
+ *
+ * @author Maikel Guerra Ferrer - mguerraferrer@gmail.com
+ *
+ */
+public final class IntList {
+
+	private static final int DEFAULT_CAPACITY = 10;
+	private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+	private int[] values;
+	private int size;
+
+	public IntList() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * @param capacity Initial capacity
+	 */
+	public IntList(final int capacity) {
+		if (capacity < 0) {
+			throw new IllegalArgumentException("Illegal capacity: " + capacity);
+		}
+		this.values = new int[capacity];
+	}
+
+	/**
+	 * Creates a list with a copy of the given values
+	 *
+	 * @param values int...
+	 * @return {@link IntList}
+	 */
+	public static IntList of(final int... values) {
+		val list = new IntList(values.length);
+		list.addAll(values);
+		return list;
+	}
+
+	public void add(final int value) {
+		if (size == values.length) {
+			grow(size + 1);
+		}
+		values[size++] = value;
+	}
+
+	public void addAll(final int[] source) {
+		if (size + source.length > values.length) {
+			grow(size + source.length);
+		}
+		System.arraycopy(source, 0, values, size, source.length);
+		size += source.length;
+	}
+
+	public void addAll(final IntList source) {
+		if (size + source.size > values.length) {
+			grow(size + source.size);
+		}
+		System.arraycopy(source.values, 0, values, size, source.size);
+		size += source.size;
+	}
+
+	public int get(final int index) {
+		checkIndex(index);
+		return values[index];
+	}
+
+	/**
+	 * Replaces the value at the given index
+	 *
+	 * @param index int
+	 * @param value int
+	 * @return The previous value
+	 */
+	public int set(final int index, final int value) {
+		checkIndex(index);
+		val previous = values[index];
+		values[index] = value;
+		return previous;
+	}
+
+	/**
+	 * Removes the value at the given index shifting the following values
+	 *
+	 * @param index int
+	 * @return The removed value
+	 */
+	public int removeAt(final int index) {
+		checkIndex(index);
+		val removed = values[index];
+		System.arraycopy(values, index + 1, values, index, size - index - 1);
+		size--;
+		return removed;
+	}
+
+	public int indexOf(final int value) {
+		for (int i = 0; i < size; i++) {
+			if (values[i] == value) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	public boolean contains(final int value) {
+		return indexOf(value) >= 0;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Removes all the values keeping the current capacity
+	 */
+	public void clear() {
+		size = 0;
+	}
+
+	/**
+	 * Sorts the values in ascending order
+	 */
+	public void sort() {
+		Arrays.sort(values, 0, size);
+	}
+
+	/**
+	 * @return int[] with a copy of the values
+	 */
+	public int[] toArray() {
+		return Arrays.copyOf(values, size);
+	}
+
+	public IntStream stream() {
+		return Arrays.stream(values, 0, size);
+	}
+
+	private void checkIndex(final int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		}
+	}
+
+	private void grow(final int minCapacity) {
+		if (minCapacity < 0 || minCapacity > MAX_CAPACITY) {
+			throw new OutOfMemoryError("Required array size too large");
+		}
+		val capacity = (int) Math.min(MAX_CAPACITY, Math.max(minCapacity, values.length + (values.length >> 1) + 1L));
+		values = Arrays.copyOf(values, capacity);
+	}
+
+	@Override
+	public boolean equals(final Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof IntList)) {
+			return false;
+		}
+		val other = (IntList) obj;
+		return Arrays.equals(values, 0, size, other.values, 0, other.size);
+	}
+
+	@Override
+	public int hashCode() {
+		var hash = 1;
+		for (int i = 0; i < size; i++) {
+			hash = 31 * hash + Integer.hashCode(values[i]);
+		}
+		return hash;
+	}
+
+	@Override
+	public String toString() {
+		return Arrays.toString(toArray());
+	}
+
+}
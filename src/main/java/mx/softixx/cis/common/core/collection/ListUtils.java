@@ -4,9 +4,12 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.RandomAccess;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -29,6 +32,12 @@ public final class ListUtils {
 	public static final String DEFAULT_DELIMITER = ",";
 	public static final String WHITE_SPACE_DELIMITER = " ";
 
+	/**
+	 * Min number of elements of a list filtered in parallel by the parallel
+	 * operations
+	 */
+	public static final int PARALLEL_THRESHOLD = 1 << 16;
+
 	/**
 	 * Converts a {@code List<String>} to {@code String}. Elements are separated by
 	 * the default delimiter ',', in encounter order
@@ -229,7 +238,8 @@ public final class ListUtils {
 	 */
 	public static <T> List<T> intersection(List<T> list1, List<T> list2) {
 		if (ValidatorUtils.isNotEmpty(list1) && ValidatorUtils.isNotEmpty(list2)) {
-			val result = list1.stream().distinct().filter(list2::contains).collect(Collectors.toSet());
+			val lookup = new HashSet<T>(list2);
+			val result = list1.stream().filter(lookup::contains).collect(Collectors.toSet());
 			return new ArrayList<>(result);
 		}
 		return Collections.emptyList();
@@ -252,7 +262,8 @@ public final class ListUtils {
 	 */
 	public static <T> List<T> difference(List<T> list1, List<T> list2) {
 		if (ValidatorUtils.isNotEmpty(list1) && ValidatorUtils.isNotEmpty(list2)) {
-			return list1.stream().filter(element -> !list2.contains(element)).collect(Collectors.toList());
+			val lookup = new HashSet<T>(list2);
+			return list1.stream().filter(element -> !lookup.contains(element)).collect(Collectors.toList());
 		}
 		return Collections.emptyList();
 	}
@@ -276,13 +287,306 @@ public final class ListUtils {
 	 */
 	public static <T> List<T> fullDifference(List<T> list1, List<T> list2) {
 		if (ValidatorUtils.isNotEmpty(list1) && ValidatorUtils.isNotEmpty(list2)) {
-			val d1 = list1.stream().filter(element -> !list2.contains(element)).collect(Collectors.toList());
-			val d2 = list2.stream().filter(element -> !list1.contains(element)).collect(Collectors.toList());
+			val lookup1 = new HashSet<T>(list1);
+			val lookup2 = new HashSet<T>(list2);
+			val d1 = list1.stream().filter(element -> !lookup2.contains(element)).collect(Collectors.toList());
+			val d2 = list2.stream().filter(element -> !lookup1.contains(element)).collect(Collectors.toList());
 			return merge(d1, d2);
 		}
 		return Collections.emptyList();
 	}
 	
+	/**
+	 * This method returns the unique values of list1 that exist in list2, in the
+	 * encounter order of list1
+	 * <p>
+	 * <b>Example</b><br>
+	 * val l1 = List.of(5, 4, 1, 4, 2); <br>
+	 * val l2 = List.of(1, 1, 3, 4, 1); <br>
+	 * val result = ListUtils.orderedIntersection(l1, l2); <br>
+	 * //result => [4, 1]
+	 * </p>
+	 * 
+	 * @param <T>   the type of list elements
+	 * @param list1 List<T>
+	 * @param list2 List<T>
+	 * @return {@code List<T>} with the intersection values between the provided lists
+	 *         or empty list
+	 */
+	public static <T> List<T> orderedIntersection(List<T> list1, List<T> list2) {
+		if (ValidatorUtils.isNotEmpty(list1) && ValidatorUtils.isNotEmpty(list2)) {
+			val lookup = new HashSet<T>(list2);
+			val result = new LinkedHashSet<T>();
+			for (val element : list1) {
+				if (lookup.contains(element)) {
+					result.add(element);
+				}
+			}
+			return new ArrayList<>(result);
+		}
+		return Collections.emptyList();
+	}
+
+	/**
+	 * This method returns the unique values that exist only in one of the lists.
+	 * The values of list1 come first, both in encounter order
+	 * <p>
+	 * <b>Example</b><br>
+	 * val l1 = List.of(5, 2, 1, 4, 5); <br>
+	 * val l2 = List.of(1, 1, 3, 4, 1); <br>
+	 * val result = ListUtils.orderedFullDifference(l1, l2); <br>
+	 * //result => [5, 2, 3]
+	 * </p>
+	 * 
+	 * @param <T>   the type of list elements
+	 * @param list1 List<T>
+	 * @param list2 List<T>
+	 * @return {@code List<T>} with the difference values between the provided lists
+	 *         or empty list
+	 */
+	public static <T> List<T> orderedFullDifference(List<T> list1, List<T> list2) {
+		if (ValidatorUtils.isNotEmpty(list1) && ValidatorUtils.isNotEmpty(list2)) {
+			val lookup1 = new HashSet<T>(list1);
+			val lookup2 = new HashSet<T>(list2);
+			val result = new LinkedHashSet<T>();
+			for (val element : list1) {
+				if (!lookup2.contains(element)) {
+					result.add(element);
+				}
+			}
+			for (val element : list2) {
+				if (!lookup1.contains(element)) {
+					result.add(element);
+				}
+			}
+			return new ArrayList<>(result);
+		}
+		return Collections.emptyList();
+	}
+
+	/**
+	 * Same as {@link #orderedIntersection(List, List)}, list1 is filtered in
+	 * parallel when it has, at least, {@value #PARALLEL_THRESHOLD} elements
+	 * 
+	 * @param <T>   the type of list elements
+	 * @param list1 List<T>
+	 * @param list2 List<T>
+	 * @return {@code List<T>} with the intersection values between the provided lists
+	 *         or empty list
+	 */
+	public static <T> List<T> parallelIntersection(List<T> list1, List<T> list2) {
+		if (ValidatorUtils.isNotEmpty(list1) && ValidatorUtils.isNotEmpty(list2)) {
+			val lookup = new HashSet<T>(list2);
+			return stream(list1).filter(lookup::contains).distinct().collect(Collectors.toList());
+		}
+		return Collections.emptyList();
+	}
+
+	/**
+	 * Same as {@link #difference(List, List)}, list1 is filtered in parallel when
+	 * it has, at least, {@value #PARALLEL_THRESHOLD} elements
+	 * 
+	 * @param <T>   the type of list elements
+	 * @param list1 List<T>
+	 * @param list2 List<T>
+	 * @return {@code List<T>} with the values of list1 that do not exist in list2
+	 */
+	public static <T> List<T> parallelDifference(List<T> list1, List<T> list2) {
+		if (ValidatorUtils.isNotEmpty(list1) && ValidatorUtils.isNotEmpty(list2)) {
+			val lookup = new HashSet<T>(list2);
+			return stream(list1).filter(element -> !lookup.contains(element)).collect(Collectors.toList());
+		}
+		return Collections.emptyList();
+	}
+
+	/**
+	 * Same as {@link #orderedFullDifference(List, List)}, each list is filtered
+	 * in parallel when it has, at least, {@value #PARALLEL_THRESHOLD} elements
+	 * 
+	 * @param <T>   the type of list elements
+	 * @param list1 List<T>
+	 * @param list2 List<T>
+	 * @return {@code List<T>} with the difference values between the provided lists
+	 *         or empty list
+	 */
+	public static <T> List<T> parallelFullDifference(List<T> list1, List<T> list2) {
+		if (ValidatorUtils.isNotEmpty(list1) && ValidatorUtils.isNotEmpty(list2)) {
+			val lookup1 = new HashSet<T>(list1);
+			val lookup2 = new HashSet<T>(list2);
+			val result = new LinkedHashSet<T>();
+			result.addAll(stream(list1).filter(element -> !lookup2.contains(element)).collect(Collectors.toList()));
+			result.addAll(stream(list2).filter(element -> !lookup1.contains(element)).collect(Collectors.toList()));
+			return new ArrayList<>(result);
+		}
+		return Collections.emptyList();
+	}
+
+	/**
+	 * This method returns the unique values that exist in both lists. Both lists
+	 * must be sorted in ascending order, they are merged in linear time without
+	 * hashing
+	 * 
+	 * @param <T>   the type of list elements
+	 * @param list1 List<T> sorted
+	 * @param list2 List<T> sorted
+	 * @return {@code List<T>} sorted with the intersection values between the
+	 *         provided lists or empty list
+	 */
+	public static <T extends Comparable<? super T>> List<T> sortedIntersection(List<T> list1, List<T> list2) {
+		return sortedIntersection(list1, list2, Comparator.naturalOrder());
+	}
+
+	/**
+	 * This method returns the unique values that exist in both lists. Both lists
+	 * must be sorted with the given comparator, they are merged in linear time
+	 * without hashing
+	 * 
+	 * @param <T>        the type of list elements
+	 * @param list1      List<T> sorted
+	 * @param list2      List<T> sorted
+	 * @param comparator Comparator used to sort the lists
+	 * @return {@code List<T>} sorted with the intersection values between the
+	 *         provided lists or empty list
+	 */
+	public static <T> List<T> sortedIntersection(List<T> list1, List<T> list2, Comparator<? super T> comparator) {
+		if (ValidatorUtils.isNotEmpty(list1) && ValidatorUtils.isNotEmpty(list2)) {
+			val l1 = randomAccess(list1);
+			val l2 = randomAccess(list2);
+			val result = new ArrayList<T>();
+			var i = 0;
+			var j = 0;
+			while (i < l1.size() && j < l2.size()) {
+				val comparison = comparator.compare(l1.get(i), l2.get(j));
+				if (comparison < 0) {
+					i++;
+				} else if (comparison > 0) {
+					j++;
+				} else {
+					addDistinct(result, l1.get(i), comparator);
+					i++;
+					j++;
+				}
+			}
+			return result;
+		}
+		return Collections.emptyList();
+	}
+
+	/**
+	 * This method returns the values of list1 that do not exist in list2. Both
+	 * lists must be sorted in ascending order, they are merged in linear time
+	 * without hashing
+	 * 
+	 * @param <T>   the type of list elements
+	 * @param list1 List<T> sorted
+	 * @param list2 List<T> sorted
+	 * @return {@code List<T>} sorted with the values of list1 that do not exist in
+	 *         list2
+	 */
+	public static <T extends Comparable<? super T>> List<T> sortedDifference(List<T> list1, List<T> list2) {
+		return sortedDifference(list1, list2, Comparator.naturalOrder());
+	}
+
+	/**
+	 * This method returns the values of list1 that do not exist in list2. Both
+	 * lists must be sorted with the given comparator, they are merged in linear
+	 * time without hashing
+	 * 
+	 * @param <T>        the type of list elements
+	 * @param list1      List<T> sorted
+	 * @param list2      List<T> sorted
+	 * @param comparator Comparator used to sort the lists
+	 * @return {@code List<T>} sorted with the values of list1 that do not exist in
+	 *         list2
+	 */
+	public static <T> List<T> sortedDifference(List<T> list1, List<T> list2, Comparator<? super T> comparator) {
+		if (ValidatorUtils.isNotEmpty(list1) && ValidatorUtils.isNotEmpty(list2)) {
+			val l2 = randomAccess(list2);
+			val result = new ArrayList<T>();
+			var j = 0;
+			for (val element : list1) {
+				while (j < l2.size() && comparator.compare(l2.get(j), element) < 0) {
+					j++;
+				}
+				if (j == l2.size() || comparator.compare(l2.get(j), element) != 0) {
+					result.add(element);
+				}
+			}
+			return result;
+		}
+		return Collections.emptyList();
+	}
+
+	/**
+	 * This method returns the unique values that exist only in one of the lists.
+	 * Both lists must be sorted in ascending order, they are merged in linear time
+	 * without hashing
+	 * 
+	 * @param <T>   the type of list elements
+	 * @param list1 List<T> sorted
+	 * @param list2 List<T> sorted
+	 * @return {@code List<T>} sorted with the difference values between the
+	 *         provided lists or empty list
+	 */
+	public static <T extends Comparable<? super T>> List<T> sortedFullDifference(List<T> list1, List<T> list2) {
+		return sortedFullDifference(list1, list2, Comparator.naturalOrder());
+	}
+
+	/**
+	 * This method returns the unique values that exist only in one of the lists.
+	 * Both lists must be sorted with the given comparator, they are merged in
+	 * linear time without hashing
+	 * 
+	 * @param <T>        the type of list elements
+	 * @param list1      List<T> sorted
+	 * @param list2      List<T> sorted
+	 * @param comparator Comparator used to sort the lists
+	 * @return {@code List<T>} sorted with the difference values between the
+	 *         provided lists or empty list
+	 */
+	public static <T> List<T> sortedFullDifference(List<T> list1, List<T> list2, Comparator<? super T> comparator) {
+		if (ValidatorUtils.isNotEmpty(list1) && ValidatorUtils.isNotEmpty(list2)) {
+			val l1 = randomAccess(list1);
+			val l2 = randomAccess(list2);
+			val result = new ArrayList<T>();
+			var i = 0;
+			var j = 0;
+			while (i < l1.size() || j < l2.size()) {
+				val comparison = i == l1.size() ? 1 : j == l2.size() ? -1 : comparator.compare(l1.get(i), l2.get(j));
+				if (comparison < 0) {
+					addDistinct(result, l1.get(i++), comparator);
+				} else if (comparison > 0) {
+					addDistinct(result, l2.get(j++), comparator);
+				} else {
+					// ##### Skips every occurrence of the common value in both lists
+					val common = l1.get(i);
+					while (i < l1.size() && comparator.compare(l1.get(i), common) == 0) {
+						i++;
+					}
+					while (j < l2.size() && comparator.compare(l2.get(j), common) == 0) {
+						j++;
+					}
+				}
+			}
+			return result;
+		}
+		return Collections.emptyList();
+	}
+
+	private static <T> Stream<T> stream(List<T> list) {
+		return list.size() >= PARALLEL_THRESHOLD ? list.parallelStream() : list.stream();
+	}
+
+	private static <T> List<T> randomAccess(List<T> list) {
+		return list instanceof RandomAccess ? list : new ArrayList<>(list);
+	}
+
+	private static <T> void addDistinct(List<T> sorted, T element, Comparator<? super T> comparator) {
+		if (sorted.isEmpty() || comparator.compare(sorted.get(sorted.size() - 1), element) != 0) {
+			sorted.add(element);
+		}
+	}
+	
 	public static <T> boolean hasDuplicateValues(Collection<T> collection) {
 		if (collection == null || collection.isEmpty()) {
 			return false;
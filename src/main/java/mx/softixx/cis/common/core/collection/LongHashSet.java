@@ -0,0 +1,258 @@
+package mx.softixx.cis.common.core.collection;
+
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+
+import lombok.val;
+
+/**
+ * Set of {@code long} values without boxing.
+ * <p>
+ * Values are stored in a single {@code long[]} with open addressing and linear
+ * probing, so there is no node per element like in {@code HashSet<Long>}. The
+ * value 0 marks an empty slot and is tracked apart. The table is kept at most
+ * half full and removals shift the following entries back, so lookups never
+ * degrade because of deleted slots.
+ * </p>
+ * <p>
+ * This class is not thread-safe.
+ * </p>
+ *
+ * @author Maikel Guerra Ferrer - mguerraferrer@gmail.com
+ *
+ */
+public final class LongHashSet {
+
+	private static final int MIN_CAPACITY = 8;
+	private static final int MAX_CAPACITY = 1 << 30;
+	private static final long GOLDEN_RATIO = 0x9E3779B97F4A7C15L;
+
+	private long[] table;
+	private int shift;
+	private int size;
+	private boolean hasZero;
+
+	public LongHashSet() {
+		this(MIN_CAPACITY);
+	}
+
+	/**
+	 * @param expectedSize Number of values that can be added without resizing
+	 */
+	public LongHashSet(final int expectedSize) {
+		if (expectedSize < 0) {
+			throw new IllegalArgumentException("Illegal size: " + expectedSize);
+		}
+		allocate(capacityFor(expectedSize));
+	}
+
+	/**
+	 * Creates a set with the given values
+	 *
+	 * @param values long...
+	 * @return {@link LongHashSet}
+	 */
+	public static LongHashSet of(final long... values) {
+		val set = new LongHashSet(values.length);
+		set.addAll(values);
+		return set;
+	}
+
+	/**
+	 * Adds a value
+	 *
+	 * @param value long
+	 * @return True if the value was not present, otherwise false
+	 */
+	public boolean add(final long value) {
+		if (value == 0) {
+			if (hasZero) {
+				return false;
+			}
+			hasZero = true;
+			size++;
+			return true;
+		}
+
+		val mask = table.length - 1;
+		var i = index(value);
+		while (table[i] != 0) {
+			if (table[i] == value) {
+				return false;
+			}
+			i = (i + 1) & mask;
+		}
+		table[i] = value;
+		size++;
+		if (size > table.length >>> 1) {
+			rehash(table.length << 1);
+		}
+		return true;
+	}
+
+	/**
+	 * Adds all the values
+	 *
+	 * @param values long[]
+	 */
+	public void addAll(final long[] values) {
+		for (val value : values) {
+			add(value);
+		}
+	}
+
+	/**
+	 * @param value long
+	 * @return True if the set contains the value, otherwise false
+	 */
+	public boolean contains(final long value) {
+		if (value == 0) {
+			return hasZero;
+		}
+
+		val mask = table.length - 1;
+		var i = index(value);
+		while (table[i] != 0) {
+			if (table[i] == value) {
+				return true;
+			}
+			i = (i + 1) & mask;
+		}
+		return false;
+	}
+
+	/**
+	 * Removes a value
+	 *
+	 * @param value long
+	 * @return True if the value was present, otherwise false
+	 */
+	public boolean remove(final long value) {
+		if (value == 0) {
+			if (!hasZero) {
+				return false;
+			}
+			hasZero = false;
+			size--;
+			return true;
+		}
+
+		val mask = table.length - 1;
+		var i = index(value);
+		while (table[i] != value) {
+			if (table[i] == 0) {
+				return false;
+			}
+			i = (i + 1) & mask;
+		}
+
+		// ##### Backward shift: moves back the entries of the same probe sequence
+		var free = i;
+		var j = (i + 1) & mask;
+		while (table[j] != 0) {
+			val home = index(table[j]);
+			if (((j - home) & mask) >= ((j - free) & mask)) {
+				table[free] = table[j];
+				free = j;
+			}
+			j = (j + 1) & mask;
+		}
+		table[free] = 0;
+		size--;
+		return true;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Removes all the values keeping the current capacity
+	 */
+	public void clear() {
+		Arrays.fill(table, 0);
+		hasZero = false;
+		size = 0;
+	}
+
+	/**
+	 * Performs the given action for each value, in no particular order
+	 *
+	 * @param action LongConsumer
+	 */
+	public void forEach(final LongConsumer action) {
+		if (hasZero) {
+			action.accept(0);
+		}
+		for (val value : table) {
+			if (value != 0) {
+				action.accept(value);
+			}
+		}
+	}
+
+	/**
+	 * @return long[] with the values, in no particular order
+	 */
+	public long[] toArray() {
+		val result = new long[size];
+		var i = 0;
+		if (hasZero) {
+			result[i++] = 0;
+		}
+		for (val value : table) {
+			if (value != 0) {
+				result[i++] = value;
+			}
+		}
+		return result;
+	}
+
+	private int index(final long value) {
+		return (int) ((value * GOLDEN_RATIO) >>> shift);
+	}
+
+	private void allocate(final int capacity) {
+		table = new long[capacity];
+		shift = Long.SIZE - Integer.numberOfTrailingZeros(capacity);
+	}
+
+	private void rehash(final int capacity) {
+		if (capacity > MAX_CAPACITY) {
+			throw new IllegalStateException("LongHashSet is full");
+		}
+
+		val old = table;
+		allocate(capacity);
+		val mask = capacity - 1;
+		for (val value : old) {
+			if (value != 0) {
+				var i = index(value);
+				while (table[i] != 0) {
+					i = (i + 1) & mask;
+				}
+				table[i] = value;
+			}
+		}
+	}
+
+	private static int capacityFor(final int expectedSize) {
+		var capacity = MIN_CAPACITY;
+		while (capacity < MAX_CAPACITY && capacity >>> 1 < expectedSize) {
+			capacity <<= 1;
+		}
+		return capacity;
+	}
+
+	@Override
+	public String toString() {
+		val sorted = toArray();
+		Arrays.sort(sorted);
+		return Arrays.toString(sorted);
+	}
+
+}
@@ -0,0 +1,194 @@
+package mx.softixx.cis.common.core.collection;
+
+import java.util.Arrays;
+import java.util.stream.LongStream;
+
+import lombok.val;
+
+/**
+ * Growable list of {@code long} values without boxing, backed by a
+ * {@code long[]}.
+ * <p>
+ * This class is not thread-safe.
+ * </p>
+ *
+ * @author Maikel Guerra Ferrer - mguerraferrer@gmail.com
+ *
+ */
+public final class LongList {
+
+	private static final int DEFAULT_CAPACITY = 10;
+	private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+	private long[] values;
+	private int size;
+
+	public LongList() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * @param capacity Initial capacity
+	 */
+	public LongList(final int capacity) {
+		if (capacity < 0) {
+			throw new IllegalArgumentException("Illegal capacity: " + capacity);
+		}
+		this.values = new long[capacity];
+	}
+
+	/**
+	 * Creates a list with a copy of the given values
+	 *
+	 * @param values long...
+	 * @return {@link LongList}
+	 */
+	public static LongList of(final long... values) {
+		val list = new LongList(values.length);
+		list.addAll(values);
+		return list;
+	}
+
+	public void add(final long value) {
+		if (size == values.length) {
+			grow(size + 1);
+		}
+		values[size++] = value;
+	}
+
+	public void addAll(final long[] source) {
+		if (size + source.length > values.length) {
+			grow(size + source.length);
+		}
+		System.arraycopy(source, 0, values, size, source.length);
+		size += source.length;
+	}
+
+	public void addAll(final LongList source) {
+		if (size + source.size > values.length) {
+			grow(size + source.size);
+		}
+		System.arraycopy(source.values, 0, values, size, source.size);
+		size += source.size;
+	}
+
+	public long get(final int index) {
+		checkIndex(index);
+		return values[index];
+	}
+
+	/**
+	 * Replaces the value at the given index
+	 *
+	 * @param index int
+	 * @param value long
+	 * @return The previous value
+	 */
+	public long set(final int index, final long value) {
+		checkIndex(index);
+		val previous = values[index];
+		values[index] = value;
+		return previous;
+	}
+
+	/**
+	 * Removes the value at the given index shifting the following values
+	 *
+	 * @param index int
+	 * @return The removed value
+	 */
+	public long removeAt(final int index) {
+		checkIndex(index);
+		val removed = values[index];
+		System.arraycopy(values, index + 1, values, index, size - index - 1);
+		size--;
+		return removed;
+	}
+
+	public int indexOf(final long value) {
+		for (int i = 0; i < size; i++) {
+			if (values[i] == value) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	public boolean contains(final long value) {
+		return indexOf(value) >= 0;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Removes all the values keeping the current capacity
+	 */
+	public void clear() {
+		size = 0;
+	}
+
+	/**
+	 * Sorts the values in ascending order
+	 */
+	public void sort() {
+		Arrays.sort(values, 0, size);
+	}
+
+	/**
+	 * @return long[] with a copy of the values
+	 */
+	public long[] toArray() {
+		return Arrays.copyOf(values, size);
+	}
+
+	public LongStream stream() {
+		return Arrays.stream(values, 0, size);
+	}
+
+	private void checkIndex(final int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		}
+	}
+
+	private void grow(final int minCapacity) {
+		if (minCapacity < 0 || minCapacity > MAX_CAPACITY) {
+			throw new OutOfMemoryError("Required array size too large");
+		}
+		val capacity = (int) Math.min(MAX_CAPACITY, Math.max(minCapacity, values.length + (values.length >> 1) + 1L));
+		values = Arrays.copyOf(values, capacity);
+	}
+
+	@Override
+	public boolean equals(final Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof LongList)) {
+			return false;
+		}
+		val other = (LongList) obj;
+		return Arrays.equals(values, 0, size, other.values, 0, other.size);
+	}
+
+	@Override
+	public int hashCode() {
+		var hash = 1;
+		for (int i = 0; i < size; i++) {
+			hash = 31 * hash + Long.hashCode(values[i]);
+		}
+		return hash;
+	}
+
+	@Override
+	public String toString() {
+		return Arrays.toString(toArray());
+	}
+
+}
@@ -0,0 +1,239 @@
+package mx.softixx.cis.common.core.crypto;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Objects;
+
+import org.springframework.security.crypto.bcrypt.BCrypt;
+
+import lombok.Value;
+import lombok.val;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Chooses the BCrypt cost for the current machine.
+ * <p>
+ * The time of a hash doubles with every cost, so the calibration measures a
+ * cheap base cost, estimates the highest cost within the latency budget and
+ * then measures that cost, stepping down while it exceeds the budget. Each
+ * measure is the median of several hashes after a warm-up. The result can be
+ * stored with {@link Calibration#encode()} and read at the next startup with
+ * {@link Calibration#decode(String)}, so the calibration only runs when the
+ * hardware or the budget changes.
+ * </p>
+ * <p>
+ * {@link #rehash(CharSequence, String, int)} upgrades the hashes created with a
+ * lower cost when the user logs in.
+ * </p>
+ *
+ * @author Maikel Guerra Ferrer - mguerraferrer@gmail.com
+ *
+ */
+@Slf4j(topic = "BCryptCostCalibrator")
+public final class BCryptCostCalibrator {
+
+	public static final int MIN_COST = 4;
+	public static final int MAX_COST = 31;
+
+	private static final int BASE_COST = 8;
+	private static final String PASSWORD = "calibration-password";
+
+	private final Duration budget;
+	private final int minCost;
+	private final int maxCost;
+	private final int samples;
+
+	/**
+	 * @param budget  Maximum time of a hash
+	 * @param minCost Lowest cost returned, even if it exceeds the budget
+	 * @param maxCost Highest cost returned
+	 * @param samples Number of hashes measured for each cost
+	 */
+	public BCryptCostCalibrator(final Duration budget, final int minCost, final int maxCost, final int samples) {
+		Objects.requireNonNull(budget, "budget");
+		if (budget.isNegative() || budget.isZero()) {
+			throw new IllegalArgumentException("Budget must be positive: " + budget);
+		}
+		if (minCost < MIN_COST || maxCost > MAX_COST || minCost > maxCost) {
+			throw new IllegalArgumentException("Illegal cost range: " + minCost + " - " + maxCost);
+		}
+		if (samples < 1) {
+			throw new IllegalArgumentException("Illegal samples: " + samples);
+		}
+		this.budget = budget;
+		this.minCost = minCost;
+		this.maxCost = maxCost;
+		this.samples = samples;
+	}
+
+	/**
+	 * Calibrator with costs between {@link CryptoUtils#DEFAULT_COST} - 2 and 16
+	 * and 3 samples
+	 *
+	 * @param budget Maximum time of a hash
+	 */
+	public BCryptCostCalibrator(final Duration budget) {
+		this(budget, CryptoUtils.DEFAULT_COST - 2, 16, 3);
+	}
+
+	/**
+	 * Measures the hash time on this machine and chooses the highest cost within
+	 * the budget
+	 *
+	 * @return {@link Calibration}
+	 */
+	public Calibration calibrate() {
+		val budgetNanos = budget.toNanos();
+		val baseCost = Math.min(BASE_COST, minCost);
+		measure(baseCost);
+		val baseNanos = Math.max(1, measure(baseCost));
+
+		// ##### Estimate from the base cost, then measure and step down if needed
+		var cost = baseCost;
+		while (cost < maxCost && baseNanos * (1L << (cost + 1 - baseCost)) <= budgetNanos) {
+			cost++;
+		}
+		cost = Math.max(cost, minCost);
+
+		var nanos = measure(cost);
+		while (nanos > budgetNanos && cost > minCost) {
+			cost--;
+			nanos = measure(cost);
+		}
+
+		log.info("#calibrate - BCrypt cost {} takes {} ms, budget {} ms", cost, nanos / 1_000_000,
+				budget.toMillis());
+		return new Calibration(cost, nanos, budgetNanos, System.currentTimeMillis());
+	}
+
+	/**
+	 * Returns the cost of a BCrypt hash
+	 *
+	 * @param hash String
+	 * @return The log rounds or -1 if the value is not a BCrypt hash
+	 */
+	public static int costOf(final String hash) {
+		// ##### $2a$12$ followed by 53 characters of salt and hash
+		if (hash == null || hash.length() != 60 || hash.charAt(0) != '$' || hash.charAt(1) != '2'
+				|| hash.charAt(3) != '$' || hash.charAt(6) != '$') {
+			return -1;
+		}
+		val tens = hash.charAt(4) - '0';
+		val units = hash.charAt(5) - '0';
+		if (tens < 0 || tens > 9 || units < 0 || units > 9) {
+			return -1;
+		}
+		return tens * 10 + units;
+	}
+
+	/**
+	 * Evaluates if a hash was created with a lower cost
+	 *
+	 * @param hash String
+	 * @param cost Current cost
+	 * @return True if the hash is valid and its cost is lower, otherwise false
+	 */
+	public static boolean needsRehash(final String hash, final int cost) {
+		val hashCost = costOf(hash);
+		return hashCost >= 0 && hashCost < cost;
+	}
+
+	/**
+	 * Verifies a password on login and rehashes it with the current cost if the
+	 * stored hash is weaker
+	 *
+	 * @param password CharSequence
+	 * @param hash     Stored hash
+	 * @param cost     Current cost
+	 * @return A new hash to store if the password matches and the cost was lower,
+	 *         the same hash if the password matches and the cost is not lower,
+	 *         or null if the password does not match or the stored hash is
+	 *         corrupt
+	 */
+	public static String rehash(final CharSequence password, final String hash, final int cost) {
+		if (password == null || costOf(hash) < 0) {
+			return null;
+		}
+		try {
+			if (!BCrypt.checkpw(password.toString(), hash)) {
+				return null;
+			}
+		} catch (IllegalArgumentException e) {
+			log.warn("#rehash - Invalid BCrypt hash: {}", e.getMessage());
+			return null;
+		}
+		return needsRehash(hash, cost) ? BCrypt.hashpw(password.toString(), BCrypt.gensalt(cost)) : hash;
+	}
+
+	/**
+	 * Median time of the samples in nanoseconds
+	 */
+	private long measure(final int cost) {
+		val salt = BCrypt.gensalt(cost);
+		val times = new long[samples];
+		for (int i = 0; i < samples; i++) {
+			val start = System.nanoTime();
+			BCrypt.hashpw(PASSWORD, salt);
+			times[i] = System.nanoTime() - start;
+		}
+		Arrays.sort(times);
+		return times[samples / 2];
+	}
+
+	/**
+	 * Result of a calibration
+	 */
+	@Value
+	public static class Calibration {
+		private static final String VERSION = "v1";
+		private static final String SEPARATOR = ";";
+
+		int cost;
+		long hashNanos;
+		long budgetNanos;
+		long calibratedAt;
+
+		/**
+		 * @return {@code v1;cost;hashNanos;budgetNanos;calibratedAt}
+		 */
+		public String encode() {
+			return String.join(SEPARATOR, VERSION, String.valueOf(cost), String.valueOf(hashNanos),
+					String.valueOf(budgetNanos), String.valueOf(calibratedAt));
+		}
+
+		/**
+		 * Reads a value created by {@link #encode()}
+		 *
+		 * @param value String
+		 * @return {@link Calibration} or null if the value is not valid
+		 */
+		public static Calibration decode(final String value) {
+			if (value == null) {
+				return null;
+			}
+			val parts = value.split(SEPARATOR);
+			if (parts.length != 5 || !VERSION.equals(parts[0])) {
+				return null;
+			}
+			try {
+				val cost = Integer.parseInt(parts[1]);
+				if (cost < MIN_COST || cost > MAX_COST) {
+					return null;
+				}
+				return new Calibration(cost, Long.parseLong(parts[2]), Long.parseLong(parts[3]),
+						Long.parseLong(parts[4]));
+			} catch (NumberFormatException e) {
+				return null;
+			}
+		}
+
+		/**
+		 * @param budget Duration
+		 * @return True if the calibration was made for the same budget
+		 */
+		public boolean isFor(final Duration budget) {
+			return budget != null && budget.toNanos() == budgetNanos;
+		}
+	}
+
+}
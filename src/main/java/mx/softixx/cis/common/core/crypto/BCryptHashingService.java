@@ -0,0 +1,306 @@
+package mx.softixx.cis.common.core.crypto;
+
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.springframework.security.crypto.bcrypt.BCrypt;
+
+import lombok.Value;
+import lombok.val;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Bounded executor for BCrypt hashing and verification, so the request
+ * threads are not blocked by the cost of the algorithm.
+ * <p>
+ * Tasks are run by a fixed number of threads and wait in a bounded queue. When
+ * the queue is full the {@link RejectionPolicy} decides whether the returned
+ * future fails immediately or the caller runs the task itself, which slows
+ * down the producer. The threads are created by a {@code ThreadFactory}, so a
+ * factory of virtual threads can be given on runtimes that support them.
+ * </p>
+ * <p>
+ * {@link #metrics()} returns the queue depth, active threads, counters and the
+ * time spent waiting in the queue and hashing.
+ * </p>
+ *
+ * @author Maikel Guerra Ferrer - mguerraferrer@gmail.com
+ *
+ */
+@Slf4j(topic = "BCryptHashingService")
+public final class BCryptHashingService implements AutoCloseable {
+
+	/**
+	 * Behavior when the queue is full
+	 */
+	public enum RejectionPolicy {
+		/**
+		 * The future completes exceptionally with
+		 * {@code RejectedExecutionException}
+		 */
+		FAIL,
+
+		/**
+		 * The task is run by the calling thread
+		 */
+		CALLER_RUNS
+	}
+
+	private final ThreadPoolExecutor executor;
+	private final int cost;
+	private final RejectionPolicy rejectionPolicy;
+
+	private final LongAdder completed = new LongAdder();
+	private final LongAdder failed = new LongAdder();
+	private final LongAdder rejected = new LongAdder();
+	private final LongAdder callerRuns = new LongAdder();
+	private final LongAdder waitNanos = new LongAdder();
+	private final LongAdder hashNanos = new LongAdder();
+	private final AtomicLong maxHashNanos = new AtomicLong();
+
+	private BCryptHashingService(final Builder builder) {
+		this.cost = builder.cost;
+		this.rejectionPolicy = builder.rejectionPolicy;
+		this.executor = new ThreadPoolExecutor(builder.threads, builder.threads, 0L, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(builder.queueCapacity), builder.threadFactory,
+				new ThreadPoolExecutor.AbortPolicy());
+	}
+
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * Hashes the password with a new salt of the configured cost
+	 *
+	 * @param password CharSequence
+	 * @return Future with the BCrypt hash
+	 */
+	public CompletableFuture<String> hash(final CharSequence password) {
+		Objects.requireNonNull(password, "password");
+		return submit(() -> BCrypt.hashpw(password.toString(), BCrypt.gensalt(cost)));
+	}
+
+	/**
+	 * Verifies a password against a BCrypt hash
+	 *
+	 * @param password CharSequence
+	 * @param hash     String
+	 * @return Future with true if the password matches, false if it does not
+	 *         match or the hash is not a valid BCrypt hash
+	 */
+	public CompletableFuture<Boolean> verify(final CharSequence password, final String hash) {
+		Objects.requireNonNull(password, "password");
+		if (hash == null || hash.isEmpty()) {
+			return CompletableFuture.completedFuture(false);
+		}
+		return submit(() -> {
+			try {
+				return BCrypt.checkpw(password.toString(), hash);
+			} catch (IllegalArgumentException e) {
+				log.warn("#verify - Invalid BCrypt hash: {}", e.getMessage());
+				return false;
+			}
+		});
+	}
+
+	/**
+	 * @return Cost (log rounds) of the new hashes
+	 */
+	public int getCost() {
+		return cost;
+	}
+
+	/**
+	 * @return Current state of the executor and counters since it was created
+	 */
+	public Metrics metrics() {
+		return new Metrics(executor.getQueue().size(), executor.getActiveCount(), completed.sum(), failed.sum(),
+				rejected.sum(), callerRuns.sum(), waitNanos.sum(), hashNanos.sum(), maxHashNanos.get());
+	}
+
+	/**
+	 * Stops accepting tasks, the queued tasks are still run
+	 */
+	@Override
+	public void close() {
+		executor.shutdown();
+	}
+
+	/**
+	 * Stops accepting tasks and waits for the queued ones
+	 *
+	 * @param timeout long
+	 * @param unit    TimeUnit
+	 * @return True if all the tasks finished, false if the timeout elapsed
+	 * @throws InterruptedException If interrupted while waiting
+	 */
+	public boolean shutdown(final long timeout, final TimeUnit unit) throws InterruptedException {
+		executor.shutdown();
+		return executor.awaitTermination(timeout, unit);
+	}
+
+	private <T> CompletableFuture<T> submit(final Supplier<T> task) {
+		val future = new CompletableFuture<T>();
+		val submitted = System.nanoTime();
+		final Runnable runnable = () -> run(task, future, submitted);
+		try {
+			executor.execute(runnable);
+		} catch (RejectedExecutionException e) {
+			if (rejectionPolicy == RejectionPolicy.CALLER_RUNS && !executor.isShutdown()) {
+				callerRuns.increment();
+				runnable.run();
+			} else {
+				rejected.increment();
+				future.completeExceptionally(e);
+			}
+		}
+		return future;
+	}
+
+	private <T> void run(final Supplier<T> task, final CompletableFuture<T> future, final long submitted) {
+		val start = System.nanoTime();
+		waitNanos.add(start - submitted);
+		try {
+			val result = task.get();
+			record(start);
+			completed.increment();
+			future.complete(result);
+		} catch (RuntimeException | Error e) {
+			record(start);
+			failed.increment();
+			future.completeExceptionally(e);
+		}
+	}
+
+	private void record(final long start) {
+		val elapsed = System.nanoTime() - start;
+		hashNanos.add(elapsed);
+		maxHashNanos.accumulateAndGet(elapsed, Math::max);
+	}
+
+	/**
+	 * Snapshot of the executor state. The averages are 0 when no task has
+	 * finished
+	 */
+	@Value
+	public static class Metrics {
+		int queueDepth;
+		int activeThreads;
+		long completed;
+		long failed;
+		long rejected;
+		long callerRuns;
+		long totalWaitNanos;
+		long totalHashNanos;
+		long maxHashNanos;
+
+		public long getFinished() {
+			return completed + failed;
+		}
+
+		public long getAverageWaitNanos() {
+			return getFinished() == 0 ? 0 : totalWaitNanos / getFinished();
+		}
+
+		public long getAverageHashNanos() {
+			return getFinished() == 0 ? 0 : totalHashNanos / getFinished();
+		}
+	}
+
+	/**
+	 * Configuration of a {@link BCryptHashingService}
+	 */
+	public static final class Builder {
+		private int threads = Runtime.getRuntime().availableProcessors();
+		private int queueCapacity = 1024;
+		private int cost = CryptoUtils.DEFAULT_COST;
+		private RejectionPolicy rejectionPolicy = RejectionPolicy.FAIL;
+		private ThreadFactory threadFactory = new HashingThreadFactory();
+
+		private Builder() {
+		}
+
+		/**
+		 * @param threads Number of hashing threads, by default the number of
+		 *                processors
+		 * @return This builder
+		 */
+		public Builder threads(final int threads) {
+			if (threads < 1) {
+				throw new IllegalArgumentException("Illegal threads: " + threads);
+			}
+			this.threads = threads;
+			return this;
+		}
+
+		/**
+		 * @param queueCapacity Maximum number of waiting tasks, by default 1024
+		 * @return This builder
+		 */
+		public Builder queueCapacity(final int queueCapacity) {
+			if (queueCapacity < 1) {
+				throw new IllegalArgumentException("Illegal queue capacity: " + queueCapacity);
+			}
+			this.queueCapacity = queueCapacity;
+			return this;
+		}
+
+		/**
+		 * @param cost BCrypt log rounds between 4 and 31, by default
+		 *             {@link CryptoUtils#DEFAULT_COST}
+		 * @return This builder
+		 */
+		public Builder cost(final int cost) {
+			if (cost < 4 || cost > 31) {
+				throw new IllegalArgumentException("Bad number of rounds: " + cost);
+			}
+			this.cost = cost;
+			return this;
+		}
+
+		/**
+		 * @param rejectionPolicy By default {@link RejectionPolicy#FAIL}
+		 * @return This builder
+		 */
+		public Builder rejectionPolicy(final RejectionPolicy rejectionPolicy) {
+			this.rejectionPolicy = Objects.requireNonNull(rejectionPolicy, "rejectionPolicy");
+			return this;
+		}
+
+		/**
+		 * @param threadFactory By default daemon platform threads named
+		 *                      {@code bcrypt-hashing-N}
+		 * @return This builder
+		 */
+		public Builder threadFactory(final ThreadFactory threadFactory) {
+			this.threadFactory = Objects.requireNonNull(threadFactory, "threadFactory");
+			return this;
+		}
+
+		public BCryptHashingService build() {
+			return new BCryptHashingService(this);
+		}
+	}
+
+	private static final class HashingThreadFactory implements ThreadFactory {
+		private final AtomicInteger count = new AtomicInteger();
+
+		@Override
+		public Thread newThread(final Runnable runnable) {
+			val thread = new Thread(runnable, "bcrypt-hashing-" + count.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		}
+	}
+
+}
@@ -1,19 +1,93 @@
 package mx.softixx.cis.common.core.crypto;
 
+import java.security.SecureRandom;
+
 import org.springframework.security.crypto.bcrypt.BCrypt;
 import org.springframework.security.crypto.keygen.KeyGenerators;
+import org.springframework.security.crypto.keygen.StringKeyGenerator;
 
 public final class CryptoUtils {
-	
-	private CryptoUtils() {		
+
+	private CryptoUtils() {
 	}
-	
+
+	/**
+	 * BCrypt cost (log rounds) used by {@link #generateSalt()}
+	 */
+	public static final int DEFAULT_COST = 12;
+
+	/**
+	 * Capacity and refill threshold of the pools used by {@link #pooledSalt()}
+	 * and {@link #pooledHash()}
+	 */
+	public static final int DEFAULT_POOL_CAPACITY = 256;
+	public static final int DEFAULT_POOL_REFILL_THRESHOLD = 64;
+
 	public static String generateSalt() {
-		return BCrypt.gensalt(12);
+		return BCrypt.gensalt(DEFAULT_COST);
 	}
-	
+
+	/**
+	 * @param cost BCrypt log rounds, between 4 and 31
+	 */
+	public static String generateSalt(int cost) {
+		return BCrypt.gensalt(cost);
+	}
+
 	public static String generateHash() {
 		return KeyGenerators.string().generateKey();
 	}
-	
-}
\ No newline at end of file
+
+	/**
+	 * Same as {@link #generateSalt()}, taken from a pool filled in background
+	 */
+	public static String pooledSalt() {
+		return DefaultPools.SALTS.take();
+	}
+
+	/**
+	 * Same as {@link #generateHash()}, taken from a pool filled in background
+	 */
+	public static String pooledHash() {
+		return DefaultPools.KEYS.take();
+	}
+
+	/**
+	 * Creates a pool of BCrypt salts
+	 *
+	 * @param cost            BCrypt log rounds, between 4 and 31
+	 * @param capacity        Maximum number of salts
+	 * @param refillThreshold Number of salts below which the pool is refilled
+	 * @return {@link PregeneratedPool}, closed by the caller
+	 */
+	public static PregeneratedPool<String> newSaltPool(int cost, int capacity, int refillThreshold) {
+		// ##### Validates the cost before starting the refill thread
+		BCrypt.gensalt(cost);
+		final SecureRandom random = new SecureRandom();
+		return new PregeneratedPool<>("bcrypt-salt-pool", () -> BCrypt.gensalt(cost, random), capacity,
+				refillThreshold);
+	}
+
+	/**
+	 * Creates a pool of hex-encoded keys as {@link #generateHash()}
+	 *
+	 * @param capacity        Maximum number of keys
+	 * @param refillThreshold Number of keys below which the pool is refilled
+	 * @return {@link PregeneratedPool}, closed by the caller
+	 */
+	public static PregeneratedPool<String> newKeyPool(int capacity, int refillThreshold) {
+		final StringKeyGenerator generator = KeyGenerators.string();
+		return new PregeneratedPool<>("hex-key-pool", generator::generateKey, capacity, refillThreshold);
+	}
+
+	/**
+	 * Pools created on first use
+	 */
+	private static final class DefaultPools {
+		private static final PregeneratedPool<String> SALTS = newSaltPool(DEFAULT_COST, DEFAULT_POOL_CAPACITY,
+				DEFAULT_POOL_REFILL_THRESHOLD);
+		private static final PregeneratedPool<String> KEYS = newKeyPool(DEFAULT_POOL_CAPACITY,
+				DEFAULT_POOL_REFILL_THRESHOLD);
+	}
+
+}
@@ -0,0 +1,216 @@
+package mx.softixx.cis.common.core.crypto;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+import lombok.val;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Bounded pool of values created in advance by a background thread, such as
+ * salts and keys, so the callers do not wait for the entropy source during
+ * bursts.
+ * <p>
+ * The values are kept in a lock-free ring buffer (multi-producer,
+ * multi-consumer) and each value is returned by {@link #take()} only once. A
+ * daemon thread fills the pool up to its capacity and sleeps until the number
+ * of values falls below the refill threshold. If the pool is empty the value
+ * is created by the calling thread, so {@code take()} never waits for the
+ * refill thread.
+ * </p>
+ * <p>
+ * The generator is called from the refill thread and from the callers when the
+ * pool is empty, so it must be thread-safe.
+ * </p>
+ *
+ * @param <T> Type of the values
+ * @author Maikel Guerra Ferrer - mguerraferrer@gmail.com
+ *
+ */
+@Slf4j(topic = "PregeneratedPool")
+public final class PregeneratedPool<T> implements AutoCloseable {
+
+	private static final long IDLE_PARK_NANOS = 1_000_000_000L;
+	private static final long MIN_BACKOFF_NANOS = 10_000_000L;
+
+	private final Supplier<T> generator;
+	private final int capacity;
+	private final int refillThreshold;
+	private final int mask;
+
+	/**
+	 * Ring buffer, every slot has a sequence that tells whether it is ready to be
+	 * written or read
+	 */
+	private final AtomicReferenceArray<T> items;
+	private final AtomicLongArray sequences;
+	private final AtomicLong head = new AtomicLong();
+	private final AtomicLong tail = new AtomicLong();
+
+	private final AtomicBoolean refillRequested = new AtomicBoolean();
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final Thread refiller;
+	private volatile boolean closed;
+
+	/**
+	 * Creates the pool and starts the refill thread
+	 *
+	 * @param name            Name of the refill thread
+	 * @param generator       Thread-safe supplier of new values
+	 * @param capacity        Maximum number of values, rounded up to a power of 2
+	 * @param refillThreshold Number of values below which the pool is refilled
+	 */
+	public PregeneratedPool(final String name, final Supplier<T> generator, final int capacity,
+			final int refillThreshold) {
+		if (capacity < 1 || capacity > (1 << 30)) {
+			throw new IllegalArgumentException("Illegal capacity: " + capacity);
+		}
+		if (refillThreshold < 1 || refillThreshold > capacity) {
+			throw new IllegalArgumentException("Illegal refill threshold: " + refillThreshold);
+		}
+		this.generator = Objects.requireNonNull(generator, "generator");
+		this.capacity = capacity < 2 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+		this.refillThreshold = refillThreshold;
+		this.mask = this.capacity - 1;
+		this.items = new AtomicReferenceArray<>(this.capacity);
+		this.sequences = new AtomicLongArray(this.capacity);
+		for (int i = 0; i < this.capacity; i++) {
+			sequences.set(i, i);
+		}
+
+		this.refiller = new Thread(this::refill, name);
+		refiller.setDaemon(true);
+		refiller.start();
+	}
+
+	/**
+	 * Returns a value that no other caller receives
+	 *
+	 * @return A pooled value, or a new one if the pool is empty
+	 */
+	public T take() {
+		val value = poll();
+		if (size() < refillThreshold && refillRequested.compareAndSet(false, true)) {
+			LockSupport.unpark(refiller);
+		}
+		if (value != null) {
+			hits.increment();
+			return value;
+		}
+		misses.increment();
+		return generator.get();
+	}
+
+	/**
+	 * @return Approximate number of values in the pool
+	 */
+	public int size() {
+		val size = tail.get() - head.get();
+		return (int) Math.max(0, Math.min(size, capacity));
+	}
+
+	public int capacity() {
+		return capacity;
+	}
+
+	public int refillThreshold() {
+		return refillThreshold;
+	}
+
+	/**
+	 * @return Values returned from the pool
+	 */
+	public long hits() {
+		return hits.sum();
+	}
+
+	/**
+	 * @return Values created by the caller because the pool was empty
+	 */
+	public long misses() {
+		return misses.sum();
+	}
+
+	/**
+	 * Stops the refill thread, the remaining values can still be taken
+	 */
+	@Override
+	public void close() {
+		closed = true;
+		LockSupport.unpark(refiller);
+	}
+
+	private void refill() {
+		var backoffNanos = 0L;
+		while (!closed) {
+			try {
+				while (!closed && size() < capacity && offer(generator.get())) {
+					// ##### Fill up to the capacity
+				}
+				backoffNanos = 0L;
+			} catch (RuntimeException e) {
+				// ##### Waits before retrying so a failing generator does not spin, doubling up to the idle time
+				backoffNanos = backoffNanos == 0L ? MIN_BACKOFF_NANOS : Math.min(backoffNanos * 2, IDLE_PARK_NANOS);
+				log.error("#refill - Error generating values, retrying in {} ms: {}", backoffNanos / 1_000_000,
+						e.getMessage());
+			}
+			refillRequested.set(false);
+			if (closed) {
+				break;
+			}
+			if (backoffNanos > 0L) {
+				LockSupport.parkNanos(this, backoffNanos);
+			} else if (size() >= refillThreshold) {
+				LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+			}
+		}
+	}
+
+	private boolean offer(final T value) {
+		var position = tail.get();
+		while (true) {
+			val index = (int) position & mask;
+			val difference = sequences.get(index) - position;
+			if (difference == 0) {
+				if (tail.compareAndSet(position, position + 1)) {
+					items.set(index, value);
+					sequences.set(index, position + 1);
+					return true;
+				}
+				position = tail.get();
+			} else if (difference < 0) {
+				return false;
+			} else {
+				position = tail.get();
+			}
+		}
+	}
+
+	private T poll() {
+		var position = head.get();
+		while (true) {
+			val index = (int) position & mask;
+			val difference = sequences.get(index) - (position + 1);
+			if (difference == 0) {
+				if (head.compareAndSet(position, position + 1)) {
+					val value = items.getAndSet(index, null);
+					sequences.set(index, position + capacity);
+					return value;
+				}
+				position = head.get();
+			} else if (difference < 0) {
+				return null;
+			} else {
+				position = head.get();
+			}
+		}
+	}
+
+}
@@ -35,7 +35,7 @@ public final class BigDecimalUtils {
 		try {
 
 			if (bd != null) {
-				var str = DecimalUtils.FORMATTER_WITH_DECIMAL.format(bd);
+				var str = NumberFormatter.WITH_DECIMAL.format(bd);
 				
 				if (str.startsWith(".")) {
 					str = "0".concat(str);
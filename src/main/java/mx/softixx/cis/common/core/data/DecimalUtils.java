@@ -15,7 +15,20 @@ public final class DecimalUtils {
 		throw new IllegalStateException("This is a utility class and cannot be instantiated");
 	}
 	
+	/**
+	 * {@code DecimalFormat} is not thread-safe, use {@link NumberFormatter#WITH_DECIMAL}
+	 * 
+	 * @deprecated Replaced by {@link NumberFormatter#WITH_DECIMAL}
+	 */
+	@Deprecated
 	public static final DecimalFormat FORMATTER_WITH_DECIMAL = new DecimalFormat("###,###,##0.00");
+	
+	/**
+	 * {@code DecimalFormat} is not thread-safe, use {@link NumberFormatter#WITHOUT_DECIMAL}
+	 * 
+	 * @deprecated Replaced by {@link NumberFormatter#WITHOUT_DECIMAL}
+	 */
+	@Deprecated
 	public static final DecimalFormat FORMATTER_WITHOUT_DECIMAL = new DecimalFormat("###,###,###.##");
 	public static final RoundingMode HALF_UP = RoundingMode.HALF_UP;
 	
@@ -1,7 +1,7 @@
 package mx.softixx.cis.common.core.data;
 
 import java.math.BigDecimal;
-import java.text.DecimalFormat;
+import java.util.OptionalDouble;
 import java.util.regex.Pattern;
 
 import lombok.val;
@@ -16,25 +16,132 @@ public class DoubleUtils {
 	}
 
 	public static Double parse(String str) {
-		try {
-
-			if (StringUtils.hasValue(str)) {
-				val sanitizedValue = DecimalUtils.sanitizeStr(str);
-				return Double.parseDouble(sanitizedValue);
+		if (StringUtils.hasValue(str)) {
+			val sanitizedValue = DecimalUtils.sanitizeStr(str);
+			val value = tryParse(sanitizedValue);
+			if (value.isPresent()) {
+				return value.getAsDouble();
 			}
-
-		} catch (NumberFormatException e) {
-			log.error("#parse error - {}", e.getMessage());
+			log.debug("#parse - For input string: \"{}\"", str);
 		}
 		return null;
 	}
 	
+	/**
+	 * Parses a double with the same rules as {@code Double.parseDouble(String)}.
+	 * Decimal values are validated by scanning the characters first, so invalid
+	 * values are rejected without throwing a {@code NumberFormatException}
+	 * 
+	 * @param value CharSequence
+	 * @return {@code OptionalDouble} with the value or empty if the value is null
+	 *         or not a number
+	 */
+	public static OptionalDouble tryParse(final CharSequence value) {
+		if (value == null) {
+			return OptionalDouble.empty();
+		}
+		
+		// ##### Double.parseDouble ignores leading and trailing whitespaces
+		var start = 0;
+		var end = value.length();
+		while (start < end && value.charAt(start) <= ' ') {
+			start++;
+		}
+		while (end > start && value.charAt(end - 1) <= ' ') {
+			end--;
+		}
+		if (start == end) {
+			return OptionalDouble.empty();
+		}
+		
+		var i = start;
+		if (value.charAt(i) == '+' || value.charAt(i) == '-') {
+			i++;
+		}
+		if (i < end && isSpecial(value, i, end)) {
+			return parseSpecial(value);
+		}
+		
+		var digits = 0;
+		while (i < end && isDigit(value.charAt(i))) {
+			i++;
+			digits++;
+		}
+		if (i < end && value.charAt(i) == '.') {
+			i++;
+			while (i < end && isDigit(value.charAt(i))) {
+				i++;
+				digits++;
+			}
+		}
+		if (digits == 0) {
+			return OptionalDouble.empty();
+		}
+		
+		if (i < end && (value.charAt(i) == 'e' || value.charAt(i) == 'E')) {
+			i++;
+			if (i < end && (value.charAt(i) == '+' || value.charAt(i) == '-')) {
+				i++;
+			}
+			val exponentStart = i;
+			while (i < end && isDigit(value.charAt(i))) {
+				i++;
+			}
+			if (i == exponentStart) {
+				return OptionalDouble.empty();
+			}
+		}
+		
+		if (i < end && "fFdD".indexOf(value.charAt(i)) >= 0) {
+			i++;
+		}
+		if (i != end) {
+			return OptionalDouble.empty();
+		}
+		return OptionalDouble.of(Double.parseDouble(value.toString()));
+	}
+	
+	/**
+	 * Parses a double returning a default value instead of throwing when the
+	 * value is invalid
+	 * 
+	 * @param value        CharSequence
+	 * @param defaultValue Value returned when the value cannot be parsed
+	 * @return The parsed value or the default value
+	 */
+	public static double parseOrDefault(final CharSequence value, final double defaultValue) {
+		return tryParse(value).orElse(defaultValue);
+	}
+	
+	private static boolean isDigit(final char c) {
+		return c >= '0' && c <= '9';
+	}
+	
+	/**
+	 * NaN, Infinity and hexadecimal values
+	 */
+	private static boolean isSpecial(final CharSequence value, final int i, final int end) {
+		val c = value.charAt(i);
+		if (c == 'N' || c == 'I') {
+			return true;
+		}
+		return c == '0' && i + 1 < end && (value.charAt(i + 1) == 'x' || value.charAt(i + 1) == 'X');
+	}
+	
+	private static OptionalDouble parseSpecial(final CharSequence value) {
+		try {
+			return OptionalDouble.of(Double.parseDouble(value.toString()));
+		} catch (NumberFormatException e) {
+			return OptionalDouble.empty();
+		}
+	}
+	
 	public static Double parseWithDecimal(String str) {
 		try {
 			
 			val doubleValue = parse(str);
 			if (ValidatorUtils.isNotEmpty(doubleValue)) {
-				val dValue = DecimalUtils.FORMATTER_WITH_DECIMAL.format(doubleValue);
+				val dValue = NumberFormatter.WITH_DECIMAL.format(doubleValue);
 				val sanitizedValue = DecimalUtils.sanitizeStr(dValue);
 				return Double.parseDouble(sanitizedValue);
 			}
@@ -50,7 +157,7 @@ public class DoubleUtils {
 
 			val doubleValue = parse(str);
 			if (ValidatorUtils.isNotEmpty(doubleValue)) {
-				val dValue = DecimalUtils.FORMATTER_WITHOUT_DECIMAL.format(doubleValue);
+				val dValue = NumberFormatter.WITHOUT_DECIMAL.format(doubleValue);
 				val sanitizedValue = DecimalUtils.sanitizeStr(dValue);
 				return Double.parseDouble(sanitizedValue);
 			}
@@ -79,7 +186,7 @@ public class DoubleUtils {
 		try {
 
 			if (d != null) {
-				var str = DecimalUtils.FORMATTER_WITH_DECIMAL.format(d);
+				var str = NumberFormatter.WITH_DECIMAL.format(d);
 				if (str.startsWith(".")) {
 					str = "0".concat(str);
 				}
@@ -97,7 +204,7 @@ public class DoubleUtils {
 			
 			if (bd != null) {
 				val d = bd.doubleValue();
-				val dValue = DecimalUtils.FORMATTER_WITH_DECIMAL.format(d);
+				val dValue = NumberFormatter.WITH_DECIMAL.format(d);
 				val sanitizedValue = DecimalUtils.sanitizeStr(dValue);
 				return Double.parseDouble(sanitizedValue);
 			}
@@ -117,8 +224,7 @@ public class DoubleUtils {
 
 				var dValue = Double.valueOf(doubleAsString.substring(0, indexOfDecimal).replace(",", ""));
 
-				val df = new DecimalFormat("#,###");
-				return df.format(dValue);
+				return NumberFormatter.INTEGER.format(dValue);
 			}
 
 		} catch (Exception e) {
@@ -1,7 +1,9 @@
 package mx.softixx.cis.common.core.data;
 
 import java.math.BigInteger;
+import java.util.OptionalInt;
 
+import lombok.val;
 import lombok.extern.slf4j.Slf4j;
 import mx.softixx.cis.common.core.validator.ValidatorUtils;
 
@@ -26,15 +28,77 @@ public final class IntegerUtils {
 	}
 	
 	public static Integer valueOf(String integerStr) {
-		try {
-			if (ValidatorUtils.isNotEmpty(integerStr)) {
-				return Integer.valueOf(integerStr);
+		if (ValidatorUtils.isNotEmpty(integerStr)) {
+			val value = tryParse(integerStr);
+			if (value.isPresent()) {
+				return value.getAsInt();
 			}
-		} catch (NumberFormatException e) {
-			log.error("#valueOf(String) error {}", e.getMessage());
+			log.debug("#valueOf(String) - For input string: \"{}\"", integerStr);
 		}
 		return null;
 	}
+	
+	/**
+	 * Parses a signed decimal integer with the same rules as
+	 * {@code Integer.parseInt(String)}, but scanning the characters first instead
+	 * of throwing a {@code NumberFormatException} for invalid values
+	 * 
+	 * @param value CharSequence
+	 * @return {@code OptionalInt} with the value or empty if the value is null,
+	 *         empty, not a number or out of the int range
+	 */
+	public static OptionalInt tryParse(final CharSequence value) {
+		if (value == null) {
+			return OptionalInt.empty();
+		}
+		
+		val length = value.length();
+		if (length == 0) {
+			return OptionalInt.empty();
+		}
+		
+		var i = 0;
+		var negative = false;
+		val first = value.charAt(0);
+		if (first < '0') {
+			if (first == '-') {
+				negative = true;
+			} else if (first != '+') {
+				return OptionalInt.empty();
+			}
+			if (length == 1) {
+				return OptionalInt.empty();
+			}
+			i++;
+		}
+		
+		// ##### Accumulated as long, the limit is checked on every digit
+		val limit = negative ? -(long) Integer.MIN_VALUE : Integer.MAX_VALUE;
+		var result = 0L;
+		while (i < length) {
+			val digit = Character.digit(value.charAt(i++), 10);
+			if (digit < 0) {
+				return OptionalInt.empty();
+			}
+			result = result * 10 + digit;
+			if (result > limit) {
+				return OptionalInt.empty();
+			}
+		}
+		return OptionalInt.of((int) (negative ? -result : result));
+	}
+	
+	/**
+	 * Parses a signed decimal integer returning a default value instead of
+	 * throwing when the value is invalid
+	 * 
+	 * @param value        CharSequence
+	 * @param defaultValue Value returned when the value cannot be parsed
+	 * @return The parsed value or the default value
+	 */
+	public static int parseOrDefault(final CharSequence value, final int defaultValue) {
+		return tryParse(value).orElse(defaultValue);
+	}
 
 	public static Integer valueOf(Double dValue) {
 		if (dValue != null) {
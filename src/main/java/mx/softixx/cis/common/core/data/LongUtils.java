@@ -2,7 +2,9 @@ package mx.softixx.cis.common.core.data;
 
 import java.io.Serializable;
 import java.math.BigInteger;
+import java.util.OptionalLong;
 
+import lombok.val;
 import lombok.extern.slf4j.Slf4j;
 import mx.softixx.cis.common.core.validator.ValidatorUtils;
 
@@ -15,18 +17,80 @@ public class LongUtils implements Serializable {
 	}
 	
 	public static Long value(final String str) {
-		try {
-
-			if (ValidatorUtils.isNotEmpty(str)) {
-				return Long.valueOf(str);
+		if (ValidatorUtils.isNotEmpty(str)) {
+			val value = tryParse(str);
+			if (value.isPresent()) {
+				return value.getAsLong();
 			}
-
-		} catch (Exception e) {
-			log.error("LongUtils#value(String) error {}", e.getMessage());
+			log.debug("LongUtils#value(String) - For input string: \"{}\"", str);
 		}
 		return null;
 	}
 	
+	/**
+	 * Parses a signed decimal long with the same rules as
+	 * {@code Long.parseLong(String)}, but scanning the characters first instead of
+	 * throwing a {@code NumberFormatException} for invalid values
+	 * 
+	 * @param value CharSequence
+	 * @return {@code OptionalLong} with the value or empty if the value is null,
+	 *         empty, not a number or out of the long range
+	 */
+	public static OptionalLong tryParse(final CharSequence value) {
+		if (value == null) {
+			return OptionalLong.empty();
+		}
+		
+		val length = value.length();
+		if (length == 0) {
+			return OptionalLong.empty();
+		}
+		
+		var i = 0;
+		var negative = false;
+		val first = value.charAt(0);
+		if (first < '0') {
+			if (first == '-') {
+				negative = true;
+			} else if (first != '+') {
+				return OptionalLong.empty();
+			}
+			if (length == 1) {
+				return OptionalLong.empty();
+			}
+			i++;
+		}
+		
+		// ##### Accumulated negatively, as Long.parseLong, to reach Long.MIN_VALUE
+		val limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+		val multmin = limit / 10;
+		var result = 0L;
+		while (i < length) {
+			val digit = Character.digit(value.charAt(i++), 10);
+			if (digit < 0 || result < multmin) {
+				return OptionalLong.empty();
+			}
+			result *= 10;
+			if (result < limit + digit) {
+				return OptionalLong.empty();
+			}
+			result -= digit;
+		}
+		return OptionalLong.of(negative ? result : -result);
+	}
+	
+	/**
+	 * Parses a signed decimal long returning a default value instead of throwing
+	 * when the value is invalid
+	 * 
+	 * @param value        CharSequence
+	 * @param defaultValue Value returned when the value cannot be parsed
+	 * @return The parsed value or the default value
+	 */
+	public static long parseOrDefault(final CharSequence value, final long defaultValue) {
+		return tryParse(value).orElse(defaultValue);
+	}
+	
 	public static Long value(final Integer intVal) {
 		try {
 
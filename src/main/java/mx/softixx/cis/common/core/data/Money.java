@@ -0,0 +1,534 @@
+package mx.softixx.cis.common.core.data;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+
+import lombok.val;
+
+/**
+ * Immutable fixed-point amount with {@value #SCALE} decimal places.
+ * <p>
+ * The amount is stored as a {@code long} number of units of 10^-{@value #SCALE}
+ * (cents), so additions, multiplications and percents are computed without
+ * creating {@code BigDecimal} objects. Every result is rounded with
+ * {@link DecimalUtils#HALF_UP}, the same rounding of
+ * {@link BigDecimalUtils#round(BigDecimal)}. When a result does not fit in a
+ * {@code long}, the operation is computed with {@code BigDecimal} and the
+ * amount keeps that representation.
+ * </p>
+ * <p>
+ * The static methods {@link #sum(long[])} and {@link #round(double[], long[])}
+ * work directly on arrays of units, so a whole batch of lines can be processed
+ * without creating an object per line.
+ * </p>
+ *
+ * @author Maikel Guerra Ferrer - mguerraferrer@gmail.com
+ *
+ */
+public final class Money implements Comparable<Money> {
+
+	/**
+	 * Number of decimal places
+	 */
+	public static final int SCALE = 2;
+
+	public static final Money ZERO = new Money(0, null);
+
+	private static final long UNITS_PER_ONE = 100;
+	private static final double HALF = 0.5;
+	private static final double FAST_PATH_LIMIT = 1e15;
+	private static final int MAX_FACTOR_SCALE = 18;
+	private static final int MAX_FAST_DIGITS = 16;
+	private static final long[] POW10 = new long[MAX_FACTOR_SCALE + 1];
+
+	static {
+		POW10[0] = 1;
+		for (int i = 1; i < POW10.length; i++) {
+			POW10[i] = POW10[i - 1] * 10;
+		}
+	}
+
+	private final long units;
+
+	/**
+	 * Only set when the amount does not fit in {@code units}
+	 */
+	private final BigDecimal big;
+
+	private Money(final long units, final BigDecimal big) {
+		this.units = units;
+		this.big = big;
+	}
+
+	/**
+	 * Creates an amount from a number of units of 10^-{@value #SCALE}
+	 *
+	 * @param units long, i.e. 1050 is 10.50
+	 * @return {@link Money}
+	 */
+	public static Money ofUnits(final long units) {
+		return units == 0 ? ZERO : new Money(units, null);
+	}
+
+	/**
+	 * Creates an amount without decimal places
+	 *
+	 * @param amount long
+	 * @return {@link Money}
+	 */
+	public static Money of(final long amount) {
+		val hi = Math.multiplyHigh(amount, UNITS_PER_ONE);
+		val lo = amount * UNITS_PER_ONE;
+		if (hi != (lo >> 63)) {
+			return new Money(0, BigDecimal.valueOf(amount).setScale(SCALE));
+		}
+		return ofUnits(lo);
+	}
+
+	/**
+	 * Creates an amount from a double with the same result of
+	 * {@link BigDecimalUtils#round(Double)}
+	 *
+	 * @param value double
+	 * @return {@link Money}
+	 * @throws NumberFormatException If the value is NaN or infinite
+	 */
+	public static Money valueOf(final double value) {
+		if (Double.isNaN(value) || Double.isInfinite(value)) {
+			throw new NumberFormatException("Infinite or NaN");
+		}
+		val units = toUnits(value);
+		if (units != Long.MIN_VALUE) {
+			return ofUnits(units);
+		}
+		return valueOf(BigDecimal.valueOf(value));
+	}
+
+	/**
+	 * Creates an amount from a BigDecimal rounded with
+	 * {@link DecimalUtils#HALF_UP}
+	 *
+	 * @param value BigDecimal
+	 * @return {@link Money} or null if the value is null
+	 */
+	public static Money valueOf(final BigDecimal value) {
+		if (value == null) {
+			return null;
+		}
+
+		val rounded = value.setScale(SCALE, DecimalUtils.HALF_UP);
+		val unscaled = rounded.unscaledValue();
+		if (unscaled.bitLength() < Long.SIZE) {
+			return ofUnits(unscaled.longValue());
+		}
+		return new Money(0, rounded);
+	}
+
+	/**
+	 * Parses an amount with the same rules of {@link BigDecimalUtils#parse(String)}.
+	 * Plain decimal values are scanned directly, other formats (i.e. exponents)
+	 * are parsed with {@code BigDecimal}
+	 *
+	 * @param str String
+	 * @return {@link Money} or null if the value is empty or not a number
+	 */
+	public static Money parse(final String str) {
+		if (!StringUtils.hasValue(str)) {
+			return null;
+		}
+
+		val value = DecimalUtils.sanitizeStr(str);
+		val length = value.length();
+		var i = 0;
+		val negative = length > 0 && value.charAt(0) == '-';
+		if (length > 0 && (value.charAt(0) == '-' || value.charAt(0) == '+')) {
+			i++;
+		}
+
+		var integer = 0L;
+		var integerDigits = 0;
+		while (i < length && isDigit(value.charAt(i))) {
+			integer = integer * 10 + (value.charAt(i++) - '0');
+			integerDigits++;
+		}
+
+		var fraction = 0L;
+		var fractionDigits = 0;
+		var roundUp = false;
+		if (i < length && value.charAt(i) == '.') {
+			i++;
+			while (i < length && isDigit(value.charAt(i))) {
+				val digit = value.charAt(i++) - '0';
+				if (fractionDigits < SCALE) {
+					fraction = fraction * 10 + digit;
+				} else if (fractionDigits == SCALE) {
+					// ##### HALF_UP only depends on the first discarded digit
+					roundUp = digit >= 5;
+				}
+				fractionDigits++;
+			}
+		}
+
+		if (i != length || integerDigits > MAX_FAST_DIGITS || integerDigits + fractionDigits == 0) {
+			return parseBig(value);
+		}
+
+		for (int d = Math.min(fractionDigits, SCALE); d < SCALE; d++) {
+			fraction *= 10;
+		}
+		var units = integer * UNITS_PER_ONE + fraction + (roundUp ? 1 : 0);
+		return ofUnits(negative ? -units : units);
+	}
+
+	private static Money parseBig(final String value) {
+		try {
+			return valueOf(new BigDecimal(value));
+		} catch (NumberFormatException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Adds two amounts
+	 *
+	 * @param other Money
+	 * @return {@link Money} this + other
+	 */
+	public Money add(final Money other) {
+		if (big == null && other.big == null) {
+			val result = units + other.units;
+			// ##### Overflow only if both operands have a sign different from the result
+			if (((units ^ result) & (other.units ^ result)) >= 0) {
+				return ofUnits(result);
+			}
+		}
+		return valueOf(toBigDecimal().add(other.toBigDecimal()));
+	}
+
+	/**
+	 * Subtracts two amounts
+	 *
+	 * @param other Money
+	 * @return {@link Money} this - other
+	 */
+	public Money subtract(final Money other) {
+		if (big == null && other.big == null) {
+			val result = units - other.units;
+			if (((units ^ other.units) & (units ^ result)) >= 0) {
+				return ofUnits(result);
+			}
+		}
+		return valueOf(toBigDecimal().subtract(other.toBigDecimal()));
+	}
+
+	/**
+	 * @return {@link Money} -this
+	 */
+	public Money negate() {
+		if (big == null && units != Long.MIN_VALUE) {
+			return ofUnits(-units);
+		}
+		return valueOf(toBigDecimal().negate());
+	}
+
+	/**
+	 * Multiplies the amount by a quantity
+	 *
+	 * @param quantity long
+	 * @return {@link Money} this * quantity
+	 */
+	public Money multiply(final long quantity) {
+		return multiply(quantity, 0);
+	}
+
+	/**
+	 * Multiplies the amount by a decimal factor expressed as an unscaled value
+	 * and a scale, i.e. {@code multiply(16, 2)} multiplies by 0.16. The result is
+	 * rounded with {@link DecimalUtils#HALF_UP}
+	 *
+	 * @param unscaledFactor long
+	 * @param factorScale    Number of decimal places of the factor
+	 * @return {@link Money} this * factor
+	 */
+	public Money multiply(final long unscaledFactor, final int factorScale) {
+		if (factorScale < 0) {
+			throw new IllegalArgumentException("Invalid scale: " + factorScale);
+		}
+
+		if (big == null && factorScale <= MAX_FACTOR_SCALE) {
+			val hi = Math.multiplyHigh(units, unscaledFactor);
+			val lo = units * unscaledFactor;
+			if (hi == (lo >> 63)) {
+				return ofUnits(divideHalfUp(lo, POW10[factorScale]));
+			}
+		}
+		return valueOf(toBigDecimal().multiply(BigDecimal.valueOf(unscaledFactor, factorScale)));
+	}
+
+	/**
+	 * Multiplies the amount by a factor. The result is rounded with
+	 * {@link DecimalUtils#HALF_UP}
+	 *
+	 * @param factor BigDecimal
+	 * @return {@link Money} this * factor
+	 */
+	public Money multiply(final BigDecimal factor) {
+		Objects.requireNonNull(factor, "factor");
+
+		if (big == null && factor.scale() >= 0 && factor.scale() <= MAX_FACTOR_SCALE
+				&& factor.precision() <= MAX_FACTOR_SCALE) {
+			return multiply(factor.unscaledValue().longValue(), factor.scale());
+		}
+		return valueOf(toBigDecimal().multiply(factor));
+	}
+
+	/**
+	 * Calculates a percent of the amount expressed as an unscaled value and a
+	 * scale, i.e. {@code percent(165, 1)} is the 16.5%. The result is rounded with
+	 * {@link DecimalUtils#HALF_UP}
+	 *
+	 * @param unscaledPercent long
+	 * @param percentScale    Number of decimal places of the percent
+	 * @return {@link Money} this * percent / 100
+	 */
+	public Money percent(final long unscaledPercent, final int percentScale) {
+		return multiply(unscaledPercent, percentScale + 2);
+	}
+
+	/**
+	 * Calculates a percent of the amount. The result is rounded with
+	 * {@link DecimalUtils#HALF_UP}
+	 *
+	 * @param percent BigDecimal, i.e. 16 is the 16%
+	 * @return {@link Money} this * percent / 100
+	 */
+	public Money percent(final BigDecimal percent) {
+		Objects.requireNonNull(percent, "percent");
+		return multiply(percent.movePointLeft(2));
+	}
+
+	/**
+	 * Evaluates if the amount is stored as a {@code long}
+	 *
+	 * @return True if {@link #units()} can be used, otherwise false
+	 */
+	public boolean isCompact() {
+		return big == null;
+	}
+
+	/**
+	 * Returns the amount as a number of units of 10^-{@value #SCALE}
+	 *
+	 * @return long
+	 * @throws ArithmeticException If the amount does not fit in a {@code long}
+	 */
+	public long units() {
+		if (big != null) {
+			throw new ArithmeticException("Money out of long range");
+		}
+		return units;
+	}
+
+	public int signum() {
+		return big == null ? Long.signum(units) : big.signum();
+	}
+
+	/**
+	 * @return {@code BigDecimal} with scale {@value #SCALE}
+	 */
+	public BigDecimal toBigDecimal() {
+		return big == null ? BigDecimal.valueOf(units, SCALE) : big;
+	}
+
+	public double doubleValue() {
+		return big == null ? (double) units / UNITS_PER_ONE : big.doubleValue();
+	}
+
+	/**
+	 * Formats the amount with {@link NumberFormatter#WITH_DECIMAL}
+	 *
+	 * @return The formatted amount, i.e. 1,234.50
+	 */
+	public String format() {
+		return format(new StringBuilder(24)).toString();
+	}
+
+	/**
+	 * Appends the amount formatted with {@link NumberFormatter#WITH_DECIMAL} to
+	 * the given {@code StringBuilder}
+	 *
+	 * @param sb StringBuilder
+	 * @return The same {@code StringBuilder}
+	 */
+	public StringBuilder format(final StringBuilder sb) {
+		return big == null ? NumberFormatter.WITH_DECIMAL.formatUnscaled(units, SCALE, sb)
+				: NumberFormatter.WITH_DECIMAL.format(big, sb);
+	}
+
+	/**
+	 * Sums an array of units
+	 *
+	 * @param units long[] units of 10^-{@value #SCALE}
+	 * @return {@link Money} with the sum
+	 */
+	public static Money sum(final long[] units) {
+		return sum(units, 0, units.length);
+	}
+
+	/**
+	 * Sums a range of an array of units
+	 *
+	 * @param units long[] units of 10^-{@value #SCALE}
+	 * @param from  First index (inclusive)
+	 * @param to    Last index (exclusive)
+	 * @return {@link Money} with the sum
+	 */
+	public static Money sum(final long[] units, final int from, final int to) {
+		Objects.checkFromToIndex(from, to, units.length);
+
+		var sum = 0L;
+		for (int i = from; i < to; i++) {
+			val result = sum + units[i];
+			if (((sum ^ result) & (units[i] ^ result)) < 0) {
+				return sumBig(sum, units, i, to);
+			}
+			sum = result;
+		}
+		return ofUnits(sum);
+	}
+
+	private static Money sumBig(final long partial, final long[] units, final int from, final int to) {
+		var sum = BigDecimal.valueOf(partial, SCALE);
+		for (int i = from; i < to; i++) {
+			sum = sum.add(BigDecimal.valueOf(units[i], SCALE));
+		}
+		return valueOf(sum);
+	}
+
+	/**
+	 * Rounds an array of doubles to units of 10^-{@value #SCALE} with the same
+	 * result of {@link BigDecimalUtils#round(Double)}
+	 *
+	 * @param values double[]
+	 * @return long[] with the units of each value
+	 * @throws ArithmeticException If a value is NaN, infinite or does not fit in a
+	 *                             {@code long} of units
+	 */
+	public static long[] round(final double[] values) {
+		val units = new long[values.length];
+		round(values, units);
+		return units;
+	}
+
+	/**
+	 * Rounds an array of doubles to units of 10^-{@value #SCALE} with the same
+	 * result of {@link BigDecimalUtils#round(Double)}
+	 *
+	 * @param values double[]
+	 * @param units  long[] where the units of each value are stored, at least as
+	 *               long as values
+	 * @throws ArithmeticException If a value is NaN, infinite or does not fit in a
+	 *                             {@code long} of units
+	 */
+	public static void round(final double[] values, final long[] units) {
+		if (units.length < values.length) {
+			throw new IllegalArgumentException("units is shorter than values");
+		}
+
+		for (int i = 0; i < values.length; i++) {
+			val value = values[i];
+			if (Double.isNaN(value) || Double.isInfinite(value)) {
+				throw new ArithmeticException("Infinite or NaN at index " + i);
+			}
+
+			var result = toUnits(value);
+			if (result == Long.MIN_VALUE) {
+				result = valueOf(BigDecimal.valueOf(value)).units();
+			}
+			units[i] = result;
+		}
+	}
+
+	/**
+	 * Rounds a finite double to units with the result of
+	 * {@code BigDecimal.valueOf(value).setScale(SCALE, HALF_UP)}
+	 *
+	 * @return The units or {@code Long.MIN_VALUE} if the value must be rounded
+	 *         with {@code BigDecimal}
+	 */
+	private static long toUnits(final double value) {
+		val abs = Math.abs(value);
+		val scaled = abs * UNITS_PER_ONE;
+		if (scaled >= FAST_PATH_LIMIT) {
+			return Long.MIN_VALUE;
+		}
+
+		var units = (long) scaled;
+		var remainder = Math.fma(abs, UNITS_PER_ONE, -units);
+		if (remainder < 0) {
+			units--;
+			remainder = Math.fma(abs, UNITS_PER_ONE, -units);
+		}
+
+		// ##### BigDecimal.valueOf uses the shortest representation of the double,
+		// which may differ from the binary value by half an ulp. Values close to
+		// the tie are left to BigDecimal
+		if (Math.abs(remainder - HALF) <= Math.ulp(scaled) + Math.ulp(HALF)) {
+			return Long.MIN_VALUE;
+		}
+		if (remainder > HALF) {
+			units++;
+		}
+		return value < 0 ? -units : units;
+	}
+
+	/**
+	 * Divides rounding with {@link DecimalUtils#HALF_UP}
+	 */
+	private static long divideHalfUp(final long dividend, final long divisor) {
+		val quotient = dividend / divisor;
+		val remainder = Math.abs(dividend % divisor);
+		if (remainder >= divisor - remainder) {
+			return dividend < 0 ? quotient - 1 : quotient + 1;
+		}
+		return quotient;
+	}
+
+	private static boolean isDigit(final char c) {
+		return c >= '0' && c <= '9';
+	}
+
+	@Override
+	public int compareTo(final Money other) {
+		if (big == null && other.big == null) {
+			return Long.compare(units, other.units);
+		}
+		return toBigDecimal().compareTo(other.toBigDecimal());
+	}
+
+	@Override
+	public boolean equals(final Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof Money)) {
+			return false;
+		}
+		val other = (Money) obj;
+		return units == other.units && Objects.equals(big, other.big);
+	}
+
+	@Override
+	public int hashCode() {
+		return big == null ? Long.hashCode(units) : big.hashCode();
+	}
+
+	/**
+	 * @return The plain amount with {@value #SCALE} decimal places, i.e. 1234.50
+	 */
+	@Override
+	public String toString() {
+		return toBigDecimal().toPlainString();
+	}
+
+}
@@ -0,0 +1,358 @@
+package mx.softixx.cis.common.core.data;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.text.DecimalFormat;
+import java.util.Objects;
+
+import lombok.val;
+
+/**
+ * Thread-safe replacement of {@code DecimalFormat#format} for the simple
+ * decimal patterns used by this library ({@code "###,###,##0.00"} family).
+ * <p>
+ * The pattern is compiled once with {@code DecimalFormat} to read the integer
+ * and fraction digits, the grouping size, the negative prefix and the symbols
+ * of the default locale. After that, instances are immutable and the digits are
+ * written directly into a {@code StringBuilder}, so the output is the same as
+ * the one of a {@code DecimalFormat} created with the same pattern (HALF_EVEN
+ * rounding included).
+ * </p>
+ * <p>
+ * Doubles whose scaled value is below 10^15 are rounded with {@code long}
+ * arithmetic. Bigger values and exact ties are rounded with {@code BigDecimal},
+ * using the shortest decimal representation of the double as
+ * {@code DecimalFormat} does.
+ * </p>
+ *
+ * @author Maikel Guerra Ferrer - mguerraferrer@gmail.com
+ *
+ */
+public final class NumberFormatter {
+
+	/**
+	 * Max number of fraction digits supported
+	 */
+	public static final int MAX_FRACTION_DIGITS = 9;
+
+	private static final double FAST_PATH_LIMIT = 1e15;
+	private static final double HALF = 0.5;
+	private static final BigDecimal HALF_DECIMAL = new BigDecimal("0.5");
+	private static final long[] POW10 = new long[19];
+
+	static {
+		POW10[0] = 1;
+		for (int i = 1; i < POW10.length; i++) {
+			POW10[i] = POW10[i - 1] * 10;
+		}
+	}
+
+	// ##### Declared after POW10, which is used by the constructor
+	public static final NumberFormatter WITH_DECIMAL = of("###,###,##0.00");
+	public static final NumberFormatter WITHOUT_DECIMAL = of("###,###,###.##");
+	public static final NumberFormatter INTEGER = of("#,###");
+
+	private final String pattern;
+	private final int minIntegerDigits;
+	private final int minFractionDigits;
+	private final int maxFractionDigits;
+	private final int groupingSize;
+	private final String negativePrefix;
+	private final char zeroDigit;
+	private final char decimalSeparator;
+	private final char groupingSeparator;
+	private final String nan;
+	private final String infinity;
+	private final long unit;
+	private final double scale;
+
+	private NumberFormatter(final String pattern, final DecimalFormat format) {
+		val symbols = format.getDecimalFormatSymbols();
+		this.pattern = pattern;
+		this.minIntegerDigits = format.getMinimumIntegerDigits();
+		this.minFractionDigits = format.getMinimumFractionDigits();
+		this.maxFractionDigits = format.getMaximumFractionDigits();
+		this.groupingSize = format.isGroupingUsed() ? format.getGroupingSize() : 0;
+		this.negativePrefix = format.getNegativePrefix();
+		this.zeroDigit = symbols.getZeroDigit();
+		this.decimalSeparator = symbols.getDecimalSeparator();
+		this.groupingSeparator = symbols.getGroupingSeparator();
+		this.nan = symbols.getNaN();
+		this.infinity = symbols.getInfinity();
+		this.unit = POW10[maxFractionDigits];
+		this.scale = unit;
+	}
+
+	/**
+	 * Creates a formatter for the given {@code DecimalFormat} pattern with the
+	 * symbols of the default locale. Only patterns without prefixes, suffixes,
+	 * exponent or multiplier and with at most {@value #MAX_FRACTION_DIGITS}
+	 * fraction digits are supported
+	 *
+	 * @param pattern {@code DecimalFormat} pattern, i.e. {@code "#,##0.00"}
+	 * @return {@link NumberFormatter}
+	 * @throws IllegalArgumentException If the pattern is invalid or not supported
+	 */
+	public static NumberFormatter of(final String pattern) {
+		Objects.requireNonNull(pattern, "pattern");
+
+		val format = new DecimalFormat(pattern);
+		val simple = format.getPositivePrefix().isEmpty() && format.getPositiveSuffix().isEmpty()
+				&& format.getNegativeSuffix().isEmpty() && format.getMultiplier() == 1
+				&& !format.isDecimalSeparatorAlwaysShown() && format.toPattern().indexOf('E') < 0
+				&& format.getMaximumFractionDigits() <= MAX_FRACTION_DIGITS;
+		if (!simple) {
+			throw new IllegalArgumentException("Unsupported pattern: " + pattern);
+		}
+		return new NumberFormatter(pattern, format);
+	}
+
+	/**
+	 * Formats a double
+	 *
+	 * @param value double
+	 * @return The formatted value
+	 */
+	public String format(final double value) {
+		return format(value, new StringBuilder(24)).toString();
+	}
+
+	/**
+	 * Formats a long
+	 *
+	 * @param value long
+	 * @return The formatted value
+	 */
+	public String format(final long value) {
+		return format(value, new StringBuilder(32)).toString();
+	}
+
+	/**
+	 * Formats a BigDecimal
+	 *
+	 * @param value BigDecimal
+	 * @return The formatted value
+	 */
+	public String format(final BigDecimal value) {
+		return format(value, new StringBuilder(32)).toString();
+	}
+
+	/**
+	 * Appends the formatted double to the given {@code StringBuilder}
+	 *
+	 * @param value double
+	 * @param sb    StringBuilder
+	 * @return The same {@code StringBuilder}
+	 */
+	public StringBuilder format(final double value, final StringBuilder sb) {
+		if (Double.isNaN(value)) {
+			return sb.append(nan);
+		}
+
+		// ##### As DecimalFormat, -0.0 and negative values rounded to zero keep the
+		// sign
+		if (Double.doubleToRawLongBits(value) < 0) {
+			sb.append(negativePrefix);
+		}
+
+		val abs = Math.abs(value);
+		if (Double.isInfinite(abs)) {
+			return sb.append(infinity);
+		}
+
+		if (abs * scale < FAST_PATH_LIMIT) {
+			// ##### fma computes abs * scale - units with a single rounding, so the
+			// remainder is compared against the exact binary value
+			var units = (long) (abs * scale);
+			var remainder = Math.fma(abs, scale, -units);
+			if (remainder < 0) {
+				units--;
+				remainder = Math.fma(abs, scale, -units);
+			}
+			if (remainder != HALF) {
+				return appendUnits(sb, remainder > HALF ? units + 1 : units);
+			}
+		}
+		return appendRounded(sb, round(abs));
+	}
+
+	/**
+	 * Appends the formatted long to the given {@code StringBuilder}
+	 *
+	 * @param value long
+	 * @param sb    StringBuilder
+	 * @return The same {@code StringBuilder}
+	 */
+	public StringBuilder format(final long value, final StringBuilder sb) {
+		if (value == Long.MIN_VALUE) {
+			return format(BigDecimal.valueOf(value), sb);
+		}
+
+		if (value < 0) {
+			sb.append(negativePrefix);
+		}
+
+		val abs = Math.abs(value);
+		if (abs <= Long.MAX_VALUE / unit) {
+			return appendUnits(sb, abs * unit);
+		}
+		return appendRounded(sb, BigDecimal.valueOf(abs).setScale(maxFractionDigits));
+	}
+
+	/**
+	 * Appends the formatted BigDecimal to the given {@code StringBuilder}
+	 *
+	 * @param value BigDecimal
+	 * @param sb    StringBuilder
+	 * @return The same {@code StringBuilder}
+	 */
+	public StringBuilder format(final BigDecimal value, final StringBuilder sb) {
+		Objects.requireNonNull(value, "value");
+
+		if (value.signum() < 0) {
+			sb.append(negativePrefix);
+		}
+		return appendRounded(sb, value.abs().setScale(maxFractionDigits, RoundingMode.HALF_EVEN));
+	}
+
+	/**
+	 * Appends the formatted value {@code unscaledValue * 10^-scale} to the given
+	 * {@code StringBuilder}, i.e. {@code formatUnscaled(123450, 2, sb)} formats
+	 * 1234.50
+	 *
+	 * @param unscaledValue long
+	 * @param scale         Number of decimal places of the value
+	 * @param sb            StringBuilder
+	 * @return The same {@code StringBuilder}
+	 */
+	public StringBuilder formatUnscaled(final long unscaledValue, final int scale, final StringBuilder sb) {
+		if (scale < 0 || scale > maxFractionDigits || unscaledValue == Long.MIN_VALUE) {
+			return format(BigDecimal.valueOf(unscaledValue, scale), sb);
+		}
+
+		if (unscaledValue < 0) {
+			sb.append(negativePrefix);
+		}
+
+		val abs = Math.abs(unscaledValue);
+		val factor = POW10[maxFractionDigits - scale];
+		if (abs <= Long.MAX_VALUE / factor) {
+			return appendUnits(sb, abs * factor);
+		}
+		return appendRounded(sb, BigDecimal.valueOf(abs, scale).setScale(maxFractionDigits));
+	}
+
+	/**
+	 * Rounds a positive double from its shortest decimal representation. Ties of
+	 * that representation are resolved with the exact binary value
+	 */
+	private BigDecimal round(final double abs) {
+		val shortest = BigDecimal.valueOf(abs);
+		var mode = RoundingMode.HALF_EVEN;
+		if (isTie(shortest)) {
+			val comparison = new BigDecimal(abs).compareTo(shortest);
+			if (comparison > 0) {
+				mode = RoundingMode.UP;
+			} else if (comparison < 0) {
+				mode = RoundingMode.DOWN;
+			}
+		}
+		return shortest.setScale(maxFractionDigits, mode);
+	}
+
+	private boolean isTie(final BigDecimal value) {
+		if (value.scale() <= maxFractionDigits) {
+			return false;
+		}
+		val discarded = value.subtract(value.setScale(maxFractionDigits, RoundingMode.DOWN));
+		return discarded.movePointRight(maxFractionDigits).compareTo(HALF_DECIMAL) == 0;
+	}
+
+	/**
+	 * Appends a positive value already rounded to {@code maxFractionDigits}
+	 */
+	private StringBuilder appendRounded(final StringBuilder sb, final BigDecimal rounded) {
+		val unscaled = rounded.unscaledValue();
+		if (unscaled.bitLength() < Long.SIZE - 1) {
+			return appendUnits(sb, unscaled.longValue());
+		}
+
+		// ##### Beyond long, the unscaled value always has more digits than the
+		// fraction
+		val digits = unscaled.toString();
+		val integerDigits = digits.length() - maxFractionDigits;
+		for (int i = 0; i < integerDigits; i++) {
+			appendGrouped(sb, digits.charAt(i) - '0', integerDigits - 1 - i);
+		}
+
+		var fractionDigits = maxFractionDigits;
+		while (fractionDigits > minFractionDigits && digits.charAt(integerDigits + fractionDigits - 1) == '0') {
+			fractionDigits--;
+		}
+		if (fractionDigits > 0) {
+			sb.append(decimalSeparator);
+			for (int i = 0; i < fractionDigits; i++) {
+				sb.append((char) (zeroDigit + digits.charAt(integerDigits + i) - '0'));
+			}
+		}
+		return sb;
+	}
+
+	/**
+	 * Appends a positive value expressed in units of 10^-maxFractionDigits
+	 */
+	private StringBuilder appendUnits(final StringBuilder sb, final long units) {
+		val integer = units / unit;
+		var fraction = units % unit;
+		var fractionDigits = maxFractionDigits;
+		while (fractionDigits > minFractionDigits && fraction % 10 == 0) {
+			fraction /= 10;
+			fractionDigits--;
+		}
+
+		val integerDigits = digits(integer);
+		var width = Math.max(integerDigits, minIntegerDigits);
+		if (width == 0 && fractionDigits == 0) {
+			// ##### DecimalFormat always prints at least one digit
+			width = 1;
+		}
+		for (int position = width - 1; position >= 0; position--) {
+			val digit = position < integerDigits ? (int) (integer / POW10[position] % 10) : 0;
+			appendGrouped(sb, digit, position);
+		}
+
+		if (fractionDigits > 0) {
+			sb.append(decimalSeparator);
+			for (int position = fractionDigits - 1; position >= 0; position--) {
+				sb.append((char) (zeroDigit + fraction / POW10[position] % 10));
+			}
+		}
+		return sb;
+	}
+
+	/**
+	 * Appends an integer digit followed, if needed, by the grouping separator
+	 *
+	 * @param position Number of integer digits after this one
+	 */
+	private void appendGrouped(final StringBuilder sb, final int digit, final int position) {
+		sb.append((char) (zeroDigit + digit));
+		if (groupingSize > 0 && position > 0 && position % groupingSize == 0) {
+			sb.append(groupingSeparator);
+		}
+	}
+
+	private static int digits(final long value) {
+		var digits = 0;
+		while (digits < POW10.length && value >= POW10[digits]) {
+			digits++;
+		}
+		return digits;
+	}
+
+	@Override
+	public String toString() {
+		return "NumberFormatter[" + pattern + "]";
+	}
+
+}
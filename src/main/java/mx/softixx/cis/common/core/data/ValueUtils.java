@@ -28,6 +28,13 @@ public final class ValueUtils {
 	public static final String DASH = "-";
 	public static final String NULL_SQL = "NULL";
 	private static final char[] HEX_ARRAY = "0123456789ABCDEF".toCharArray();
+	private static final byte[] HEX_VALUES = new byte[128];
+
+	static {
+		for (var c = 0; c < HEX_VALUES.length; c++) {
+			HEX_VALUES[c] = (byte) Character.digit(c, 16);
+		}
+	}
 
 	public static String str(final Object value) {
 		try {
@@ -330,23 +337,37 @@ public final class ValueUtils {
 	}
 
 	public static byte[] bytesFromUUID(String uuidHexString) {
-		val normalizedUUIDHexString = uuidHexString.replace("-","");
-		assert normalizedUUIDHexString.length() == 32;
-
+		// ##### Dashes are skipped while reading, without building a new String
 		byte[] bytes = new byte[16];
-		for (var i = 0; i < 16; i++) {
-			val b = hexToByte(normalizedUUIDHexString.substring(i*2, i*2+2));
-			bytes[i] = b;
+		var digits = 0;
+		for (var i = 0; i < uuidHexString.length() && digits < 32; i++) {
+			val c = uuidHexString.charAt(i);
+			if (c == '-') {
+				continue;
+			}
+			val digit = hexDigit(c);
+			bytes[digits >> 1] = (byte) ((digits & 1) == 0 ? digit << 4 : bytes[digits >> 1] + digit);
+			digits++;
+		}
+		if (digits < 32) {
+			throw new StringIndexOutOfBoundsException("Invalid UUID: " + uuidHexString);
 		}
 		return bytes;
 	}
 
 	public static byte hexToByte(String hexString) {
-		int firstDigit = Character.digit(hexString.charAt(0),16);
-		int secondDigit = Character.digit(hexString.charAt(1),16);
+		int firstDigit = hexDigit(hexString.charAt(0));
+		int secondDigit = hexDigit(hexString.charAt(1));
 		return (byte) ((firstDigit << 4) + secondDigit);
 	}
 
+	/**
+	 * Same as {@code Character.digit(c, 16)}, with a table for ASCII characters
+	 */
+	private static int hexDigit(char c) {
+		return c < HEX_VALUES.length ? HEX_VALUES[c] : Character.digit(c, 16);
+	}
+
 	public static byte[] joinBytes(byte[] byteArray1, byte[] byteArray2) {
 		int finalLength = byteArray1.length + byteArray2.length;
 		var result = new byte[finalLength];
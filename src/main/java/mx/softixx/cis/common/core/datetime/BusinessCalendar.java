@@ -0,0 +1,434 @@
+package mx.softixx.cis.common.core.datetime;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.MonthDay;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import lombok.val;
+
+/**
+ * Immutable calendar of business days: the days of the week that are not
+ * weekend and are not holidays.
+ * <p>
+ * Business days are counted arithmetically on epoch days: whole weeks are
+ * multiplied by the number of working days per week, the remaining days (less
+ * than 7) are checked one by one and the holidays of the range are subtracted.
+ * Holidays are kept in a bitset per year (one bit per day of the year, set only
+ * for holidays that fall on a working day), built on first use and cached, so
+ * the cost of a count depends on the number of years of the range and not on
+ * the number of days.
+ * </p>
+ * <p>
+ * {@link #WEEKENDS_ONLY} has no holidays and gives the same results as
+ * {@link DurationUtils#toDaysWithoutWeekend(LocalDateTime, LocalDateTime)}.
+ * {@link #MEXICO} adds the mandatory rest days of the Mexican Federal Labor Law
+ * (article 74).
+ * </p>
+ *
+ * @author Maikel Guerra Ferrer - mguerraferrer@gmail.com
+ *
+ */
+public final class BusinessCalendar {
+
+	/**
+	 * Saturday and Sunday as weekend, without holidays
+	 */
+	public static final BusinessCalendar WEEKENDS_ONLY = builder().build();
+
+	/**
+	 * Saturday and Sunday as weekend, with the Mexican federal holidays
+	 */
+	public static final BusinessCalendar MEXICO = builder().mexicanFederalHolidays().build();
+
+	private static final int DAYS_PER_WEEK = 7;
+	private static final int BITSET_LENGTH = 6;
+
+	/**
+	 * Bit {@code DayOfWeek.getValue() - 1} is set for the weekend days
+	 */
+	private final int weekendMask;
+	private final int workingDaysPerWeek;
+	private final boolean mexicanFederalHolidays;
+	private final Set<LocalDate> holidays;
+	private final Set<MonthDay> recurringHolidays;
+	private final boolean hasHolidays;
+
+	/**
+	 * Holidays on working days by year, bit {@code dayOfYear - 1}
+	 */
+	private final ConcurrentHashMap<Integer, long[]> holidaysByYear = new ConcurrentHashMap<>();
+
+	private BusinessCalendar(final Builder builder) {
+		this.weekendMask = builder.weekendMask;
+		this.workingDaysPerWeek = DAYS_PER_WEEK - Integer.bitCount(builder.weekendMask);
+		this.mexicanFederalHolidays = builder.mexicanFederalHolidays;
+		this.holidays = Set.copyOf(builder.holidays);
+		this.recurringHolidays = Set.copyOf(builder.recurringHolidays);
+		this.hasHolidays = mexicanFederalHolidays || !holidays.isEmpty() || !recurringHolidays.isEmpty();
+	}
+
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * @param ld LocalDate
+	 * @return True if the date is a working day of the week and not a holiday
+	 */
+	public boolean isBusinessDay(final LocalDate ld) {
+		val epochDay = ld.toEpochDay();
+		return isWorkingDay(epochDay) && !isHolidayOnWorkingDay(ld.getYear(), ld.getDayOfYear());
+	}
+
+	/**
+	 * @param ld LocalDate
+	 * @return True if the date is a holiday of this calendar, on any day of the
+	 *         week
+	 */
+	public boolean isHoliday(final LocalDate ld) {
+		return hasHolidays && holidaysOf(ld.getYear()).contains(ld);
+	}
+
+	/**
+	 * Counts the business days between two dates
+	 *
+	 * @param startInclusive LocalDate
+	 * @param endExclusive   LocalDate
+	 * @return Number of business days, 0 if the end is not after the start
+	 */
+	public long countBusinessDays(final LocalDate startInclusive, final LocalDate endExclusive) {
+		return countBusinessDays(startInclusive.toEpochDay(), endExclusive.toEpochDay());
+	}
+
+	/**
+	 * Counts the business days between two date-times as
+	 * {@link DurationUtils#toDaysWithoutWeekend(LocalDateTime, LocalDateTime)}:
+	 * the days {@code start, start + 1 day, ...} before the end
+	 *
+	 * @param start Start inclusive
+	 * @param end   End exclusive
+	 * @return Number of business days or null if any date is null
+	 */
+	public Integer countBusinessDays(final LocalDateTime start, final LocalDateTime end) {
+		if (start == null || end == null) {
+			return null;
+		}
+		val startDay = start.toLocalDate().toEpochDay();
+		var endDay = end.toLocalDate().toEpochDay();
+		// ##### The last day is included if its time is after the start time
+		if (start.toLocalTime().isBefore(end.toLocalTime())) {
+			endDay++;
+		}
+		return (int) countBusinessDays(startDay, endDay);
+	}
+
+	/**
+	 * Returns the date reached after the given number of business days, not
+	 * counting the start date
+	 *
+	 * @param ld   LocalDate
+	 * @param days Business days to add, negative to go back
+	 * @return {@code LocalDate}, the same date if days is 0
+	 */
+	public LocalDate addBusinessDays(final LocalDate ld, final long days) {
+		if (days == 0) {
+			return ld;
+		}
+
+		val direction = days > 0 ? 1 : -1;
+		var current = ld.toEpochDay();
+		var remaining = Math.abs(days);
+		// ##### Holidays skipped in each step are added again until none is found
+		while (remaining > 0) {
+			val next = addWorkingDays(current, remaining, direction);
+			remaining = direction > 0 ? countHolidays(current + 1, next + 1) : countHolidays(next, current);
+			current = next;
+		}
+		return LocalDate.ofEpochDay(current);
+	}
+
+	/**
+	 * @param ld LocalDate
+	 * @return The first business day after the date
+	 */
+	public LocalDate nextBusinessDay(final LocalDate ld) {
+		return addBusinessDays(ld, 1);
+	}
+
+	/**
+	 * @param ld LocalDate
+	 * @return The last business day before the date
+	 */
+	public LocalDate previousBusinessDay(final LocalDate ld) {
+		return addBusinessDays(ld, -1);
+	}
+
+	/**
+	 * @param ld LocalDate
+	 * @return The same date if it is a business day, otherwise the next one
+	 */
+	public LocalDate nextOrSameBusinessDay(final LocalDate ld) {
+		return isBusinessDay(ld) ? ld : nextBusinessDay(ld);
+	}
+
+	/**
+	 * Returns the holidays of a year, including those that fall on weekends
+	 *
+	 * @param year int
+	 * @return Sorted list of dates
+	 */
+	public List<LocalDate> holidaysOf(final int year) {
+		val result = new ArrayList<LocalDate>();
+		if (mexicanFederalHolidays) {
+			result.addAll(mexicanFederalHolidays(year));
+		}
+		for (val monthDay : recurringHolidays) {
+			if (monthDay.isValidYear(year)) {
+				result.add(monthDay.atYear(year));
+			}
+		}
+		for (val holiday : holidays) {
+			if (holiday.getYear() == year) {
+				result.add(holiday);
+			}
+		}
+		return result.stream().distinct().sorted().toList();
+	}
+
+	private long countBusinessDays(final long startDay, final long endDay) {
+		if (endDay <= startDay) {
+			return 0;
+		}
+		return countWorkingDays(startDay, endDay) - countHolidays(startDay, endDay);
+	}
+
+	/**
+	 * Working days of the week in [startDay, endDay)
+	 */
+	private long countWorkingDays(final long startDay, final long endDay) {
+		val days = endDay - startDay;
+		var count = days / DAYS_PER_WEEK * workingDaysPerWeek;
+		for (long day = startDay + days / DAYS_PER_WEEK * DAYS_PER_WEEK; day < endDay; day++) {
+			if (isWorkingDay(day)) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Moves the given number of working days of the week, ignoring holidays
+	 */
+	private long addWorkingDays(final long epochDay, final long days, final int direction) {
+		var weeks = days / workingDaysPerWeek;
+		var remaining = days % workingDaysPerWeek;
+		// ##### The last step must end on a working day
+		if (remaining == 0) {
+			weeks--;
+			remaining = workingDaysPerWeek;
+		}
+		var day = epochDay + direction * weeks * DAYS_PER_WEEK;
+		while (remaining > 0) {
+			day += direction;
+			if (isWorkingDay(day)) {
+				remaining--;
+			}
+		}
+		return day;
+	}
+
+	/**
+	 * Holidays on working days in [startDay, endDay)
+	 */
+	private long countHolidays(final long startDay, final long endDay) {
+		if (!hasHolidays || endDay <= startDay) {
+			return 0;
+		}
+
+		val start = LocalDate.ofEpochDay(startDay);
+		val last = LocalDate.ofEpochDay(endDay - 1);
+		var count = 0L;
+		for (int year = start.getYear(); year <= last.getYear(); year++) {
+			val from = year == start.getYear() ? start.getDayOfYear() - 1 : 0;
+			val to = year == last.getYear() ? last.getDayOfYear() : 366;
+			count += countBits(bitsetOf(year), from, to);
+		}
+		return count;
+	}
+
+	private boolean isWorkingDay(final long epochDay) {
+		// ##### 1970-01-01 was Thursday, index 3 with Monday as 0
+		return (weekendMask & (1 << Math.floorMod(epochDay + 3, DAYS_PER_WEEK))) == 0;
+	}
+
+	private boolean isHolidayOnWorkingDay(final int year, final int dayOfYear) {
+		if (!hasHolidays) {
+			return false;
+		}
+		val index = dayOfYear - 1;
+		return (bitsetOf(year)[index >>> 6] & (1L << index)) != 0;
+	}
+
+	private long[] bitsetOf(final int year) {
+		return holidaysByYear.computeIfAbsent(year, y -> {
+			val bits = new long[BITSET_LENGTH];
+			for (val holiday : holidaysOf(y)) {
+				if (isWorkingDay(holiday.toEpochDay())) {
+					val index = holiday.getDayOfYear() - 1;
+					bits[index >>> 6] |= 1L << index;
+				}
+			}
+			return bits;
+		});
+	}
+
+	/**
+	 * Number of bits set in [from, to)
+	 */
+	private static int countBits(final long[] bits, final int from, final int to) {
+		var count = 0;
+		for (int word = from >>> 6; word <= (to - 1) >>> 6 && word < bits.length; word++) {
+			var value = bits[word];
+			if (word == from >>> 6) {
+				value &= -1L << from;
+			}
+			if (word == (to - 1) >>> 6) {
+				value &= -1L >>> (63 - ((to - 1) & 63));
+			}
+			count += Long.bitCount(value);
+		}
+		return count;
+	}
+
+	/**
+	 * Mandatory rest days of article 74 of the Mexican Federal Labor Law. Since
+	 * 2006 some of them are moved to a Monday, and the change of the federal
+	 * executive, every six years, is on October 1 since 2024 (December 1 before)
+	 */
+	private static List<LocalDate> mexicanFederalHolidays(final int year) {
+		val result = new ArrayList<LocalDate>();
+		result.add(LocalDate.of(year, Month.JANUARY, 1));
+		if (year >= 2006) {
+			result.add(dayOfWeekInMonth(year, Month.FEBRUARY, 1));
+			result.add(dayOfWeekInMonth(year, Month.MARCH, 3));
+		} else {
+			result.add(LocalDate.of(year, Month.FEBRUARY, 5));
+			result.add(LocalDate.of(year, Month.MARCH, 21));
+		}
+		result.add(LocalDate.of(year, Month.MAY, 1));
+		result.add(LocalDate.of(year, Month.SEPTEMBER, 16));
+		if (year >= 2024 && (year - 2024) % 6 == 0) {
+			result.add(LocalDate.of(year, Month.OCTOBER, 1));
+		}
+		if (year >= 2006) {
+			result.add(dayOfWeekInMonth(year, Month.NOVEMBER, 3));
+		} else {
+			result.add(LocalDate.of(year, Month.NOVEMBER, 20));
+		}
+		if (year < 2024 && year >= 1934 && (year - 1934) % 6 == 0) {
+			result.add(LocalDate.of(year, Month.DECEMBER, 1));
+		}
+		result.add(LocalDate.of(year, Month.DECEMBER, 25));
+		return result;
+	}
+
+	/**
+	 * The n-th Monday of the month
+	 */
+	private static LocalDate dayOfWeekInMonth(final int year, final Month month, final int ordinal) {
+		return LocalDate.of(year, month, 1).with(TemporalAdjusters.dayOfWeekInMonth(ordinal, DayOfWeek.MONDAY));
+	}
+
+	/**
+	 * Configuration of a {@link BusinessCalendar}. This class is not thread-safe
+	 */
+	public static final class Builder {
+		private int weekendMask = mask(DayOfWeek.SATURDAY) | mask(DayOfWeek.SUNDAY);
+		private boolean mexicanFederalHolidays;
+		private final Set<LocalDate> holidays = new HashSet<>();
+		private final Set<MonthDay> recurringHolidays = new HashSet<>();
+
+		private Builder() {
+		}
+
+		/**
+		 * Replaces the weekend days, Saturday and Sunday by default
+		 *
+		 * @param days DayOfWeek...
+		 * @return This builder
+		 */
+		public Builder weekend(final DayOfWeek... days) {
+			var value = 0;
+			for (val day : days) {
+				value |= mask(day);
+			}
+			if (Integer.bitCount(value) == DAYS_PER_WEEK) {
+				throw new IllegalArgumentException("At least one working day is required");
+			}
+			this.weekendMask = value;
+			return this;
+		}
+
+		/**
+		 * Adds the mandatory rest days of the Mexican Federal Labor Law
+		 *
+		 * @return This builder
+		 */
+		public Builder mexicanFederalHolidays() {
+			this.mexicanFederalHolidays = true;
+			return this;
+		}
+
+		/**
+		 * Adds a holiday of a single year
+		 *
+		 * @param ld LocalDate
+		 * @return This builder
+		 */
+		public Builder holiday(final LocalDate ld) {
+			holidays.add(Objects.requireNonNull(ld, "holiday"));
+			return this;
+		}
+
+		/**
+		 * Adds several holidays of a single year
+		 *
+		 * @param lds {@code Collection<LocalDate>}
+		 * @return This builder
+		 */
+		public Builder holidays(final Collection<LocalDate> lds) {
+			lds.forEach(this::holiday);
+			return this;
+		}
+
+		/**
+		 * Adds a holiday repeated every year
+		 *
+		 * @param monthDay MonthDay
+		 * @return This builder
+		 */
+		public Builder recurringHoliday(final MonthDay monthDay) {
+			recurringHolidays.add(Objects.requireNonNull(monthDay, "monthDay"));
+			return this;
+		}
+
+		public BusinessCalendar build() {
+			return new BusinessCalendar(this);
+		}
+
+		private static int mask(final DayOfWeek day) {
+			return 1 << (day.getValue() - 1);
+		}
+	}
+
+}
@@ -0,0 +1,188 @@
+package mx.softixx.cis.common.core.datetime;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.Year;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Date;
+import java.util.Objects;
+
+import lombok.val;
+
+/**
+ * Source of the current time of the datetime package.
+ * <p>
+ * By default the time is read from the system clock in the system default
+ * zone on every call, as {@code LocalDateTime.now()} does. Any
+ * {@code java.time.Clock} can be installed with {@link #setClock(Clock)}, i.e.
+ * a {@link CoarseClock} to read the time without system calls, or pinned with
+ * {@link #pin(LocalDateTime)} to test with a fixed time.
+ * </p>
+ *
+ * @author Maikel Guerra Ferrer - mguerraferrer@gmail.com
+ *
+ */
+public final class ClockUtils {
+
+	private ClockUtils() {
+	}
+
+	/**
+	 * Installed clock, null to use the system clock
+	 */
+	private static volatile Clock clock;
+
+	/**
+	 * @return The installed clock or the system clock in the system default zone
+	 */
+	public static Clock getClock() {
+		val current = clock;
+		return current != null ? current : Clock.systemDefaultZone();
+	}
+
+	/**
+	 * Installs the clock used by the datetime package
+	 *
+	 * @param clock {@code java.time.Clock}, null to use the system clock
+	 */
+	public static void setClock(final Clock clock) {
+		ClockUtils.clock = clock;
+	}
+
+	/**
+	 * Fixes the current time
+	 *
+	 * @param instant Instant returned by every call
+	 */
+	public static void pin(final Instant instant) {
+		Objects.requireNonNull(instant, "instant");
+		setClock(Clock.fixed(instant, ZoneId.systemDefault()));
+	}
+
+	/**
+	 * Fixes the current time
+	 *
+	 * @param ldt Date-time in the system default zone returned by every call
+	 */
+	public static void pin(final LocalDateTime ldt) {
+		Objects.requireNonNull(ldt, "ldt");
+		val zone = ZoneId.systemDefault();
+		setClock(Clock.fixed(ldt.atZone(zone).toInstant(), zone));
+	}
+
+	/**
+	 * Goes back to the system clock
+	 */
+	public static void reset() {
+		setClock(null);
+	}
+
+	/**
+	 * @return Current epoch milliseconds
+	 */
+	public static long currentMillis() {
+		val current = clock;
+		return current != null ? current.millis() : System.currentTimeMillis();
+	}
+
+	public static Instant instant() {
+		val current = clock;
+		return current != null ? current.instant() : Instant.now();
+	}
+
+	/**
+	 * @return Current {@code java.util.Date}
+	 */
+	public static Date currentDate() {
+		return new Date(currentMillis());
+	}
+
+	/**
+	 * @return Current date-time in the zone of the clock
+	 */
+	public static LocalDateTime now() {
+		val current = clock;
+		if (current instanceof CoarseClock) {
+			return ((CoarseClock) current).localDateTime();
+		}
+		return current != null ? LocalDateTime.now(current) : LocalDateTime.now();
+	}
+
+	/**
+	 * @return Current date-time in UTC
+	 */
+	public static LocalDateTime nowUTC() {
+		return LocalDateTime.ofInstant(instant(), ZoneOffset.UTC);
+	}
+
+	/**
+	 * @return Current date in the zone of the clock
+	 */
+	public static LocalDate today() {
+		val current = clock;
+		if (current instanceof CoarseClock) {
+			return ((CoarseClock) current).localDate();
+		}
+		return current != null ? LocalDate.now(current) : LocalDate.now();
+	}
+
+	/**
+	 * @return Current time in the zone of the clock
+	 */
+	public static LocalTime currentTime() {
+		val current = clock;
+		if (current instanceof CoarseClock) {
+			return ((CoarseClock) current).localDateTime().toLocalTime();
+		}
+		return current != null ? LocalTime.now(current) : LocalTime.now();
+	}
+
+	/**
+	 * @return The day-of-month, from 1 to 31
+	 */
+	public static int currentDay() {
+		val current = clock;
+		if (current instanceof CoarseClock) {
+			return ((CoarseClock) current).dayOfMonth();
+		}
+		return today().getDayOfMonth();
+	}
+
+	/**
+	 * @return The month-of-year, from 1 to 12
+	 */
+	public static int currentMonth() {
+		val current = clock;
+		if (current instanceof CoarseClock) {
+			return ((CoarseClock) current).month();
+		}
+		return today().getMonthValue();
+	}
+
+	/**
+	 * @return The current year
+	 */
+	public static int currentYear() {
+		val current = clock;
+		if (current instanceof CoarseClock) {
+			return ((CoarseClock) current).year();
+		}
+		return today().getYear();
+	}
+
+	/**
+	 * @return The current year with 2 digits
+	 */
+	public static String currentYear2D() {
+		val current = clock;
+		if (current instanceof CoarseClock) {
+			return ((CoarseClock) current).year2D();
+		}
+		return Year.of(currentYear()).format(DateTimeUtils.YEAR_2D_FORMATTER);
+	}
+
+}
@@ -0,0 +1,230 @@
+package mx.softixx.cis.common.core.datetime;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Year;
+import java.time.ZoneId;
+import java.util.Objects;
+import java.util.concurrent.locks.LockSupport;
+
+import lombok.val;
+
+/**
+ * Clock that reads the system time once per tick instead of once per call.
+ * <p>
+ * A daemon thread refreshes the current instant every tick together with the
+ * fields derived from it: local date-time, date, year, month, day and year
+ * with 2 digits, so reading them is a volatile read without allocations. The
+ * time returned may be behind the system time up to a tick, use it where
+ * that precision is enough, i.e. to compare dates or to build timestamps.
+ * </p>
+ * <p>
+ * The derived fields use the zone given when the clock is created. The clock
+ * is installed for the datetime package with {@link ClockUtils#setClock(Clock)}
+ * and stopped with {@link #close()}, after that the time no longer moves.
+ * </p>
+ *
+ * @author Maikel Guerra Ferrer - mguerraferrer@gmail.com
+ *
+ */
+public final class CoarseClock extends Clock implements AutoCloseable {
+
+	/**
+	 * Default tick, 1 millisecond
+	 */
+	public static final Duration DEFAULT_TICK = Duration.ofMillis(1);
+
+	private final ZoneId zone;
+	private final long tickNanos;
+	private final Thread ticker;
+	private volatile Snapshot snapshot;
+	private volatile boolean closed;
+
+	private CoarseClock(final ZoneId zone, final Duration tick) {
+		this.zone = Objects.requireNonNull(zone, "zone");
+		Objects.requireNonNull(tick, "tick");
+		if (tick.isNegative() || tick.isZero()) {
+			throw new IllegalArgumentException("Illegal tick: " + tick);
+		}
+		this.tickNanos = tick.toNanos();
+		this.snapshot = new Snapshot(System.currentTimeMillis(), zone, null);
+
+		this.ticker = new Thread(this::tick, "coarse-clock");
+		ticker.setDaemon(true);
+		ticker.start();
+	}
+
+	/**
+	 * Starts a clock of the system default zone with the {@link #DEFAULT_TICK}
+	 *
+	 * @return {@link CoarseClock}, closed by the caller
+	 */
+	public static CoarseClock start() {
+		return start(ZoneId.systemDefault(), DEFAULT_TICK);
+	}
+
+	/**
+	 * Starts a clock
+	 *
+	 * @param zone Zone of the derived fields
+	 * @param tick Time between refreshes
+	 * @return {@link CoarseClock}, closed by the caller
+	 */
+	public static CoarseClock start(final ZoneId zone, final Duration tick) {
+		return new CoarseClock(zone, tick);
+	}
+
+	@Override
+	public ZoneId getZone() {
+		return zone;
+	}
+
+	/**
+	 * Returns a clock of another zone that reads the time of this clock, the
+	 * derived fields are only kept for the zone of this clock
+	 */
+	@Override
+	public Clock withZone(final ZoneId zone) {
+		if (this.zone.equals(zone)) {
+			return this;
+		}
+		return new ZonedView(this, zone);
+	}
+
+	@Override
+	public long millis() {
+		return snapshot.millis;
+	}
+
+	@Override
+	public Instant instant() {
+		return snapshot.instant;
+	}
+
+	public LocalDateTime localDateTime() {
+		return snapshot.localDateTime;
+	}
+
+	public LocalDate localDate() {
+		return snapshot.localDate;
+	}
+
+	public int year() {
+		return snapshot.year;
+	}
+
+	/**
+	 * @return The month-of-year, from 1 to 12
+	 */
+	public int month() {
+		return snapshot.month;
+	}
+
+	/**
+	 * @return The day-of-month, from 1 to 31
+	 */
+	public int dayOfMonth() {
+		return snapshot.dayOfMonth;
+	}
+
+	/**
+	 * @return Year with 2 digits, as {@code DateTimeUtils.currentYear2D()}
+	 */
+	public String year2D() {
+		return snapshot.year2D;
+	}
+
+	/**
+	 * Stops the ticker thread
+	 */
+	@Override
+	public void close() {
+		closed = true;
+		LockSupport.unpark(ticker);
+	}
+
+	private void tick() {
+		while (!closed) {
+			LockSupport.parkNanos(this, tickNanos);
+			val millis = System.currentTimeMillis();
+			val current = snapshot;
+			if (millis != current.millis) {
+				snapshot = new Snapshot(millis, zone, current);
+			}
+		}
+	}
+
+	/**
+	 * Current instant and the fields derived from it
+	 */
+	private static final class Snapshot {
+		private final long millis;
+		private final Instant instant;
+		private final LocalDateTime localDateTime;
+		private final LocalDate localDate;
+		private final int year;
+		private final int month;
+		private final int dayOfMonth;
+		private final String year2D;
+
+		private Snapshot(final long millis, final ZoneId zone, final Snapshot previous) {
+			this.millis = millis;
+			this.instant = Instant.ofEpochMilli(millis);
+			this.localDateTime = LocalDateTime.ofInstant(instant, zone);
+
+			// ##### The date fields are only built again when the day changes
+			val date = localDateTime.toLocalDate();
+			if (previous != null && previous.localDate.equals(date)) {
+				this.localDate = previous.localDate;
+				this.year = previous.year;
+				this.month = previous.month;
+				this.dayOfMonth = previous.dayOfMonth;
+				this.year2D = previous.year2D;
+			} else {
+				this.localDate = date;
+				this.year = date.getYear();
+				this.month = date.getMonthValue();
+				this.dayOfMonth = date.getDayOfMonth();
+				this.year2D = previous != null && previous.year == year ? previous.year2D
+						: Year.of(year).format(DateTimeUtils.YEAR_2D_FORMATTER);
+			}
+		}
+	}
+
+	/**
+	 * Same time in another zone
+	 */
+	private static final class ZonedView extends Clock {
+		private final CoarseClock clock;
+		private final ZoneId zone;
+
+		private ZonedView(final CoarseClock clock, final ZoneId zone) {
+			this.clock = clock;
+			this.zone = Objects.requireNonNull(zone, "zone");
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return zone;
+		}
+
+		@Override
+		public Clock withZone(final ZoneId zone) {
+			return clock.withZone(zone);
+		}
+
+		@Override
+		public long millis() {
+			return clock.millis();
+		}
+
+		@Override
+		public Instant instant() {
+			return clock.instant();
+		}
+	}
+
+}
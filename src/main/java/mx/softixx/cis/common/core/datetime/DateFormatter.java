@@ -1,5 +1,14 @@
 package mx.softixx.cis.common.core.datetime;
 
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Supported date formats. Each constant owns an immutable (thread-safe)
+ * {@code DateTimeFormatter} built once, and {@link #ofPattern(String)} caches
+ * the formatters of any other pattern
+ */
 public enum DateFormatter {
 	// DB DATE
 	/**
@@ -57,13 +66,60 @@ public enum DateFormatter {
 	 */
 	T24H_FULL("HH:mm:ss");
 
-	private String format;
+	/**
+	 * Max number of ad-hoc patterns kept in the cache. Once reached, new patterns
+	 * are still resolved but no longer cached
+	 */
+	public static final int MAX_CACHED_PATTERNS = 512;
+	
+	private static final Map<String, DateTimeFormatter> CACHE = new ConcurrentHashMap<>();
+
+	private final String format;
+	private final DateTimeFormatter formatter;
 
 	DateFormatter(final String value) {
 		format = value;
+		formatter = DateTimeFormatter.ofPattern(value);
 	}
 
 	public String getFormat() {
 		return format;
 	}
+	
+	/**
+	 * Returns the prebuilt {@code DateTimeFormatter} of this format
+	 * 
+	 * @return {@code DateTimeFormatter}
+	 */
+	public DateTimeFormatter getFormatter() {
+		return formatter;
+	}
+	
+	/**
+	 * Returns a cached {@code DateTimeFormatter} for the given pattern. Patterns
+	 * of the {@code DateFormatter} constants resolve to their prebuilt formatter
+	 * 
+	 * @param pattern String pattern
+	 * @return {@code DateTimeFormatter}
+	 * @throws IllegalArgumentException If the pattern is invalid
+	 */
+	public static DateTimeFormatter ofPattern(final String pattern) {
+		var dtf = CACHE.get(pattern);
+		if (dtf != null) {
+			return dtf;
+		}
+		
+		for (DateFormatter df : values()) {
+			if (df.format.equals(pattern)) {
+				return df.formatter;
+			}
+		}
+		
+		dtf = DateTimeFormatter.ofPattern(pattern);
+		if (CACHE.size() < MAX_CACHED_PATTERNS) {
+			CACHE.putIfAbsent(pattern, dtf);
+		}
+		return dtf;
+	}
+	
 }
\ No newline at end of file
@@ -1,12 +1,12 @@
 package mx.softixx.cis.common.core.datetime;
 
 import java.sql.Timestamp;
-import java.text.SimpleDateFormat;
 import java.time.DateTimeException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.Month;
 import java.time.Year;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.Calendar;
 import java.util.Date;
@@ -33,6 +33,8 @@ public final class DateTimeUtils {
 	public static final String LAST_TIME_OF_DATE = "23:59:59";
 	public static final String TIME_AM = "AM";
 	public static final String TIME_PM = "PM";
+	
+	static final DateTimeFormatter YEAR_2D_FORMATTER = DateFormatter.ofPattern("yy");
 
 	/**
 	 * Returns current day
@@ -40,7 +42,7 @@ public final class DateTimeUtils {
 	 * @return The day-of-month, from 1 to 31
 	 */
 	public static Integer currentDay() {
-		return LocalDate.now().getDayOfMonth();
+		return ClockUtils.currentDay();
 	}
 	
 	/**
@@ -63,7 +65,7 @@ public final class DateTimeUtils {
 	 * @return The month-of-year, from 1 to 12
 	 */
 	public static Integer currentMonth() {
-		return LocalDate.now().getMonthValue();
+		return ClockUtils.currentMonth();
 	}
 	
 	/**
@@ -86,7 +88,7 @@ public final class DateTimeUtils {
 	 * @return The actual year
 	 */
 	public static Integer currentYear() {
-		return LocalDate.now().getYear();
+		return ClockUtils.currentYear();
 	}
 	
 	/**
@@ -109,7 +111,7 @@ public final class DateTimeUtils {
 	 * @return The actual year with 2 digits
 	 */
 	public static String currentYear2D() {
-		return Year.now().format(DateTimeFormatter.ofPattern("yy"));
+		return ClockUtils.currentYear2D();
 	}
 	
 	/**
@@ -122,7 +124,7 @@ public final class DateTimeUtils {
 		if (date != null) {
 			val ld = LocalDateUtils.convert(date);
 			if (ld != null) {
-				return ld.format(DateTimeFormatter.ofPattern("yy"));
+				return ld.format(YEAR_2D_FORMATTER);
 			}
 		}
 		return null;
@@ -142,8 +144,7 @@ public final class DateTimeUtils {
 			String timestamp = null;
 			if (formatter != null && (formatter.equals(DateFormatter.DATE_TIME_FULL_FORMAT)
 					|| formatter.equals(DateFormatter.DATE_TIME_DB_FULL_FORMAT))) {
-				val dtf = DateTimeFormatter.ofPattern(formatter.getFormat());
-				timestamp = dtf.format(LocalDateTime.now());
+				timestamp = formatter.getFormatter().format(ClockUtils.now());
 			}
 			return timestamp;
 		} catch (DateTimeException | IllegalArgumentException e) {
@@ -262,7 +263,7 @@ public final class DateTimeUtils {
 	}
 
 	public static CustomMessage fullDate() {
-		return fullDate(new Date());
+		return fullDate(ClockUtils.currentDate());
 	}
 
 	public static CustomMessage fullDate( LocalDateTime ldt) {
@@ -312,7 +313,7 @@ public final class DateTimeUtils {
 	}
 
 	public static CustomMessage shortDate() {
-		val localDate = LocalDateUtils.convert(new Date());
+		val localDate = LocalDateUtils.convert(ClockUtils.currentDate());
 		if (localDate != null) {
 			val day = localDate.getDayOfMonth();
 			val dayOfMonth = day >= 10 ? String.valueOf(day) : "0" + day;
@@ -332,14 +333,16 @@ public final class DateTimeUtils {
 		return firstLastDayOfMonthRange(DateFormatter.DATE_SIMPLE_FORMAT.getFormat(), DATE_RANGE_SEPARATOR);
 	}
 
+	/**
+	 * Returns the first and last day of the current month
+	 * 
+	 * @param format    {@code SimpleDateFormat} pattern
+	 * @param separator String
+	 * @return The formatted range, or empty if the pattern is not valid
+	 */
 	public static String firstLastDayOfMonthRange(String format, String separator) {
 		if (ValidatorUtils.isNotEmpty(format) && ValidatorUtils.isNotEmpty(separator)) {
-			val firstDay = DateUtils.convert(LocalDateUtils.firstDayOfMonth());
-			val lastDay = DateUtils.convert(LocalDateUtils.lastDayOfMonth());
-			if (firstDay != null && lastDay != null) {
-				val sdf = new SimpleDateFormat(format);
-				return sdf.format(firstDay) + separator + sdf.format(lastDay);
-			}
+			return formatRange(format, separator, LocalDateUtils.firstDayOfMonth(), LocalDateUtils.lastDayOfMonth());
 		}
 		return ValueUtils.EMPTY;
 	}
@@ -348,18 +351,35 @@ public final class DateTimeUtils {
 		return firstActualDayOfMonthRange(DateFormatter.DATE_SIMPLE_FORMAT.getFormat(), DATE_RANGE_SEPARATOR);
 	}
 
+	/**
+	 * Returns the first day of the current month and the current day
+	 * 
+	 * @param format    {@code SimpleDateFormat} pattern
+	 * @param separator String
+	 * @return The formatted range, or empty if the pattern is not valid
+	 */
 	public static String firstActualDayOfMonthRange(String format, String separator) {
 		if (ValidatorUtils.isNotEmpty(format) && ValidatorUtils.isNotEmpty(separator)) {
-			val firstDay = DateUtils.convert(LocalDateUtils.firstDayOfMonth());
-			val today = DateUtils.convert(LocalDateUtils.convert(new Date()));
-			if (firstDay != null && today != null) {
-				val sdf = new SimpleDateFormat(format);
-				return sdf.format(firstDay) + separator + sdf.format(today);
-			}
+			return formatRange(format, separator, LocalDateUtils.firstDayOfMonth(), ClockUtils.today());
 		}
 		return ValueUtils.EMPTY;
 	}
-	
+
+	/**
+	 * Formats the start of both days in the system default zone, as the
+	 * {@code java.util.Date} formatted by {@code SimpleDateFormat}
+	 */
+	private static String formatRange(String format, String separator, LocalDate start, LocalDate end) {
+		try {
+			val zone = ZoneId.systemDefault();
+			val dtf = LegacyDateFormat.ofPattern(format);
+			return dtf.format(start.atStartOfDay(zone)) + separator + dtf.format(end.atStartOfDay(zone));
+		} catch (DateTimeException | IllegalArgumentException e) {
+			log.error("#formatRange error - Invalid format {}: {}", format, e.getMessage());
+		}
+		return ValueUtils.EMPTY;
+	}
+
 	/**
 	 * Returns the duration (int) between a given date (Timestamp) and current date
 	 * 
@@ -388,9 +408,8 @@ public final class DateTimeUtils {
 	public static String formatDate(java.sql.Timestamp timestamp, DateFormatter formatter) {
 		if (timestamp != null && formatter != null) {
 			try {
-				val sdf = new SimpleDateFormat(formatter.getFormat());
-				return sdf.format(timestamp);
-			} catch (IllegalArgumentException e) {
+				return formatter.getFormatter().format(timestamp.toLocalDateTime());
+			} catch (DateTimeException | IllegalArgumentException e) {
 				log.error("#formatDate(java.sql.Timestamp) error {}", e);
 			}
 		}
@@ -1,7 +1,5 @@
 package mx.softixx.cis.common.core.datetime;
 
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
 import java.time.DateTimeException;
 import java.time.DayOfWeek;
 import java.time.Instant;
@@ -10,8 +8,6 @@ import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.ZoneId;
 import java.time.ZoneOffset;
-import java.time.ZonedDateTime;
-import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
 import java.util.Collections;
 import java.util.Date;
@@ -40,7 +36,7 @@ public final class DateUtils {
 	 * @return A string date formatted from the Date
 	 */
 	public static String formatDate(String pattern) {
-		return formatDate(new Date(), pattern);
+		return formatDate(ClockUtils.currentDate(), pattern);
 	}
 
 	/**
@@ -68,7 +64,7 @@ public final class DateUtils {
 	public static String formatDate(LocalDate ld, String pattern) {
 		try {
 			if (ld != null && pattern != null) {
-				return ld.format(DateTimeFormatter.ofPattern(pattern));
+				return ld.format(DateFormatter.ofPattern(pattern));
 			}
 		} catch (DateTimeException | IllegalArgumentException e) {
 			log.error(LOG_FORMAT_DATE_ERROR, e.getMessage());
@@ -86,7 +82,7 @@ public final class DateUtils {
 	public static String formatDate(LocalDateTime ldt, String pattern) {
 		try {
 			if (ldt != null && ValidatorUtils.isNotEmpty(pattern)) {
-				return ldt.format(DateTimeFormatter.ofPattern(pattern));
+				return ldt.format(DateFormatter.ofPattern(pattern));
 			}
 		} catch (DateTimeException | IllegalArgumentException e) {
 			log.error(LOG_FORMAT_DATE_ERROR, e.getMessage());
@@ -102,7 +98,7 @@ public final class DateUtils {
 	 * @see DateFormatter
 	 */
 	public static String formatDate(DateFormatter formatter) {
-		return formatDate(new Date(), formatter);
+		return formatDate(ClockUtils.currentDate(), formatter);
 	}
 
 	/**
@@ -116,10 +112,9 @@ public final class DateUtils {
 	public static String formatDate(Date date, DateFormatter formatter) {
 		try {
 			if (date != null && formatter != null) {
-				val sdf = new SimpleDateFormat(formatter.getFormat());
-				return sdf.format(date).toLowerCase();
+				return formatter.getFormatter().format(toLocalDateTime(date)).toLowerCase();
 			}
-		} catch (IllegalArgumentException e) {
+		} catch (DateTimeException | IllegalArgumentException e) {
 			log.error(LOG_FORMAT_DATE_ERROR, e.getMessage());
 		}
 		return null;
@@ -136,7 +131,7 @@ public final class DateUtils {
 	public static String formatDate(LocalDate localDate, DateFormatter formatter) {
 		try {
 			if (localDate != null) {
-				return localDate.format(DateTimeFormatter.ofPattern(formatter.getFormat()));
+				return localDate.format(formatter.getFormatter());
 			}
 		} catch (DateTimeException | IllegalArgumentException e) {
 			log.error(LOG_FORMAT_DATE_ERROR, e.getMessage());
@@ -155,7 +150,7 @@ public final class DateUtils {
 	public static String formatDate(LocalDateTime ldt, DateFormatter formatter) {
 		try {
 			if (ldt != null) {
-				return ldt.format(DateTimeFormatter.ofPattern(formatter.getFormat()));
+				return ldt.format(formatter.getFormatter());
 			}
 		} catch (DateTimeException | IllegalArgumentException e) {
 			log.error(LOG_FORMAT_DATE_ERROR, e.getMessage());
@@ -166,9 +161,8 @@ public final class DateUtils {
 	public static String formatDate(java.sql.Date sqlDate, DateFormatter formatter) {
 		if (sqlDate != null && formatter != null) {
 			try {
-				val sdf = new SimpleDateFormat(formatter.getFormat());
-				return sdf.format(sqlDate);
-			} catch (IllegalArgumentException e) {
+				return formatter.getFormatter().format(toLocalDateTime(sqlDate));
+			} catch (DateTimeException | IllegalArgumentException e) {
 				log.error(LOG_FORMAT_DATE_ERROR, e.getMessage());
 			}
 		}
@@ -199,13 +193,28 @@ public final class DateUtils {
 	 * @see DateFormatter
 	 */
 	public static Date parseDate(String dateStr, String format) {
-		try {
-			if (dateStr != null && format != null) {
-				val sdf = new SimpleDateFormat(format);
-				return sdf.parse(dateStr);
+		if (dateStr != null && format != null) {
+			val date = LenientDateParser.parse(dateStr, format);
+			if (date == null) {
+				log.error("#parseDate error - Unparseable date: \"{}\" with format {}", dateStr, format);
 			}
-		} catch (IllegalArgumentException | ParseException e) {
-			log.error("#parseDate error {}", e);
+			return date;
+		}
+		return null;
+	}
+
+	/**
+	 * Parses a date with a specific format without logging nor throwing when the
+	 * date is invalid. Keeps the lenient semantics of {@code SimpleDateFormat}
+	 * (i.e. 32/01/2020 is parsed as 01/02/2020)
+	 * 
+	 * @param dateStr   String date
+	 * @param formatter {@link DateFormatter}
+	 * @return A Date parsed from the string or null if it cannot be parsed
+	 */
+	public static Date tryParseDate(String dateStr, DateFormatter formatter) {
+		if (dateStr != null && formatter != null) {
+			return LenientDateParser.parse(dateStr, formatter.getFormat());
 		}
 		return null;
 	}
@@ -214,7 +223,7 @@ public final class DateUtils {
 		if (ValidatorUtils.isNotEmpty(dateStr) && ValidatorUtils.isNotEmpty(formatter)
 				&& ValidatorUtils.isNotEmpty(useLastTime)) {
 			val date = parseDate(dateStr, formatter);
-			val time = useLastTime ? parseDate(LAST_TIME_OF_DATE, formatter) : new Date();
+			val time = useLastTime ? parseDate(LAST_TIME_OF_DATE, formatter) : ClockUtils.currentDate();
 			val ldt = LocalDateTimeUtils.convert(date, time);
 			return convert(ldt);
 		}
@@ -284,7 +293,7 @@ public final class DateUtils {
 	 * @return the UTC date
 	 */
 	public static Date dateUTC() {
-		val instant = ZonedDateTime.now(ZoneOffset.UTC).toLocalDateTime().atZone(ZoneId.systemDefault()).toInstant();
+		val instant = ClockUtils.nowUTC().atZone(ZoneId.systemDefault()).toInstant();
 		return convert(instant);
 	}
 
@@ -320,7 +329,9 @@ public final class DateUtils {
 		try {
 			val ldt = LocalDateTimeUtils.convert(date);
 			if (ldt != null && timeZone != null) {
-				return convert(ldt.atZone(ZoneOffset.UTC).withZoneSameInstant(ZoneId.of(timeZone)).toInstant());
+				// ##### The instant does not depend on the zone, which is only validated
+				ZoneConverter.of(timeZone);
+				return convert(ldt.toInstant(ZoneOffset.UTC));
 			}
 		} catch (DateTimeException e) {
 			log.error("#convertFromUTC error", e.getMessage());
@@ -328,6 +339,11 @@ public final class DateUtils {
 		return null;
 	}
 
+	private static LocalDateTime toLocalDateTime(Date date) {
+		// ##### java.sql.Date and java.sql.Time do not support toInstant()
+		return LocalDateTime.ofInstant(Instant.ofEpochMilli(date.getTime()), ZoneId.systemDefault());
+	}
+
 	public static String sanitizeDate(String dateStr) {
 		if (ValidatorUtils.isNotEmpty(dateStr)) {
 			return dateStr.toUpperCase();
@@ -390,7 +406,7 @@ public final class DateUtils {
 	 * @return The current date plus the indicated years
 	 */
 	public static Date plusYear(Long years) {
-		return plusYear(new Date(), years);
+		return plusYear(ClockUtils.currentDate(), years);
 	}
 	
 	/**
@@ -416,7 +432,7 @@ public final class DateUtils {
 	 * @return The current date minus the indicated years
 	 */
 	public static Date minusYear(Long years) {
-		return minusYear(new Date(), years);
+		return minusYear(ClockUtils.currentDate(), years);
 	}
 	
 	/**
@@ -441,7 +457,7 @@ public final class DateUtils {
 	 * @return The current date plus the indicated months
 	 */
 	public static Date plusMonth(Long months) {
-		return plusMonth(new Date(), months);
+		return plusMonth(ClockUtils.currentDate(), months);
 	}
 	
 	/**
@@ -467,7 +483,7 @@ public final class DateUtils {
 	 * @return The current date minus the indicated months
 	 */
 	public static Date minusMonth(Long months) {
-		return minusMonth(new Date(), months);
+		return minusMonth(ClockUtils.currentDate(), months);
 	}
 	
 	/**
@@ -492,7 +508,7 @@ public final class DateUtils {
 	 * @return The current date plus the indicated days
 	 */
 	public static Date plusDays(Long days) {
-		return plusDays(new Date(), days);
+		return plusDays(ClockUtils.currentDate(), days);
 	}
 	
 	/**
@@ -518,7 +534,7 @@ public final class DateUtils {
 	 * @return The current date minus the indicated days
 	 */
 	public static Date minusDays(Long days) {
-		return minusDays(new Date(), days);
+		return minusDays(ClockUtils.currentDate(), days);
 	}
 	
 	/**
@@ -543,7 +559,7 @@ public final class DateUtils {
 	 * @return The current date plus the indicated hours
 	 */
 	public static Date plusHours(Long hours) {
-		return plusHours(new Date(), hours);
+		return plusHours(ClockUtils.currentDate(), hours);
 	}
 		
 	/**
@@ -569,7 +585,7 @@ public final class DateUtils {
 	 * @return The current date minus the indicated hours
 	 */
 	public static Date minusHours(Long hours) {
-		return minusHours(new Date(), hours);
+		return minusHours(ClockUtils.currentDate(), hours);
 	}
 	
 	/**
@@ -594,7 +610,7 @@ public final class DateUtils {
 	 * @return The current date plus the indicated minutes
 	 */
 	public static Date plusMinutes(Long minutes) {
-		return plusMinutes(new Date(), minutes);
+		return plusMinutes(ClockUtils.currentDate(), minutes);
 	}
 	
 	/**
@@ -620,7 +636,7 @@ public final class DateUtils {
 	 * @return The current date minus the indicated minutes
 	 */
 	public static Date minusMinutes(Long minutes) {
-		return minusMinutes(new Date(), minutes);
+		return minusMinutes(ClockUtils.currentDate(), minutes);
 	}
 	
 	/**
@@ -645,7 +661,7 @@ public final class DateUtils {
 	 * @return The current date plus the indicated seconds
 	 */
 	public static Date plusSeconds(Long seconds) {
-		return plusSeconds(new Date(), seconds);
+		return plusSeconds(ClockUtils.currentDate(), seconds);
 	}
 	
 	/**
@@ -671,7 +687,7 @@ public final class DateUtils {
 	 * @return The current date minus the indicated seconds
 	 */
 	public static Date minusSeconds(Long seconds) {
-		return minusSeconds(new Date(), seconds);
+		return minusSeconds(ClockUtils.currentDate(), seconds);
 	}
 	
 	/**
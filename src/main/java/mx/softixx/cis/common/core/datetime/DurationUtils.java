@@ -1,12 +1,10 @@
 package mx.softixx.cis.common.core.datetime;
 
 import java.time.DateTimeException;
-import java.time.DayOfWeek;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.Date;
-import java.util.EnumSet;
 
 import lombok.val;
 import lombok.extern.slf4j.Slf4j;
@@ -111,20 +109,7 @@ public final class DurationUtils {
 	 * @return the duration (int) in days between two dates without weekends
 	 */
 	public static Integer toDaysWithoutWeekend(LocalDateTime ldtOne, LocalDateTime ldtTwo) {
-		if (ldtOne != null && ldtTwo != null) {
-			var count = 0;
-			val weekend = EnumSet.of(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY);
-			while (ldtOne.isBefore(ldtTwo)) {
-				if (!weekend.contains(ldtOne.getDayOfWeek())) {
-					// It is not weekend
-					count++;
-				}
-				// Increment a day
-				ldtOne = ldtOne.plusDays(1);
-			}
-			return count;
-		}
-		return null;
+		return BusinessCalendar.WEEKENDS_ONLY.countBusinessDays(ldtOne, ldtTwo);
 	}
 
 	/**
@@ -0,0 +1,376 @@
+package mx.softixx.cis.common.core.datetime;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+
+import lombok.val;
+import mx.softixx.cis.common.core.collection.LongList;
+
+/**
+ * Index of closed intervals {@code [start, end]} over primitive instants
+ * (epoch milliseconds, epoch minutes...), each one identified by a
+ * {@code long} id, i.e. the appointments of a doctor.
+ * <p>
+ * The intervals are kept in a treap sorted by start and augmented with the
+ * greatest end of each subtree, so inserts and removals take logarithmic time
+ * and a query visits only the subtrees that may contain a result: a single path
+ * to know if there is any overlap and O(log n + k) to list k results.
+ * </p>
+ * <p>
+ * {@link #hasOverlap(long, long)} and {@link #overlapping(long, long)} use the
+ * rules of {@link LocalDateTimeUtils#hasOverlap(LocalDateTime, LocalDateTime, LocalDateTime, LocalDateTime)}
+ * with the queried interval as the first one: an interval of the index matches
+ * if it contains the start or the end of the queried interval. An interval
+ * strictly inside the queried one is therefore not reported by them, use
+ * {@link #intersects(long, long)} and {@link #intersecting(long, long)} to
+ * find any common instant.
+ * </p>
+ * <p>
+ * This class is not thread-safe.
+ * </p>
+ *
+ * @author Maikel Guerra Ferrer - mguerraferrer@gmail.com
+ *
+ */
+public final class IntervalIndex {
+
+	private final SplittableRandom random = new SplittableRandom();
+	private Node root;
+	private int size;
+
+	/**
+	 * Adds an interval
+	 *
+	 * @param id    long
+	 * @param start Start inclusive
+	 * @param end   End inclusive
+	 * @return True if added, false if there is already an interval with the same
+	 *         id and start
+	 * @throws IllegalArgumentException If the start is after the end
+	 */
+	public boolean add(final long id, final long start, final long end) {
+		checkInterval(start, end);
+		val sizeBefore = size;
+		root = insert(root, new Node(id, start, end, random.nextInt()));
+		return size > sizeBefore;
+	}
+
+	/**
+	 * Removes an interval
+	 *
+	 * @param id    long
+	 * @param start Start of the interval
+	 * @return True if removed, false if it was not found
+	 */
+	public boolean remove(final long id, final long start) {
+		val sizeBefore = size;
+		root = delete(root, id, start);
+		return size < sizeBefore;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	public void clear() {
+		root = null;
+		size = 0;
+	}
+
+	/**
+	 * Evaluates if any interval contains the start or the end of the given one, as
+	 * {@code LocalDateTimeUtils.hasOverlap(start, end, intervalStart, intervalEnd)}
+	 *
+	 * @param start Start inclusive
+	 * @param end   End inclusive
+	 * @return True if any interval overlaps, otherwise false
+	 */
+	public boolean hasOverlap(final long start, final long end) {
+		checkInterval(start, end);
+		// ##### An interval containing the end and starting before the start also contains the start
+		return any(start, start) || (start < end && any(end, end));
+	}
+
+	/**
+	 * Returns the ids of the intervals that contain the start or the end of the
+	 * given one, as {@link #hasOverlap(long, long)}
+	 *
+	 * @param start Start inclusive
+	 * @param end   End inclusive
+	 * @return Ids sorted by the start of their intervals
+	 */
+	public long[] overlapping(final long start, final long end) {
+		checkInterval(start, end);
+		val result = new LongList();
+		collect(root, Long.MIN_VALUE, start, start, result);
+		if (start < end) {
+			collect(root, start + 1, end, end, result);
+		}
+		return result.toArray();
+	}
+
+	/**
+	 * Evaluates if any interval has an instant in common with the given one
+	 *
+	 * @param start Start inclusive
+	 * @param end   End inclusive
+	 * @return True if any interval intersects, otherwise false
+	 */
+	public boolean intersects(final long start, final long end) {
+		checkInterval(start, end);
+		return any(start, end);
+	}
+
+	/**
+	 * Returns the ids of the intervals that have an instant in common with the
+	 * given one
+	 *
+	 * @param start Start inclusive
+	 * @param end   End inclusive
+	 * @return Ids sorted by the start of their intervals
+	 */
+	public long[] intersecting(final long start, final long end) {
+		checkInterval(start, end);
+		val result = new LongList();
+		collect(root, Long.MIN_VALUE, end, start, result);
+		return result.toArray();
+	}
+
+	/**
+	 * Returns the instants of a range not covered by any interval
+	 *
+	 * @param from Start inclusive
+	 * @param to   End inclusive
+	 * @return Closed free intervals as {@code {start, end}}, sorted
+	 */
+	public List<long[]> freeSlots(final long from, final long to) {
+		checkInterval(from, to);
+		val slots = new ArrayList<long[]>();
+		val cursor = new long[] { from };
+		val done = new boolean[1];
+		visit(root, Long.MIN_VALUE, to, from, node -> {
+			if (done[0]) {
+				return;
+			}
+			if (node.start > cursor[0]) {
+				slots.add(new long[] { cursor[0], node.start - 1 });
+			}
+			if (node.end >= to) {
+				done[0] = true;
+			} else {
+				cursor[0] = Math.max(cursor[0], node.end + 1);
+			}
+		});
+		if (!done[0]) {
+			slots.add(new long[] { cursor[0], to });
+		}
+		return slots;
+	}
+
+	// ##### LocalDateTime as epoch milliseconds in UTC, sub-millisecond parts are truncated
+
+	/**
+	 * Adds an interval of date-times
+	 *
+	 * @see #add(long, long, long)
+	 */
+	public boolean add(final long id, final LocalDateTime start, final LocalDateTime end) {
+		return add(id, toKey(start), toKey(end));
+	}
+
+	/**
+	 * Removes an interval of date-times
+	 *
+	 * @see #remove(long, long)
+	 */
+	public boolean remove(final long id, final LocalDateTime start) {
+		return remove(id, toKey(start));
+	}
+
+	/**
+	 * @see #hasOverlap(long, long)
+	 */
+	public boolean hasOverlap(final LocalDateTime start, final LocalDateTime end) {
+		return hasOverlap(toKey(start), toKey(end));
+	}
+
+	/**
+	 * @see #overlapping(long, long)
+	 */
+	public long[] overlapping(final LocalDateTime start, final LocalDateTime end) {
+		return overlapping(toKey(start), toKey(end));
+	}
+
+	/**
+	 * @param ldt LocalDateTime
+	 * @return Epoch milliseconds of the date-time in UTC
+	 */
+	public static long toKey(final LocalDateTime ldt) {
+		return ldt.toInstant(ZoneOffset.UTC).toEpochMilli();
+	}
+
+	private static void checkInterval(final long start, final long end) {
+		if (start > end) {
+			throw new IllegalArgumentException("Start " + start + " is after end " + end);
+		}
+	}
+
+	/**
+	 * Searches a single path: if the left subtree reaches the start but has no
+	 * intersection, its intervals and those on the right begin after the end
+	 */
+	private boolean any(final long start, final long end) {
+		var node = root;
+		while (node != null) {
+			if (node.start <= end && node.end >= start) {
+				return true;
+			}
+			node = node.left != null && node.left.maxEnd >= start ? node.left : node.right;
+		}
+		return false;
+	}
+
+	private static void collect(final Node node, final long startLow, final long startHigh, final long endMin,
+			final LongList result) {
+		visit(node, startLow, startHigh, endMin, n -> result.add(n.id));
+	}
+
+	/**
+	 * Visits in order the nodes with a start in [startLow, startHigh] and an end
+	 * not lower than endMin
+	 */
+	private static void visit(final Node node, final long startLow, final long startHigh, final long endMin,
+			final Consumer<Node> visitor) {
+		if (node == null || node.maxEnd < endMin) {
+			return;
+		}
+		if (node.start >= startLow) {
+			visit(node.left, startLow, startHigh, endMin, visitor);
+		}
+		if (node.start >= startLow && node.start <= startHigh && node.end >= endMin) {
+			visitor.accept(node);
+		}
+		if (node.start <= startHigh) {
+			visit(node.right, startLow, startHigh, endMin, visitor);
+		}
+	}
+
+	private Node insert(final Node node, final Node created) {
+		if (node == null) {
+			size++;
+			return created;
+		}
+		val comparison = compare(created.start, created.id, node);
+		if (comparison == 0) {
+			return node;
+		}
+		if (comparison < 0) {
+			node.left = insert(node.left, created);
+			if (node.left.priority > node.priority) {
+				return rotateRight(node);
+			}
+		} else {
+			node.right = insert(node.right, created);
+			if (node.right.priority > node.priority) {
+				return rotateLeft(node);
+			}
+		}
+		node.update();
+		return node;
+	}
+
+	private Node delete(final Node node, final long id, final long start) {
+		if (node == null) {
+			return null;
+		}
+		val comparison = compare(start, id, node);
+		if (comparison < 0) {
+			node.left = delete(node.left, id, start);
+		} else if (comparison > 0) {
+			node.right = delete(node.right, id, start);
+		} else {
+			size--;
+			return merge(node.left, node.right);
+		}
+		node.update();
+		return node;
+	}
+
+	private static Node merge(final Node left, final Node right) {
+		if (left == null) {
+			return right;
+		}
+		if (right == null) {
+			return left;
+		}
+		if (left.priority > right.priority) {
+			left.right = merge(left.right, right);
+			left.update();
+			return left;
+		}
+		right.left = merge(left, right.left);
+		right.update();
+		return right;
+	}
+
+	private static Node rotateRight(final Node node) {
+		val left = node.left;
+		node.left = left.right;
+		left.right = node;
+		node.update();
+		left.update();
+		return left;
+	}
+
+	private static Node rotateLeft(final Node node) {
+		val right = node.right;
+		node.right = right.left;
+		right.left = node;
+		node.update();
+		right.update();
+		return right;
+	}
+
+	private static int compare(final long start, final long id, final Node node) {
+		val comparison = Long.compare(start, node.start);
+		return comparison != 0 ? comparison : Long.compare(id, node.id);
+	}
+
+	private static final class Node {
+		private final long id;
+		private final long start;
+		private final long end;
+		private final int priority;
+		private long maxEnd;
+		private Node left;
+		private Node right;
+
+		private Node(final long id, final long start, final long end, final int priority) {
+			this.id = id;
+			this.start = start;
+			this.end = end;
+			this.priority = priority;
+			this.maxEnd = end;
+		}
+
+		private void update() {
+			var max = end;
+			if (left != null && left.maxEnd > max) {
+				max = left.maxEnd;
+			}
+			if (right != null && right.maxEnd > max) {
+				max = right.maxEnd;
+			}
+			maxEnd = max;
+		}
+	}
+
+}
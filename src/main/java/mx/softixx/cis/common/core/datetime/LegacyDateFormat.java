@@ -0,0 +1,250 @@
+package mx.softixx.cis.common.core.datetime;
+
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.DecimalStyle;
+import java.time.format.SignStyle;
+import java.time.format.TextStyle;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalField;
+import java.time.temporal.WeekFields;
+import java.util.Calendar;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import lombok.val;
+
+/**
+ * Translates {@code SimpleDateFormat} patterns to {@code DateTimeFormatter}.
+ * <p>
+ * Several letters have another meaning in {@code DateTimeFormatter} ({@code u},
+ * {@code F}, {@code S}...) or other limits in the number of letters, so the
+ * pattern is read with the {@code SimpleDateFormat} rules and each field is
+ * appended to a {@code DateTimeFormatterBuilder}: numeric fields are padded to
+ * the number of letters, text fields take the {@code Calendar} short names
+ * below 4 letters and the long names from 4, {@code yy} is the
+ * year with 2 digits and any number of {@code Z} is the RFC 822 offset.
+ * Invalid patterns throw {@code IllegalArgumentException} as the
+ * {@code SimpleDateFormat} constructor.
+ * </p>
+ * <p>
+ * The formatters are cached by pattern and use the default {@code FORMAT}
+ * locale of the moment they are built.
+ * </p>
+ *
+ * @author Maikel Guerra Ferrer - mguerraferrer@gmail.com
+ *
+ */
+final class LegacyDateFormat {
+
+	private static final String PATTERN_LETTERS = "GyMdkHmsSEDFwWahKzZYuXL";
+	private static final int MAX_WIDTH = 19;
+	private static final int STANDALONE = Calendar.SHORT_STANDALONE & ~Calendar.SHORT;
+	private static final Map<String, DateTimeFormatter> CACHE = new ConcurrentHashMap<>();
+
+	private LegacyDateFormat() {
+	}
+
+	/**
+	 * Returns the formatter of a {@code SimpleDateFormat} pattern
+	 *
+	 * @param pattern {@code SimpleDateFormat} pattern
+	 * @return Cached {@code DateTimeFormatter}
+	 * @throws IllegalArgumentException If the pattern is not valid
+	 */
+	static DateTimeFormatter ofPattern(final String pattern) {
+		var dtf = CACHE.get(pattern);
+		if (dtf != null) {
+			return dtf;
+		}
+
+		dtf = compile(pattern);
+		if (CACHE.size() < DateFormatter.MAX_CACHED_PATTERNS) {
+			CACHE.putIfAbsent(pattern, dtf);
+		}
+		return dtf;
+	}
+
+	private static DateTimeFormatter compile(final String pattern) {
+		val locale = Locale.getDefault(Locale.Category.FORMAT);
+		val onlyMonth = isOnlyMonth(pattern);
+		val builder = new DateTimeFormatterBuilder();
+		val length = pattern.length();
+		var quoted = false;
+		var i = 0;
+		while (i < length) {
+			val c = pattern.charAt(i);
+			if (c == '\'') {
+				// ##### Two quotes are a quote, inside or outside of a quoted text
+				if (i + 1 < length && pattern.charAt(i + 1) == '\'') {
+					builder.appendLiteral('\'');
+					i += 2;
+				} else {
+					quoted = !quoted;
+					i++;
+				}
+				continue;
+			}
+			if (quoted || !isLetter(c)) {
+				builder.appendLiteral(c);
+				i++;
+				continue;
+			}
+
+			var j = i + 1;
+			while (j < length && pattern.charAt(j) == c) {
+				j++;
+			}
+			appendField(builder, locale, c, j - i, onlyMonth);
+			i = j;
+		}
+
+		if (quoted) {
+			throw new IllegalArgumentException("Unterminated quote");
+		}
+		return builder.toFormatter(locale).withDecimalStyle(DecimalStyle.of(locale));
+	}
+
+	private static void appendField(final DateTimeFormatterBuilder builder, final Locale locale, final char letter,
+			final int count, final boolean onlyMonth) {
+		val weekFields = WeekFields.of(locale);
+		val style = count < 4 ? Calendar.SHORT : Calendar.LONG;
+		switch (letter) {
+		case 'G' -> builder.appendText(ChronoField.ERA, names(locale, Calendar.ERA, style));
+		case 'y' -> appendYear(builder, locale, ChronoField.YEAR_OF_ERA, count);
+		case 'Y' -> appendYear(builder, locale, weekFields.weekBasedYear(), count);
+		case 'M' -> appendMonth(builder, locale, count, onlyMonth ? style | STANDALONE : style);
+		case 'L' -> appendMonth(builder, locale, count, style | STANDALONE);
+		case 'w' -> appendNumber(builder, locale, weekFields.weekOfWeekBasedYear(), count);
+		case 'W' -> appendNumber(builder, locale, weekFields.weekOfMonth(), count);
+		case 'D' -> appendNumber(builder, locale, ChronoField.DAY_OF_YEAR, count);
+		case 'd' -> appendNumber(builder, locale, ChronoField.DAY_OF_MONTH, count);
+		case 'F' -> appendNumber(builder, locale, ChronoField.ALIGNED_WEEK_OF_MONTH, count);
+		case 'E' -> builder.appendText(ChronoField.DAY_OF_WEEK, names(locale, Calendar.DAY_OF_WEEK, style));
+		case 'u' -> appendNumber(builder, locale, ChronoField.DAY_OF_WEEK, count);
+		case 'a' -> builder.appendText(ChronoField.AMPM_OF_DAY, names(locale, Calendar.AM_PM, style));
+		case 'H' -> appendNumber(builder, locale, ChronoField.HOUR_OF_DAY, count);
+		case 'k' -> appendNumber(builder, locale, ChronoField.CLOCK_HOUR_OF_DAY, count);
+		case 'K' -> appendNumber(builder, locale, ChronoField.HOUR_OF_AMPM, count);
+		case 'h' -> appendNumber(builder, locale, ChronoField.CLOCK_HOUR_OF_AMPM, count);
+		case 'm' -> appendNumber(builder, locale, ChronoField.MINUTE_OF_HOUR, count);
+		case 's' -> appendNumber(builder, locale, ChronoField.SECOND_OF_MINUTE, count);
+		case 'S' -> appendNumber(builder, locale, ChronoField.MILLI_OF_SECOND, count);
+		case 'z' -> builder.appendZoneText(count < 4 ? TextStyle.SHORT : TextStyle.FULL);
+		case 'Z' -> builder.appendOffset("+HHMM", "+0000");
+		case 'X' -> appendIsoOffset(builder, count);
+		default -> throw new IllegalArgumentException("Illegal pattern character '" + letter + "'");
+		}
+	}
+
+	private static void appendYear(final DateTimeFormatterBuilder builder, final Locale locale,
+			final TemporalField field, final int count) {
+		if (count == 2) {
+			builder.appendValueReduced(field, 2, 2, 2000);
+		} else {
+			appendNumber(builder, locale, field, count);
+		}
+	}
+
+	private static void appendMonth(final DateTimeFormatterBuilder builder, final Locale locale, final int count,
+			final int style) {
+		if (count < 3) {
+			appendNumber(builder, locale, ChronoField.MONTH_OF_YEAR, count);
+			return;
+		}
+		var names = names(locale, Calendar.MONTH, style);
+		if (names.isEmpty()) {
+			names = names(locale, Calendar.MONTH, style & ~STANDALONE);
+		}
+		builder.appendText(ChronoField.MONTH_OF_YEAR, names);
+	}
+
+	/**
+	 * Appends a number with at least {@code count} digits, as
+	 * {@code SimpleDateFormat} zero pads the numbers
+	 */
+	private static void appendNumber(final DateTimeFormatterBuilder builder, final Locale locale,
+			final TemporalField field, final int count) {
+		if (count == 1) {
+			builder.appendValue(field);
+		} else if (count <= MAX_WIDTH) {
+			builder.appendValue(field, count, MAX_WIDTH, SignStyle.NORMAL);
+		} else {
+			builder.padNext(count, DecimalStyle.of(locale).getZeroDigit()).appendValue(field);
+		}
+	}
+
+	private static void appendIsoOffset(final DateTimeFormatterBuilder builder, final int count) {
+		switch (count) {
+		case 1 -> builder.appendOffset("+HH", "Z");
+		case 2 -> builder.appendOffset("+HHMM", "Z");
+		case 3 -> builder.appendOffset("+HH:MM", "Z");
+		default -> throw new IllegalArgumentException("invalid ISO 8601 format: length=" + count);
+		}
+	}
+
+	/**
+	 * Names of a {@code Calendar} field by {@code ChronoField} value, as
+	 * {@code Calendar#getDisplayName(int, int, Locale)}
+	 */
+	private static Map<Long, String> names(final Locale locale, final int field, final int style) {
+		val calendar = Calendar.getInstance(locale);
+		val names = new HashMap<Long, String>();
+		for (int value = calendar.getMinimum(field); value <= calendar.getMaximum(field); value++) {
+			calendar.clear();
+			calendar.set(field, value);
+			val name = calendar.getDisplayName(field, style, locale);
+			if (name != null) {
+				names.put(chronoValue(field, value), name);
+			}
+		}
+		return names;
+	}
+
+	private static long chronoValue(final int field, final int value) {
+		return switch (field) {
+		case Calendar.MONTH -> value + 1L;
+		case Calendar.DAY_OF_WEEK -> value == Calendar.SUNDAY ? 7L : value - 1L;
+		default -> value;
+		};
+	}
+
+	/**
+	 * {@code SimpleDateFormat} takes the standalone month names when the month is
+	 * the only field of the pattern
+	 */
+	private static boolean isOnlyMonth(final String pattern) {
+		var quoted = false;
+		var fields = 0;
+		var previous = '\0';
+		for (int i = 0; i < pattern.length(); i++) {
+			val c = pattern.charAt(i);
+			if (c == '\'') {
+				quoted = !quoted;
+				previous = c;
+				continue;
+			}
+			if (!quoted && ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z'))) {
+				if (c != 'M') {
+					return false;
+				}
+				if (previous != 'M') {
+					fields++;
+				}
+			}
+			previous = quoted ? '\0' : c;
+		}
+		return fields == 1;
+	}
+
+	private static boolean isLetter(final char c) {
+		val letter = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+		if (letter && PATTERN_LETTERS.indexOf(c) < 0) {
+			throw new IllegalArgumentException("Illegal pattern character '" + c + "'");
+		}
+		return letter;
+	}
+
+}
@@ -0,0 +1,329 @@
+package mx.softixx.cis.common.core.datetime;
+
+import java.text.ParsePosition;
+import java.text.SimpleDateFormat;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import lombok.val;
+
+/**
+ * Exception-free replacement of {@code SimpleDateFormat#parse(String)} for
+ * numeric patterns (y, M, d, H, h, k, K, m, s, S and literals).
+ * <p>
+ * It keeps the {@code SimpleDateFormat} lenient semantics: numeric fields not
+ * followed by another numeric field accept any number of digits, spaces and
+ * tabs before a field are skipped, out of range values roll over (i.e.
+ * 32/01/2020 is 01/02/2020) and the text after the last field is ignored.
+ * </p>
+ * <p>
+ * Patterns with text fields (month names, AM/PM markers, time zones...), dates
+ * before 1901 (julian calendar), dates before the last change of the standard
+ * offset of the default zone (local mean time and other historical offsets),
+ * dates after 2036 in zones with transitions ({@code java.util.TimeZone} only
+ * keeps the transitions up to 2037 and then applies its own rule) and values
+ * that do not fit in the fast path are delegated to
+ * {@code SimpleDateFormat#parse(String, ParsePosition)}, which does not throw
+ * either.
+ * </p>
+ * <p>
+ * As {@code Calendar}, a local date-time in a DST overlap takes the later
+ * offset and one in a gap is moved forward by the length of the gap.
+ * </p>
+ *
+ * @author Maikel Guerra Ferrer - mguerraferrer@gmail.com
+ *
+ */
+final class LenientDateParser {
+
+	private static final int MAX_CACHED_PATTERNS = 512;
+	private static final int MAX_DIGITS = 9;
+	private static final int MIN_YEAR = 1901;
+	private static final LocalDateTime LAST_TRANSITIONS_YEAR = LocalDateTime.of(2037, 1, 1, 0, 0);
+	private static final LocalDateTime FALLBACK = LocalDateTime.MIN;
+	private static final Map<String, Optional<LenientDateParser>> CACHE = new ConcurrentHashMap<>();
+
+	/**
+	 * Local date-times of each zone resolved without {@code SimpleDateFormat}
+	 */
+	private static final Map<ZoneId, FastRange> FAST_RANGES = new ConcurrentHashMap<>();
+
+	/**
+	 * Range {@code [from, to)} of local date-times where the offsets of
+	 * {@code ZoneRules} and {@code java.util.TimeZone} are the same
+	 */
+	private static final class FastRange {
+		private final LocalDateTime from;
+		private final LocalDateTime to;
+
+		private FastRange(LocalDateTime from, LocalDateTime to) {
+			this.from = from;
+			this.to = to;
+		}
+
+		private boolean contains(LocalDateTime ldt) {
+			return !ldt.isBefore(from) && ldt.isBefore(to);
+		}
+	}
+
+	/**
+	 * Literal characters are stored as fields with {@code letter == 0}
+	 */
+	private static final class Field {
+		private final char letter;
+		private final int count;
+		private final char literal;
+		private boolean obeyCount;
+
+		private Field(char letter, int count, char literal) {
+			this.letter = letter;
+			this.count = count;
+			this.literal = literal;
+		}
+	}
+
+	private final String pattern;
+	private final Field[] fields;
+
+	private LenientDateParser(String pattern, Field[] fields) {
+		this.pattern = pattern;
+		this.fields = fields;
+	}
+
+	/**
+	 * Parses the text with the given pattern
+	 *
+	 * @param text    String date
+	 * @param pattern {@code SimpleDateFormat} pattern
+	 * @return {@code Date} or null if the text cannot be parsed or the pattern is
+	 *         invalid
+	 */
+	static Date parse(final String text, final String pattern) {
+		var parser = CACHE.get(pattern);
+		if (parser == null) {
+			parser = Optional.ofNullable(compile(pattern));
+			if (CACHE.size() < MAX_CACHED_PATTERNS) {
+				CACHE.putIfAbsent(pattern, parser);
+			}
+		}
+
+		if (parser.isPresent()) {
+			val ldt = parser.get().parse(text);
+			if (ldt == null) {
+				return null;
+			}
+			if (ldt != FALLBACK) {
+				val zone = ZoneId.systemDefault();
+				if (FAST_RANGES.computeIfAbsent(zone, LenientDateParser::fastRange).contains(ldt)) {
+					return Date.from(ZonedDateTime.ofLocal(ldt, zone, null).withLaterOffsetAtOverlap().toInstant());
+				}
+			}
+		}
+		return fallback(text, pattern);
+	}
+
+	/**
+	 * Starts after the last historical transition that changes the standard
+	 * offset, the ones after it are only DST changes
+	 */
+	private static FastRange fastRange(final ZoneId zone) {
+		val rules = zone.getRules();
+		if (rules.isFixedOffset()) {
+			return new FastRange(LocalDateTime.MIN, LocalDateTime.MAX);
+		}
+		val transitions = rules.getTransitions();
+		for (int i = transitions.size() - 1; i >= 0; i--) {
+			val transition = transitions.get(i);
+			val instant = transition.getInstant();
+			if (!rules.getStandardOffset(instant.minusSeconds(1)).equals(rules.getStandardOffset(instant))) {
+				val before = transition.getDateTimeBefore();
+				val after = transition.getDateTimeAfter();
+				return new FastRange(before.isAfter(after) ? before : after, LAST_TRANSITIONS_YEAR);
+			}
+		}
+		return new FastRange(LocalDateTime.MIN, LAST_TRANSITIONS_YEAR);
+	}
+
+	private static Date fallback(final String text, final String pattern) {
+		try {
+			return new SimpleDateFormat(pattern).parse(text, new ParsePosition(0));
+		} catch (IllegalArgumentException e) {
+			// ##### Invalid pattern
+			return null;
+		}
+	}
+
+	/**
+	 * Compiles the pattern in fields
+	 *
+	 * @return The parser or null if the pattern is not supported by the fast path
+	 */
+	private static LenientDateParser compile(final String pattern) {
+		val fields = new ArrayList<Field>();
+		val length = pattern.length();
+		var i = 0;
+		while (i < length) {
+			val c = pattern.charAt(i);
+			if (c == '\'') {
+				i = compileQuoted(pattern, i + 1, fields);
+				if (i < 0) {
+					return null;
+				}
+			} else if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z')) {
+				if ("yMdHhkKmsS".indexOf(c) < 0) {
+					return null;
+				}
+				var j = i + 1;
+				while (j < length && pattern.charAt(j) == c) {
+					j++;
+				}
+				fields.add(new Field(c, j - i, Character.MIN_VALUE));
+				i = j;
+			} else {
+				fields.add(new Field(Character.MIN_VALUE, 0, c));
+				i++;
+			}
+		}
+
+		// ##### A numeric field directly followed by another numeric field is
+		// parsed with a fixed width
+		for (int f = 0; f < fields.size() - 1; f++) {
+			fields.get(f).obeyCount = fields.get(f).letter != Character.MIN_VALUE
+					&& fields.get(f + 1).letter != Character.MIN_VALUE;
+		}
+		return new LenientDateParser(pattern, fields.toArray(new Field[0]));
+	}
+
+	private static int compileQuoted(final String pattern, int i, final List<Field> fields) {
+		val length = pattern.length();
+		if (i < length && pattern.charAt(i) == '\'') {
+			// ##### '' is a single quote
+			fields.add(new Field(Character.MIN_VALUE, 0, '\''));
+			return i + 1;
+		}
+
+		while (i < length) {
+			val c = pattern.charAt(i);
+			if (c == '\'') {
+				if (i + 1 < length && pattern.charAt(i + 1) == '\'') {
+					fields.add(new Field(Character.MIN_VALUE, 0, '\''));
+					i += 2;
+					continue;
+				}
+				return i + 1;
+			}
+			fields.add(new Field(Character.MIN_VALUE, 0, c));
+			i++;
+		}
+		// ##### Unterminated quote
+		return -1;
+	}
+
+	/**
+	 * @return The parsed value, null if the text does not match the pattern or
+	 *         {@link #FALLBACK} if the text must be parsed by
+	 *         {@code SimpleDateFormat}
+	 */
+	private LocalDateTime parse(final String text) {
+		if (text == null) {
+			return null;
+		}
+
+		long year = 1970;
+		long month = 1;
+		long day = 1;
+		long hour = 0;
+		long minute = 0;
+		long second = 0;
+		long millis = 0;
+
+		val length = text.length();
+		var pos = 0;
+		for (val field : fields) {
+			if (field.letter == Character.MIN_VALUE) {
+				if (pos >= length || text.charAt(pos) != field.literal) {
+					return null;
+				}
+				pos++;
+				continue;
+			}
+
+			// ##### As SimpleDateFormat, the width of a fixed-width field includes the
+			// skipped whitespaces
+			val fieldStart = pos;
+			while (pos < length && (text.charAt(pos) == ' ' || text.charAt(pos) == '\t')) {
+				pos++;
+			}
+			if (pos >= length || (field.obeyCount && fieldStart + field.count > length)) {
+				return null;
+			}
+			val limit = field.obeyCount ? fieldStart + field.count : length;
+
+			val start = pos;
+			var value = 0L;
+			while (pos < limit && text.charAt(pos) >= '0' && text.charAt(pos) <= '9') {
+				value = value * 10 + (text.charAt(pos) - '0');
+				pos++;
+			}
+
+			val digits = pos - start;
+			if (digits == 0) {
+				// ##### Signs and other number formats are left to SimpleDateFormat
+				return pos < length && text.charAt(pos) == '-' ? FALLBACK : null;
+			}
+			if (digits > MAX_DIGITS) {
+				return FALLBACK;
+			}
+
+			switch (field.letter) {
+				case 'y' -> {
+					if (field.count <= 2 && digits == 2) {
+						// ##### Two-digit years are resolved within 80 years before and 20
+						// years after the current date
+						return FALLBACK;
+					}
+					year = value;
+				}
+				case 'M' -> month = value;
+				case 'd' -> day = value;
+				case 'H' -> hour = value;
+				case 'k' -> hour = value == 24 ? 0 : value;
+				case 'h' -> hour = value == 12 ? 0 : value;
+				case 'K' -> hour = value;
+				case 'm' -> minute = value;
+				case 's' -> second = value;
+				case 'S' -> millis = value;
+				default -> {
+					return FALLBACK;
+				}
+			}
+		}
+
+		if (year < MIN_YEAR || year > 9999) {
+			return FALLBACK;
+		}
+
+		// ##### Lenient resolution, out of range values roll over like Calendar
+		val ldt = LocalDateTime.of((int) year, 1, 1, 0, 0)
+							   .plusMonths(month - 1)
+							   .plusDays(day - 1)
+							   .plusHours(hour)
+							   .plusMinutes(minute)
+							   .plusSeconds(second)
+							   .plusNanos(millis * 1_000_000L);
+		return ldt.getYear() >= MIN_YEAR ? ldt : FALLBACK;
+	}
+
+	@Override
+	public String toString() {
+		return "LenientDateParser[" + pattern + "]";
+	}
+
+}
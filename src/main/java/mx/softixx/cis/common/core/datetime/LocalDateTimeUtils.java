@@ -3,10 +3,6 @@ package mx.softixx.cis.common.core.datetime;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
-import java.time.ZoneId;
-import java.time.ZoneOffset;
-import java.time.ZonedDateTime;
-import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.time.temporal.ChronoUnit;
 import java.util.Date;
@@ -33,14 +29,14 @@ public final class LocalDateTimeUtils {
 	
 	public static LocalDateTime convert(LocalDate ld, boolean useCurrentTime) {
 		if (ld != null) {
-			return useCurrentTime ? ld.atTime(LocalTime.now()) : ld.atTime(LocalTime.MIN);
+			return useCurrentTime ? ld.atTime(ClockUtils.currentTime()) : ld.atTime(LocalTime.MIN);
 		}
 		return null;
 	}
 
 	public static LocalDateTime convert(LocalTime lt) {
 		if (lt != null) {
-			return lt.atDate(LocalDate.now());
+			return lt.atDate(ClockUtils.today());
 		}
 		return null;
 	}
@@ -75,8 +71,7 @@ public final class LocalDateTimeUtils {
 	public static LocalDateTime parse(String date, DateFormatter formatter) {
 		try {
 			if (date != null && formatter != null) {
-				val format = DateTimeFormatter.ofPattern(formatter.getFormat());
-				return LocalDateTime.parse(date, format);
+				return LocalDateTime.parse(date, formatter.getFormatter());
 			}
 		} catch (DateTimeParseException e) {
 			log.error("#parse error", e.getMessage());
@@ -92,8 +87,7 @@ public final class LocalDateTimeUtils {
 	public static LocalDateTime convertToUTC() {
 		try {
 
-			val zdt = ZonedDateTime.now(ZoneOffset.UTC);
-			return zdt.toLocalDateTime();
+			return ClockUtils.nowUTC();
 
 		} catch (Exception e) {
 			log.error("DateTimeUtils#localDateTimeUTC error > {}", e.getMessage());
@@ -109,7 +103,7 @@ public final class LocalDateTimeUtils {
 	 */
 	public static LocalDateTime convertToUTC(LocalDateTime ldt) {
 		if (ldt != null) {
-			return ldt.atZone(ZoneId.systemDefault()).withZoneSameInstant(ZoneOffset.UTC).toLocalDateTime();
+			return ZoneConverter.systemDefault().toUtc(ldt);
 		}
 		return null;
 	}
@@ -134,7 +128,7 @@ public final class LocalDateTimeUtils {
 	 */
 	public static LocalDateTime convertFromUTC(LocalDateTime ldt, String timeZone) {
 		if (ldt != null && timeZone != null) {
-			return ldt.atZone(ZoneOffset.UTC).withZoneSameInstant(ZoneId.of(timeZone)).toLocalDateTime();
+			return ZoneConverter.of(timeZone).fromUtc(ldt);
 		}
 		return null;
 	}
@@ -195,12 +189,12 @@ public final class LocalDateTimeUtils {
 	}
 
 	public static boolean isInRange(String startDateTime, String endDateTime) {
-		val now = DateUtils.formatDate(new Date(), DateFormatter.DATE_TIME_FULL_FORMAT);
+		val now = DateUtils.formatDate(ClockUtils.currentDate(), DateFormatter.DATE_TIME_FULL_FORMAT);
 		return isInRange(now, startDateTime, endDateTime);
 	}
 
 	public static boolean isInRange(String startDateTime, String endDateTime, DateFormatter fomatter) {
-		val now = DateUtils.formatDate(new Date(), fomatter);
+		val now = DateUtils.formatDate(ClockUtils.currentDate(), fomatter);
 		return isInRange(now, startDateTime, endDateTime);
 	}
 
@@ -233,19 +227,19 @@ public final class LocalDateTimeUtils {
 	}
 
 	public static boolean isPast(LocalDateTime ldt) {
-		return isBefore(ldt, LocalDateTime.now());
+		return isBefore(ldt, ClockUtils.now());
 	}
 
 	public static boolean isPastOrPresent(LocalDateTime ldt) {
-		return isEqual(ldt, LocalDateTime.now()) || isBefore(ldt, LocalDateTime.now());
+		return isEqual(ldt, ClockUtils.now()) || isBefore(ldt, ClockUtils.now());
 	}
 	
 	public static boolean isFutureOrPresent(LocalDateTime ldt) {
-		return isEqual(ldt, LocalDateTime.now()) || isAfter(ldt, LocalDateTime.now());
+		return isEqual(ldt, ClockUtils.now()) || isAfter(ldt, ClockUtils.now());
 	}
 	
 	public static boolean isFuture(LocalDateTime ldt) {
-		return isAfter(ldt, LocalDateTime.now());
+		return isAfter(ldt, ClockUtils.now());
 	}
 
 	public static boolean hasOverlap(LocalDateTime sldt1, LocalDateTime eldt1, LocalDateTime sldt2,
@@ -264,7 +258,7 @@ public final class LocalDateTimeUtils {
 	 * @return the duration (int) between a given date and current date
 	 */
 	public static Integer elapsedTime(LocalDateTime ldt, ElapsedTimeType type) {
-		val duration = DurationUtils.duration(ldt, LocalDateTime.now());
+		val duration = DurationUtils.duration(ldt, ClockUtils.now());
 		return DurationUtils.elapsedTime(duration, type);
 	}
 
@@ -5,9 +5,6 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.YearMonth;
 import java.time.ZoneId;
-import java.time.ZoneOffset;
-import java.time.ZonedDateTime;
-import java.time.format.DateTimeFormatter;
 import java.time.temporal.TemporalAdjusters;
 import java.util.Date;
 
@@ -50,8 +47,7 @@ public final class LocalDateUtils {
 	public static LocalDate parse(String stringDate, DateFormatter pattern) {
 		try {
 			if (ValidatorUtils.isNotEmpty(stringDate) && pattern != null) {
-				val dateTimeFormatter = DateTimeFormatter.ofPattern(pattern.getFormat());
-				return LocalDate.parse(stringDate, dateTimeFormatter);
+				return LocalDate.parse(stringDate, pattern.getFormatter());
 			}
 		} catch (DateTimeException e) {
 			log.error("#parse error {}", e.getMessage());
@@ -103,8 +99,7 @@ public final class LocalDateUtils {
 	 * @return the UTC {@code LocalDate}
 	 */
 	public static LocalDate convertToUTC() {
-		val zdt = ZonedDateTime.now(ZoneOffset.UTC);
-		return zdt.toLocalDate();
+		return ClockUtils.nowUTC().toLocalDate();
 	}
 	
 	/**
@@ -116,7 +111,7 @@ public final class LocalDateUtils {
 	public static LocalDate convertToUTC(LocalDate ld) {
 		val ldt = LocalDateTimeUtils.convert(ld);
 		if (ldt != null) {
-			return ldt.atZone(ZoneId.systemDefault()).withZoneSameInstant(ZoneOffset.UTC).toLocalDate();
+			return ZoneConverter.systemDefault().toUtc(ldt).toLocalDate();
 		}
 		return null;
 	}
@@ -203,12 +198,12 @@ public final class LocalDateUtils {
 	}
 
 	public static boolean isInRange(String startDate, String endDate) {
-		val now = DateUtils.formatDate(new Date(), DateFormatter.DATE_SIMPLE_FORMAT);
+		val now = DateUtils.formatDate(ClockUtils.currentDate(), DateFormatter.DATE_SIMPLE_FORMAT);
 		return isInRange(now, startDate, endDate);
 	}
 
 	public static boolean isInRange(String startDate, String endDate, DateFormatter fomatter) {
-		val now = DateUtils.formatDate(new Date(), fomatter);
+		val now = DateUtils.formatDate(ClockUtils.currentDate(), fomatter);
 		return isInRange(now, startDate, endDate);
 	}
 
@@ -242,19 +237,19 @@ public final class LocalDateUtils {
 	}
 	
 	public static boolean isPast(LocalDate ld) {
-		return isBefore(ld, LocalDate.now());
+		return isBefore(ld, ClockUtils.today());
 	}
 	
 	public static boolean isPastOrPresent(LocalDate ld) {
-		return isEqual(ld, LocalDate.now()) || isBefore(ld, LocalDate.now());
+		return isEqual(ld, ClockUtils.today()) || isBefore(ld, ClockUtils.today());
 	}
 	
 	public static boolean isFutureOrPresent(LocalDate ld) {
-		return isEqual(ld, LocalDate.now()) || isAfter(ld, LocalDate.now());
+		return isEqual(ld, ClockUtils.today()) || isAfter(ld, ClockUtils.today());
 	}
 	
 	public static boolean isFuture(LocalDate ld) {
-		return isAfter(ld, LocalDate.now());
+		return isAfter(ld, ClockUtils.today());
 	}
 	
 	public static boolean hasOverlap(LocalDate sld1, LocalDate eld1, LocalDate sld2, LocalDate eld2) {
@@ -266,11 +261,11 @@ public final class LocalDateUtils {
 	}
 	
 	public static LocalDate firstDayOfMonth() {
-		return YearMonth.from(LocalDateTime.now()).atDay(1);
+		return YearMonth.from(ClockUtils.now()).atDay(1);
 	}
 
 	public static LocalDate lastDayOfMonth() {
-		return YearMonth.from(LocalDateTime.now()).atEndOfMonth();
+		return YearMonth.from(ClockUtils.now()).atEndOfMonth();
 	}
 	
 	public static LocalDate lastDayOfMonth(Integer year, Integer month) {
@@ -4,9 +4,6 @@ import java.time.DateTimeException;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.ZoneId;
-import java.time.ZoneOffset;
-import java.time.ZonedDateTime;
-import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.Date;
 import java.util.regex.Pattern;
@@ -42,8 +39,7 @@ public final class LocalTimeUtils {
 
 	public static LocalTime parse(String dateStr) {
 		try {
-			val format = DateTimeFormatter.ofPattern(DateFormatter.T24H.getFormat());
-			return LocalTime.parse(dateStr, format);
+			return LocalTime.parse(dateStr, DateFormatter.T24H.getFormatter());
 		} catch (DateTimeParseException e) {
 			log.error("#parse error", e);
 		}
@@ -53,8 +49,7 @@ public final class LocalTimeUtils {
 	public static LocalTime parse(String dateStr, DateFormatter formatter) {
 		try {
 			if (ValidatorUtils.isNotEmpty(dateStr) && ValidatorUtils.isNotEmpty(formatter)) {
-				val format = DateTimeFormatter.ofPattern(formatter.getFormat());
-				return LocalTime.parse(sanitizeTime(dateStr), format);
+				return LocalTime.parse(sanitizeTime(dateStr), formatter.getFormatter());
 			}
 		} catch (DateTimeParseException e) {
 			log.error("#parse error", e);
@@ -68,8 +63,7 @@ public final class LocalTimeUtils {
 	 * @return the UTC {@code LocalDate}
 	 */
 	public static LocalTime convertToUTC() {
-		val zdt = ZonedDateTime.now(ZoneOffset.UTC);
-		return zdt.toLocalTime();
+		return ClockUtils.nowUTC().toLocalTime();
 	}
 
 	/**
@@ -81,7 +75,7 @@ public final class LocalTimeUtils {
 	public static LocalTime convertToUTC(LocalTime lt) {
 		val ldt = LocalDateTimeUtils.convert(lt);
 		if (ldt != null) {
-			return ldt.atZone(ZoneId.systemDefault()).withZoneSameInstant(ZoneOffset.UTC).toLocalTime();
+			return ZoneConverter.systemDefault().toUtc(ldt).toLocalTime();
 		}
 		return null;
 	}
@@ -154,12 +148,12 @@ public final class LocalTimeUtils {
 	}
 
 	public static boolean isInRange(String startTime, String endTime) {
-		val now = DateUtils.formatDate(new Date(), DateFormatter.T24H);
+		val now = DateUtils.formatDate(ClockUtils.currentDate(), DateFormatter.T24H);
 		return isInRange(now, startTime, endTime);
 	}
 
 	public static boolean isInRange(String startTime, String endTime, DateFormatter fomatter) {
-		val now = DateUtils.formatDate(new Date(), fomatter);
+		val now = DateUtils.formatDate(ClockUtils.currentDate(), fomatter);
 		return isInRange(now, startTime, endTime);
 	}
 
@@ -179,7 +173,7 @@ public final class LocalTimeUtils {
 	}
 
 	public static boolean isInRange(Date startDate, Date endDate) {
-		return isInRange(new Date(), startDate, endDate);
+		return isInRange(ClockUtils.currentDate(), startDate, endDate);
 	}
 
 	public static boolean isInRange(Date dateToCheck, Date startDate, Date endDate) {
@@ -197,19 +191,19 @@ public final class LocalTimeUtils {
 	}
 	
 	public static boolean isPast(LocalTime lt) {
-		return isBefore(lt, LocalTime.now());
+		return isBefore(lt, ClockUtils.currentTime());
 	}
 	
 	public static boolean isPastOrPresent(LocalTime lt) {
-		return isEqual(lt, LocalTime.now()) || isBefore(lt, LocalTime.now());
+		return isEqual(lt, ClockUtils.currentTime()) || isBefore(lt, ClockUtils.currentTime());
 	}
 	
 	public static boolean isFutureOrPresent(LocalTime lt) {
-		return isEqual(lt, LocalTime.now()) || isAfter(lt, LocalTime.now());
+		return isEqual(lt, ClockUtils.currentTime()) || isAfter(lt, ClockUtils.currentTime());
 	}
 	
 	public static boolean isFuture(LocalTime lt) {
-		return isAfter(lt, LocalTime.now());
+		return isAfter(lt, ClockUtils.currentTime());
 	}
 	
 	public static boolean hasOverlap(LocalTime slt1, LocalTime elt1, LocalTime slt2, LocalTime elt2) {
@@ -1,11 +1,15 @@
 package mx.softixx.cis.common.core.datetime;
 
 import java.time.ZoneId;
-import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
 
 import lombok.val;
 import lombok.extern.slf4j.Slf4j;
@@ -15,33 +19,97 @@ import mx.softixx.cis.common.core.validator.ValidatorUtils;
 @Slf4j(topic = "TimeZoneUtils")
 public final class TimeZoneUtils {
 
-	private TimeZoneUtils() {		
+	private TimeZoneUtils() {
 	}
-	
+
+	/**
+	 * Zones of Mexico, preferred over the other zones with the same raw offset.
+	 * The first zone of the list with a raw offset is the one returned by
+	 * {@link #getTimeZone(int)}, so the main zones of each offset go before the
+	 * border zones that follow the US DST rules (Matamoros, Ojinaga and Ciudad
+	 * Juarez)
+	 */
+	public static final List<String> PREFERRED_ZONE_IDS = List.of("America/Mexico_City", "America/Monterrey",
+			"America/Merida", "America/Chihuahua", "America/Bahia_Banderas", "America/Cancun", "America/Mazatlan",
+			"America/Hermosillo", "America/Tijuana", "America/Matamoros", "America/Ojinaga", "America/Ciudad_Juarez",
+			"Mexico/General", "Mexico/BajaSur", "Mexico/BajaNorte");
+
+	private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+
+	/**
+	 * Zone ids by raw offset, built once from {@code TimeZone.getAvailableIDs()}
+	 */
+	private static final Map<Integer, List<String>> ZONE_IDS_BY_OFFSET = indexZoneIds();
+
+	/**
+	 * Raw offset of the zones already resolved
+	 */
+	private static final ConcurrentHashMap<String, Integer> RAW_OFFSETS = new ConcurrentHashMap<>();
+
 	/**
 	 * Returns the timezone from a given String date
-	 * 
+	 *
 	 * @param date String date to determine the timezone
 	 * @return
 	 */
 	public static String getTimeZone(final String date) {
 		try {
-			
+
 			val sanitizedDate = DateUtils.sanitizeDate(date);
 			if (ValidatorUtils.isNotEmpty(sanitizedDate)) {
-				val formatter = DateTimeFormatter.ISO_LOCAL_DATE_TIME.withZone(ZoneId.systemDefault());
-				val zonedDateTime = ZonedDateTime.parse(sanitizedDate, formatter);
-				val timeZone = TimeZone.getTimeZone(zonedDateTime.getZone());
-				return Arrays.stream(TimeZone.getAvailableIDs(timeZone.getRawOffset()))
-							 .findFirst()
-							 .map(item -> item)
-							 .orElse(ValueUtils.EMPTY);
+				// ##### The date is only validated, the zone is always the system default
+				FORMATTER.parse(sanitizedDate);
+				val zone = ZoneId.systemDefault();
+				val rawOffset = RAW_OFFSETS.computeIfAbsent(zone.getId(),
+						id -> TimeZone.getTimeZone(zone).getRawOffset());
+				return getTimeZone(rawOffset);
 			}
-			
+
 		} catch (DateTimeParseException e) {
 			log.error("#getTimeZone error {}", e.getMessage());
 		}
 		return null;
 	}
-	
-}
\ No newline at end of file
+
+	/**
+	 * Returns the preferred timezone for a raw offset
+	 *
+	 * @param rawOffset Raw offset in milliseconds, as {@code TimeZone.getRawOffset()}
+	 * @return Zone id, the first zone of {@link #PREFERRED_ZONE_IDS} with that
+	 *         offset if any, or empty if there is no zone
+	 */
+	public static String getTimeZone(final int rawOffset) {
+		val zoneIds = ZONE_IDS_BY_OFFSET.get(rawOffset);
+		return zoneIds != null ? zoneIds.get(0) : ValueUtils.EMPTY;
+	}
+
+	/**
+	 * Returns the zone ids of a raw offset in order of preference
+	 *
+	 * @param rawOffset Raw offset in milliseconds, as {@code TimeZone.getRawOffset()}
+	 * @return Unmodifiable list, the Mexican zones first and then the others
+	 *         sorted by id
+	 */
+	public static List<String> getZoneIds(final int rawOffset) {
+		return ZONE_IDS_BY_OFFSET.getOrDefault(rawOffset, List.of());
+	}
+
+	private static Map<Integer, List<String>> indexZoneIds() {
+		// ##### Sorted by id as TimeZone.getAvailableIDs(rawOffset), after the preferred zones
+		val zoneIds = new LinkedHashSet<String>();
+		val available = List.of(TimeZone.getAvailableIDs());
+		PREFERRED_ZONE_IDS.stream().filter(available::contains).forEach(zoneIds::add);
+		available.stream().sorted().forEach(zoneIds::add);
+
+		val index = new HashMap<Integer, List<String>>();
+		for (val zoneId : zoneIds) {
+			val rawOffset = TimeZone.getTimeZone(zoneId).getRawOffset();
+			index.computeIfAbsent(rawOffset, key -> new ArrayList<>()).add(zoneId);
+		}
+
+		val result = new HashMap<Integer, List<String>>();
+		index.forEach((rawOffset, ids) -> result.put(rawOffset, List.copyOf(ids)));
+		return Map.copyOf(result);
+	}
+
+}
@@ -127,7 +127,7 @@ public final class WeekUtils {
 
 	public static boolean isValidWeekDay(DayOfWeek dow) {
 		if (dow != null) {
-			val currentDay = DayOfWeek.from(LocalDate.now());
+			val currentDay = DayOfWeek.from(ClockUtils.today());
 			return currentDay.compareTo(dow) == 0;
 		}
 		return false;
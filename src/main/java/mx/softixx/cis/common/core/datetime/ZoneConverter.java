@@ -0,0 +1,301 @@
+package mx.softixx.cis.common.core.datetime;
+
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneRules;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import lombok.val;
+
+/**
+ * Converts date-times between UTC and a time zone without building a
+ * {@code ZonedDateTime} on every call.
+ * <p>
+ * The instances are cached by zone id together with their {@code ZoneRules}.
+ * Each one remembers the last period between two offset transitions, so the
+ * conversions inside that period are an addition or a subtraction of the
+ * offset. The period is searched again in the rules only when a value falls
+ * outside of it, and zones with a fixed offset never search it.
+ * </p>
+ * <p>
+ * The results are the same as {@code ldt.atZone(zone).withZoneSameInstant(ZoneOffset.UTC)}
+ * and {@code ldt.atZone(ZoneOffset.UTC).withZoneSameInstant(zone)}: a local
+ * date-time in a gap or an overlap uses the offset before the transition.
+ * </p>
+ * <p>
+ * Local date-times are expressed as milliseconds from {@code 1970-01-01T00:00}
+ * of the same wall clock, i.e. {@code ldt.toInstant(ZoneOffset.UTC).toEpochMilli()}.
+ * </p>
+ * <p>
+ * This class is thread-safe.
+ * </p>
+ *
+ * @author Maikel Guerra Ferrer - mguerraferrer@gmail.com
+ *
+ */
+public final class ZoneConverter {
+
+	private static final ConcurrentHashMap<String, ZoneConverter> CACHE = new ConcurrentHashMap<>();
+
+	private final ZoneId zone;
+	private final ZoneRules rules;
+	private volatile Period period;
+
+	private ZoneConverter(final ZoneId zone) {
+		this.zone = zone;
+		this.rules = zone.getRules();
+		if (rules.isFixedOffset()) {
+			val offset = rules.getOffset(Instant.EPOCH).getTotalSeconds();
+			this.period = new Period(Long.MIN_VALUE, Long.MAX_VALUE, Long.MIN_VALUE, Long.MAX_VALUE, offset);
+		} else {
+			this.period = periodAt(System.currentTimeMillis() / 1000);
+		}
+	}
+
+	/**
+	 * @param zoneId Zone id, as {@code ZoneId.of(zoneId)}
+	 * @return Cached {@link ZoneConverter}
+	 * @throws DateTimeException If the zone id is not valid
+	 */
+	public static ZoneConverter of(final String zoneId) {
+		Objects.requireNonNull(zoneId, "zoneId");
+		val converter = CACHE.get(zoneId);
+		if (converter != null) {
+			return converter;
+		}
+		return CACHE.computeIfAbsent(zoneId, id -> new ZoneConverter(ZoneId.of(id)));
+	}
+
+	/**
+	 * @param zone ZoneId
+	 * @return Cached {@link ZoneConverter}
+	 */
+	public static ZoneConverter of(final ZoneId zone) {
+		Objects.requireNonNull(zone, "zone");
+		val converter = CACHE.get(zone.getId());
+		if (converter != null) {
+			return converter;
+		}
+		return CACHE.computeIfAbsent(zone.getId(), id -> new ZoneConverter(zone));
+	}
+
+	/**
+	 * @return {@link ZoneConverter} of {@code ZoneId.systemDefault()}
+	 */
+	public static ZoneConverter systemDefault() {
+		return of(ZoneId.systemDefault());
+	}
+
+	public ZoneId getZone() {
+		return zone;
+	}
+
+	/**
+	 * Converts a UTC date-time to the local date-time of the zone
+	 *
+	 * @param utc {@code java.time.LocalDateTime} in UTC
+	 * @return {@code LocalDateTime} in the zone, or null if the date-time is null
+	 */
+	public LocalDateTime fromUtc(final LocalDateTime utc) {
+		if (utc == null) {
+			return null;
+		}
+		val epochSecond = utc.toEpochSecond(ZoneOffset.UTC);
+		return LocalDateTime.ofEpochSecond(epochSecond + offsetOfInstant(epochSecond), utc.getNano(),
+				ZoneOffset.UTC);
+	}
+
+	/**
+	 * Converts a local date-time of the zone to UTC
+	 *
+	 * @param local {@code java.time.LocalDateTime} in the zone
+	 * @return {@code LocalDateTime} in UTC, or null if the date-time is null
+	 */
+	public LocalDateTime toUtc(final LocalDateTime local) {
+		if (local == null) {
+			return null;
+		}
+		val localSecond = local.toEpochSecond(ZoneOffset.UTC);
+		return LocalDateTime.ofEpochSecond(localSecond - offsetOfLocal(localSecond), local.getNano(),
+				ZoneOffset.UTC);
+	}
+
+	/**
+	 * Converts an instant to the local date-time of the zone
+	 *
+	 * @param epochMilli Epoch milliseconds
+	 * @return Local date-time as milliseconds
+	 */
+	public long fromUtcMillis(final long epochMilli) {
+		return epochMilli + offsetOfInstant(Math.floorDiv(epochMilli, 1000)) * 1000L;
+	}
+
+	/**
+	 * Converts a local date-time of the zone to an instant
+	 *
+	 * @param localMilli Local date-time as milliseconds
+	 * @return Epoch milliseconds
+	 */
+	public long toUtcMillis(final long localMilli) {
+		return localMilli - offsetOfLocal(Math.floorDiv(localMilli, 1000)) * 1000L;
+	}
+
+	/**
+	 * Converts a column of instants to local date-times of the zone
+	 *
+	 * @param epochMillis Epoch milliseconds
+	 * @return New array with the local date-times as milliseconds
+	 */
+	public long[] fromUtcMillis(final long[] epochMillis) {
+		return fromUtcMillis(epochMillis, new long[epochMillis.length]);
+	}
+
+	/**
+	 * Converts a column of instants to local date-times of the zone
+	 *
+	 * @param epochMillis Epoch milliseconds
+	 * @param out         Array for the local date-times as milliseconds, it may
+	 *                    be the same array
+	 * @return The out array
+	 */
+	public long[] fromUtcMillis(final long[] epochMillis, final long[] out) {
+		checkColumns(epochMillis, out);
+		var current = period;
+		for (int i = 0; i < epochMillis.length; i++) {
+			val epochSecond = Math.floorDiv(epochMillis[i], 1000);
+			if (!current.containsInstant(epochSecond)) {
+				current = findInstant(epochSecond);
+			}
+			out[i] = epochMillis[i] + current.offset * 1000L;
+		}
+		return out;
+	}
+
+	/**
+	 * Converts a column of local date-times of the zone to instants
+	 *
+	 * @param localMillis Local date-times as milliseconds
+	 * @return New array with the epoch milliseconds
+	 */
+	public long[] toUtcMillis(final long[] localMillis) {
+		return toUtcMillis(localMillis, new long[localMillis.length]);
+	}
+
+	/**
+	 * Converts a column of local date-times of the zone to instants
+	 *
+	 * @param localMillis Local date-times as milliseconds
+	 * @param out         Array for the epoch milliseconds, it may be the same
+	 *                    array
+	 * @return The out array
+	 */
+	public long[] toUtcMillis(final long[] localMillis, final long[] out) {
+		checkColumns(localMillis, out);
+		var current = period;
+		for (int i = 0; i < localMillis.length; i++) {
+			val localSecond = Math.floorDiv(localMillis[i], 1000);
+			if (current.containsLocal(localSecond)) {
+				out[i] = localMillis[i] - current.offset * 1000L;
+			} else {
+				out[i] = localMillis[i] - offsetOfLocal(localSecond) * 1000L;
+				current = period;
+			}
+		}
+		return out;
+	}
+
+	private static void checkColumns(final long[] in, final long[] out) {
+		if (out.length < in.length) {
+			throw new IllegalArgumentException("Output length " + out.length + " is lower than " + in.length);
+		}
+	}
+
+	private int offsetOfInstant(final long epochSecond) {
+		val current = period;
+		if (current.containsInstant(epochSecond)) {
+			return current.offset;
+		}
+		return findInstant(epochSecond).offset;
+	}
+
+	private int offsetOfLocal(final long localSecond) {
+		val current = period;
+		if (current.containsLocal(localSecond)) {
+			return current.offset;
+		}
+		val ldt = LocalDateTime.ofEpochSecond(localSecond, 0, ZoneOffset.UTC);
+		val transition = rules.getTransition(ldt);
+		if (transition != null) {
+			// ##### Gap or overlap, ZonedDateTime keeps the instant of the offset before
+			return transition.getOffsetBefore().getTotalSeconds();
+		}
+		val offset = rules.getOffset(ldt).getTotalSeconds();
+		return findInstant(localSecond - offset).offset;
+	}
+
+	private Period findInstant(final long epochSecond) {
+		val found = periodAt(epochSecond);
+		period = found;
+		return found;
+	}
+
+	/**
+	 * Searches the transitions around an instant
+	 */
+	private Period periodAt(final long epochSecond) {
+		val offset = rules.getOffset(Instant.ofEpochSecond(epochSecond)).getTotalSeconds();
+		// ##### previousTransition excludes a transition at the same instant
+		val previous = epochSecond < Long.MAX_VALUE ? rules.previousTransition(Instant.ofEpochSecond(epochSecond + 1))
+				: null;
+		val next = rules.nextTransition(Instant.ofEpochSecond(epochSecond));
+
+		var instantFrom = Long.MIN_VALUE;
+		var localFrom = Long.MIN_VALUE;
+		if (previous != null) {
+			instantFrom = previous.toEpochSecond();
+			localFrom = instantFrom
+					+ Math.max(previous.getOffsetBefore().getTotalSeconds(), previous.getOffsetAfter().getTotalSeconds());
+		}
+		var instantTo = Long.MAX_VALUE;
+		var localTo = Long.MAX_VALUE;
+		if (next != null) {
+			instantTo = next.toEpochSecond();
+			localTo = instantTo + offset;
+		}
+		return new Period(instantFrom, instantTo, localFrom, localTo, offset);
+	}
+
+	/**
+	 * Period with the same offset, as instants and as local date-times without
+	 * the gap or overlap of its transitions
+	 */
+	private static final class Period {
+		private final long instantFrom;
+		private final long instantTo;
+		private final long localFrom;
+		private final long localTo;
+		private final int offset;
+
+		private Period(final long instantFrom, final long instantTo, final long localFrom, final long localTo,
+				final int offset) {
+			this.instantFrom = instantFrom;
+			this.instantTo = instantTo;
+			this.localFrom = localFrom;
+			this.localTo = localTo;
+			this.offset = offset;
+		}
+
+		private boolean containsInstant(final long epochSecond) {
+			return epochSecond >= instantFrom && epochSecond < instantTo;
+		}
+
+		private boolean containsLocal(final long localSecond) {
+			return localSecond >= localFrom && localSecond < localTo;
+		}
+	}
+
+}
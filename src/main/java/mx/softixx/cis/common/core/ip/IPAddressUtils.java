@@ -14,6 +14,14 @@ public final class IPAddressUtils {
 	public static boolean isIpInRange(String clientIp, String startIpRange, String endIpRange) {
 		if (ValidatorUtils.isNotEmpty(clientIp) && ValidatorUtils.isNotEmpty(startIpRange)
 				&& ValidatorUtils.isNotEmpty(endIpRange)) {
+			// ##### Dotted-quad IPv4 are compared without parsing them with the library
+			val start = IpAddressParser.tryParseIPv4(startIpRange);
+			val end = IpAddressParser.tryParseIPv4(endIpRange);
+			val client = IpAddressParser.tryParseIPv4(clientIp);
+			if (start >= 0 && end >= 0 && client >= 0) {
+				return client >= Math.min(start, end) && client <= Math.max(start, end);
+			}
+			
 			try {
 				
 				val lower = new IPAddressString(startIpRange).toAddress();
@@ -29,4 +37,17 @@ public final class IPAddressUtils {
 		return true;
 	}
 
+	/**
+	 * Evaluates if the client IP is inside any range of a compiled matcher. Use it
+	 * instead of {@link #isIpInRange(String, String, String)} when the same ranges
+	 * are evaluated many times
+	 * 
+	 * @param clientIp String
+	 * @param matcher  {@link IpRangeMatcher}
+	 * @return True if the client IP is empty or inside any range, otherwise false
+	 */
+	public static boolean isIpInRange(String clientIp, IpRangeMatcher matcher) {
+		return matcher.matches(clientIp);
+	}
+
 }
\ No newline at end of file
@@ -0,0 +1,303 @@
+package mx.softixx.cis.common.core.ip;
+
+import inet.ipaddr.IPAddressString;
+import lombok.val;
+
+/**
+ * Parser of single IP addresses into primitives.
+ * <p>
+ * Canonical dotted-quad IPv4 ({@code 192.168.0.1}) and plain IPv6
+ * ({@code 2001:db8::1}, {@code ::ffff:10.0.0.1}) are read directly from the
+ * {@code CharSequence} without allocating. Any other notation accepted by the
+ * ipaddress library (leading zeros, which are octal, hexadecimal or
+ * inet_aton values, zones, prefixes, surrounding whitespaces...) is delegated
+ * to {@code IPAddressString}, so the result is always the same as
+ * {@code new IPAddressString(ip).getAddress()}.
+ * </p>
+ * <p>
+ * IPv4 addresses are returned as the unsigned value of their 32 bits in a
+ * {@code long}, IPv6 addresses as two {@code long} with the most and least
+ * significant 64 bits.
+ * </p>
+ *
+ * @author Maikel Guerra Ferrer - mguerraferrer@gmail.com
+ *
+ */
+public final class IpAddressParser {
+
+	private IpAddressParser() {
+		throw new IllegalStateException("Utility class");
+	}
+
+	/**
+	 * Value returned by {@link #parse(CharSequence, long[])} for invalid addresses
+	 */
+	public static final int INVALID = 0;
+	public static final int IPV4 = 4;
+	public static final int IPV6 = 6;
+
+	private static final int IPV6_GROUPS = 8;
+	private static final int MAX_IPV6_LENGTH = 45;
+
+	/**
+	 * Parses an IPv4 or IPv6 address
+	 *
+	 * @param ip  CharSequence
+	 * @param out {@code long[2]} where the address is stored, {@code out[0]} is
+	 *            the IPv4 value or the IPv6 high bits and {@code out[1]} the IPv6
+	 *            low bits
+	 * @return {@link #IPV4}, {@link #IPV6} or {@link #INVALID} if the value is not
+	 *         a single IP address
+	 */
+	public static int parse(final CharSequence ip, final long[] out) {
+		if (ip == null) {
+			return INVALID;
+		}
+
+		val ipv4 = tryParseIPv4(ip);
+		if (ipv4 >= 0) {
+			out[0] = ipv4;
+			out[1] = 0;
+			return IPV4;
+		}
+		if (tryParseIPv6(ip, out)) {
+			return IPV6;
+		}
+		return fallback(ip, out);
+	}
+
+	/**
+	 * Parses an IPv4 address
+	 *
+	 * @param ip CharSequence
+	 * @return The unsigned 32-bit value of the address, i.e.
+	 *         {@code (int) parseIPv4(ip)} are the 4 bytes, or -1 if the value is
+	 *         not a single IPv4 address
+	 */
+	public static long parseIPv4(final CharSequence ip) {
+		if (ip == null) {
+			return -1;
+		}
+
+		val ipv4 = tryParseIPv4(ip);
+		if (ipv4 >= 0) {
+			return ipv4;
+		}
+		val out = new long[2];
+		return fallback(ip, out) == IPV4 ? out[0] : -1;
+	}
+
+	/**
+	 * Parses an IPv6 address
+	 *
+	 * @param ip  CharSequence
+	 * @param out {@code long[2]} where the high and low 64 bits are stored
+	 * @return True if the value is a single IPv6 address, otherwise false
+	 */
+	public static boolean parseIPv6(final CharSequence ip, final long[] out) {
+		if (ip == null) {
+			return false;
+		}
+		return tryParseIPv6(ip, out) || fallback(ip, out) == IPV6;
+	}
+
+	/**
+	 * Fast path for canonical dotted-quad IPv4
+	 *
+	 * @return The unsigned value or -1 if the value must be parsed by the library
+	 */
+	static long tryParseIPv4(final CharSequence ip) {
+		return ip != null ? tryParseIPv4(ip, 0, ip.length()) : -1;
+	}
+
+	private static long tryParseIPv4(final CharSequence ip, final int from, final int to) {
+		var value = 0L;
+		var i = from;
+		for (int octet = 0; octet < 4; octet++) {
+			if (octet > 0) {
+				if (i >= to || ip.charAt(i) != '.') {
+					return -1;
+				}
+				i++;
+			}
+
+			val start = i;
+			var octetValue = 0;
+			while (i < to && i - start < 3 && isDigit(ip.charAt(i))) {
+				octetValue = octetValue * 10 + (ip.charAt(i) - '0');
+				i++;
+			}
+			val digits = i - start;
+			// ##### Leading zeros are octal values for the library
+			if (digits == 0 || octetValue > 255 || (digits > 1 && ip.charAt(start) == '0')) {
+				return -1;
+			}
+			value = (value << 8) | octetValue;
+		}
+		return i == to ? value : -1;
+	}
+
+	/**
+	 * Fast path for IPv6 made of hexadecimal groups, an optional {@code ::} and an
+	 * optional dotted-quad IPv4 tail
+	 *
+	 * @return True if the address was parsed, false if the value must be parsed
+	 *         by the library
+	 */
+	static boolean tryParseIPv6(final CharSequence ip, final long[] out) {
+		val length = ip.length();
+		if (length < 2 || length > MAX_IPV6_LENGTH) {
+			return false;
+		}
+
+		// ##### Groups before (head) and after (tail) the :: as 128-bit values
+		long headHigh = 0;
+		long headLow = 0;
+		long tailHigh = 0;
+		long tailLow = 0;
+		var headGroups = 0;
+		var tailGroups = 0;
+		var compressed = false;
+
+		var i = 0;
+		if (ip.charAt(0) == ':') {
+			if (ip.charAt(1) != ':') {
+				return false;
+			}
+			compressed = true;
+			i = 2;
+		}
+
+		while (i < length) {
+			val start = i;
+			var group = 0L;
+			while (i < length && i - start < 5 && hex(ip.charAt(i)) >= 0) {
+				group = (group << 4) | hex(ip.charAt(i));
+				i++;
+			}
+
+			int count;
+			if (i < length && ip.charAt(i) == '.') {
+				val ipv4 = tryParseIPv4(ip, start, length);
+				if (ipv4 < 0) {
+					return false;
+				}
+				group = ipv4;
+				count = 2;
+				i = length;
+			} else {
+				if (i == start || i - start > 4) {
+					return false;
+				}
+				count = 1;
+			}
+
+			if (headGroups + tailGroups + count > IPV6_GROUPS) {
+				return false;
+			}
+			val shift = 16 * count;
+			if (compressed) {
+				tailHigh = (tailHigh << shift) | (tailLow >>> (64 - shift));
+				tailLow = (tailLow << shift) | group;
+				tailGroups += count;
+			} else {
+				headHigh = (headHigh << shift) | (headLow >>> (64 - shift));
+				headLow = (headLow << shift) | group;
+				headGroups += count;
+			}
+
+			if (i == length) {
+				break;
+			}
+			if (ip.charAt(i) != ':' || i + 1 == length) {
+				return false;
+			}
+			i++;
+			if (ip.charAt(i) == ':') {
+				if (compressed) {
+					return false;
+				}
+				compressed = true;
+				i++;
+			}
+		}
+
+		val groups = headGroups + tailGroups;
+		if (compressed ? groups >= IPV6_GROUPS : groups != IPV6_GROUPS) {
+			return false;
+		}
+
+		// ##### The head is moved to the most significant groups
+		val shift = 16 * (IPV6_GROUPS - headGroups);
+		out[0] = shiftLeftHigh(headHigh, headLow, shift) | tailHigh;
+		out[1] = shiftLeftLow(headLow, shift) | tailLow;
+		return true;
+	}
+
+	private static int fallback(final CharSequence ip, final long[] out) {
+		val address = new IPAddressString(ip.toString()).getAddress();
+		if (address == null || address.isMultiple()) {
+			return INVALID;
+		}
+
+		if (address.isIPv4()) {
+			out[0] = address.toIPv4().longValue();
+			out[1] = 0;
+			return IPV4;
+		}
+
+		val bytes = address.getBytes();
+		out[0] = toLong(bytes, 0);
+		out[1] = toLong(bytes, Long.BYTES);
+		return IPV6;
+	}
+
+	/**
+	 * High 64 bits of {@code (high, low) << shift}, with shift between 0 and 128
+	 */
+	private static long shiftLeftHigh(final long high, final long low, final int shift) {
+		if (shift == 0) {
+			return high;
+		}
+		if (shift >= 128) {
+			return 0;
+		}
+		if (shift >= 64) {
+			return low << (shift - 64);
+		}
+		return (high << shift) | (low >>> (64 - shift));
+	}
+
+	/**
+	 * Low 64 bits of {@code (high, low) << shift}, with shift between 0 and 128
+	 */
+	private static long shiftLeftLow(final long low, final int shift) {
+		return shift >= 64 ? 0 : low << shift;
+	}
+
+	private static long toLong(final byte[] bytes, final int offset) {
+		var value = 0L;
+		for (int i = offset; i < offset + Long.BYTES; i++) {
+			value = (value << 8) | (bytes[i] & 0xFF);
+		}
+		return value;
+	}
+
+	private static boolean isDigit(final char c) {
+		return c >= '0' && c <= '9';
+	}
+
+	private static int hex(final char c) {
+		if (c >= '0' && c <= '9') {
+			return c - '0';
+		}
+		if (c >= 'a' && c <= 'f') {
+			return c - 'a' + 10;
+		}
+		if (c >= 'A' && c <= 'F') {
+			return c - 'A' + 10;
+		}
+		return -1;
+	}
+
+}
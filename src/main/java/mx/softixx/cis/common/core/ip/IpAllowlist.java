@@ -0,0 +1,56 @@
+package mx.softixx.cis.common.core.ip;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Holder of the current {@link IpRangeMatcher} of an allowlist.
+ * <p>
+ * Lookups read the current matcher without locking. The rules can be reloaded
+ * at any time by building a new matcher and swapping it atomically, requests
+ * in progress finish with the matcher they already read.
+ * </p>
+ *
+ * @author Maikel Guerra Ferrer - mguerraferrer@gmail.com
+ *
+ */
+public final class IpAllowlist {
+
+	private final AtomicReference<IpRangeMatcher> matcher;
+
+	/**
+	 * @param matcher Initial {@link IpRangeMatcher}
+	 */
+	public IpAllowlist(final IpRangeMatcher matcher) {
+		this.matcher = new AtomicReference<>(Objects.requireNonNull(matcher, "matcher"));
+	}
+
+	/**
+	 * Evaluates if the client IP is allowed by the current rules
+	 *
+	 * @param clientIp String
+	 * @return True if the client IP is allowed, otherwise false
+	 * @see IpRangeMatcher#matches(String)
+	 */
+	public boolean isAllowed(final String clientIp) {
+		return matcher.get().matches(clientIp);
+	}
+
+	/**
+	 * @return The current {@link IpRangeMatcher}
+	 */
+	public IpRangeMatcher current() {
+		return matcher.get();
+	}
+
+	/**
+	 * Replaces the current rules
+	 *
+	 * @param newMatcher {@link IpRangeMatcher}
+	 * @return The previous {@link IpRangeMatcher}
+	 */
+	public IpRangeMatcher swap(final IpRangeMatcher newMatcher) {
+		return matcher.getAndSet(Objects.requireNonNull(newMatcher, "newMatcher"));
+	}
+
+}
@@ -0,0 +1,335 @@
+package mx.softixx.cis.common.core.ip;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import inet.ipaddr.AddressConversionException;
+import inet.ipaddr.AddressStringException;
+import inet.ipaddr.IPAddress;
+import inet.ipaddr.IPAddressString;
+import inet.ipaddr.IncompatibleAddressException;
+import lombok.val;
+import lombok.extern.slf4j.Slf4j;
+import mx.softixx.cis.common.core.validator.ValidatorUtils;
+
+/**
+ * Immutable set of IP ranges compiled once to match many client IPs.
+ * <p>
+ * Ranges and CIDRs are parsed with the ipaddress library when the matcher is
+ * built, with the same rules of {@link IPAddressUtils#isIpInRange(String, String, String)}:
+ * the bounds of a range may be given in any order, IPv4 and IPv6 are never
+ * mixed, and a range with an invalid bound never matches. The ranges are then
+ * merged into sorted, disjoint intervals of primitives (IPv4 as {@code long},
+ * IPv6 as two {@code long}) and a lookup is a binary search without locks.
+ * Client IPs in canonical notation are read with {@link IpAddressParser}
+ * without allocating.
+ * </p>
+ * <p>
+ * As in {@code isIpInRange}, empty arguments allow all: a matcher built without
+ * ranges or with a range whose bound is empty matches any IP, and an empty
+ * client IP is always matched.
+ * </p>
+ *
+ * @author Maikel Guerra Ferrer - mguerraferrer@gmail.com
+ *
+ */
+@Slf4j(topic = "IpRangeMatcher")
+public final class IpRangeMatcher {
+
+	private static final int IPV6_BYTES = 16;
+
+	private final boolean allowAll;
+
+	/**
+	 * Sorted, disjoint IPv4 intervals as unsigned 32-bit values
+	 */
+	private final long[] ipv4Starts;
+	private final long[] ipv4Ends;
+
+	/**
+	 * Sorted, disjoint IPv6 intervals as unsigned 128-bit values split in high and
+	 * low 64 bits
+	 */
+	private final long[] ipv6StartsHigh;
+	private final long[] ipv6StartsLow;
+	private final long[] ipv6EndsHigh;
+	private final long[] ipv6EndsLow;
+
+	private IpRangeMatcher(final boolean allowAll, final List<long[]> ipv4, final List<long[]> ipv6) {
+		this.allowAll = allowAll;
+
+		val v4 = merge(ipv4);
+		this.ipv4Starts = new long[v4.size()];
+		this.ipv4Ends = new long[v4.size()];
+		for (int i = 0; i < v4.size(); i++) {
+			ipv4Starts[i] = v4.get(i)[1];
+			ipv4Ends[i] = v4.get(i)[3];
+		}
+
+		val v6 = merge(ipv6);
+		this.ipv6StartsHigh = new long[v6.size()];
+		this.ipv6StartsLow = new long[v6.size()];
+		this.ipv6EndsHigh = new long[v6.size()];
+		this.ipv6EndsLow = new long[v6.size()];
+		for (int i = 0; i < v6.size(); i++) {
+			ipv6StartsHigh[i] = v6.get(i)[0];
+			ipv6StartsLow[i] = v6.get(i)[1];
+			ipv6EndsHigh[i] = v6.get(i)[2];
+			ipv6EndsLow[i] = v6.get(i)[3];
+		}
+	}
+
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * Evaluates if the client IP is inside any range
+	 *
+	 * @param clientIp String
+	 * @return True if the client IP is empty, the matcher allows all or the IP is
+	 *         inside a range, otherwise false
+	 */
+	public boolean matches(final String clientIp) {
+		if (allowAll || ValidatorUtils.isEmpty(clientIp)) {
+			return true;
+		}
+
+		val ipv4 = IpAddressParser.tryParseIPv4(clientIp);
+		if (ipv4 >= 0) {
+			return containsIPv4(ipv4, ipv4);
+		}
+		val ipv6 = new long[2];
+		if (IpAddressParser.tryParseIPv6(clientIp, ipv6)) {
+			return containsIPv6(ipv6[0], ipv6[1], ipv6[0], ipv6[1]);
+		}
+
+		// ##### Other notations and client subnets are parsed by the library
+		val address = new IPAddressString(clientIp).getAddress();
+		if (address == null) {
+			return false;
+		}
+
+		// ##### A client subnet must be fully contained in a single interval
+		if (address.isIPv4()) {
+			return containsIPv4(address.getLower().toIPv4().longValue(), address.getUpper().toIPv4().longValue());
+		}
+		val lower = address.getLower().getBytes();
+		val upper = address.getUpper().getBytes();
+		return containsIPv6(high(lower), low(lower), high(upper), low(upper));
+	}
+
+	/**
+	 * Evaluates if an IPv4 address is inside any range
+	 *
+	 * @param address int with the 4 bytes of the address, most significant first
+	 * @return True if the matcher allows all or the address is inside a range,
+	 *         otherwise false
+	 */
+	public boolean matchesIPv4(final int address) {
+		val value = Integer.toUnsignedLong(address);
+		return allowAll || containsIPv4(value, value);
+	}
+
+	/**
+	 * Evaluates if an IPv6 address is inside any range
+	 *
+	 * @param high Most significant 64 bits of the address
+	 * @param low  Least significant 64 bits of the address
+	 * @return True if the matcher allows all or the address is inside a range,
+	 *         otherwise false
+	 */
+	public boolean matchesIPv6(final long high, final long low) {
+		return allowAll || containsIPv6(high, low, high, low);
+	}
+
+	/**
+	 * @return True if any IP is matched, otherwise false
+	 */
+	public boolean isAllowAll() {
+		return allowAll;
+	}
+
+	/**
+	 * @return Number of disjoint intervals after merging the ranges
+	 */
+	public int size() {
+		return ipv4Starts.length + ipv6StartsHigh.length;
+	}
+
+	private boolean containsIPv4(final long lower, final long upper) {
+		var low = 0;
+		var high = ipv4Starts.length - 1;
+		var candidate = -1;
+		while (low <= high) {
+			val middle = (low + high) >>> 1;
+			if (ipv4Starts[middle] <= lower) {
+				candidate = middle;
+				low = middle + 1;
+			} else {
+				high = middle - 1;
+			}
+		}
+		return candidate >= 0 && upper <= ipv4Ends[candidate];
+	}
+
+	private boolean containsIPv6(final long lowerHigh, final long lowerLow, final long upperHigh,
+			final long upperLow) {
+		var low = 0;
+		var high = ipv6StartsHigh.length - 1;
+		var candidate = -1;
+		while (low <= high) {
+			val middle = (low + high) >>> 1;
+			if (compare(ipv6StartsHigh[middle], ipv6StartsLow[middle], lowerHigh, lowerLow) <= 0) {
+				candidate = middle;
+				low = middle + 1;
+			} else {
+				high = middle - 1;
+			}
+		}
+		return candidate >= 0
+				&& compare(upperHigh, upperLow, ipv6EndsHigh[candidate], ipv6EndsLow[candidate]) <= 0;
+	}
+
+	/**
+	 * Compares two unsigned 128-bit values
+	 */
+	private static int compare(final long high1, final long low1, final long high2, final long low2) {
+		val comparison = Long.compareUnsigned(high1, high2);
+		return comparison != 0 ? comparison : Long.compareUnsigned(low1, low2);
+	}
+
+	/**
+	 * Sorts and merges overlapping or adjacent intervals stored as
+	 * {@code {startHigh, startLow, endHigh, endLow}}
+	 */
+	private static List<long[]> merge(final List<long[]> intervals) {
+		val sorted = new ArrayList<>(intervals);
+		sorted.sort(Comparator.<long[]>comparingLong(i -> i[0] ^ Long.MIN_VALUE)
+							  .thenComparingLong(i -> i[1] ^ Long.MIN_VALUE));
+
+		val merged = new ArrayList<long[]>();
+		for (val interval : sorted) {
+			if (!merged.isEmpty()) {
+				val last = merged.get(merged.size() - 1);
+				val lastIsMax = last[2] == -1L && last[3] == -1L;
+				val nextHigh = last[3] == -1L ? last[2] + 1 : last[2];
+				val nextLow = last[3] + 1;
+				if (lastIsMax || compare(interval[0], interval[1], nextHigh, nextLow) <= 0) {
+					if (compare(interval[2], interval[3], last[2], last[3]) > 0) {
+						last[2] = interval[2];
+						last[3] = interval[3];
+					}
+					continue;
+				}
+			}
+			merged.add(interval.clone());
+		}
+		return merged;
+	}
+
+	private static long high(final byte[] bytes) {
+		return toLong(bytes, 0);
+	}
+
+	private static long low(final byte[] bytes) {
+		return toLong(bytes, IPV6_BYTES / 2);
+	}
+
+	private static long toLong(final byte[] bytes, final int offset) {
+		var value = 0L;
+		for (int i = offset; i < offset + Long.BYTES; i++) {
+			value = (value << 8) | (bytes[i] & 0xFF);
+		}
+		return value;
+	}
+
+	@Override
+	public String toString() {
+		return allowAll ? "IpRangeMatcher[*]"
+				: "IpRangeMatcher[ipv4=" + ipv4Starts.length + ", ipv6=" + ipv6StartsHigh.length + "]";
+	}
+
+	/**
+	 * Collects the ranges of a {@link IpRangeMatcher}. This class is not
+	 * thread-safe
+	 */
+	public static final class Builder {
+		private final List<long[]> ipv4 = new ArrayList<>();
+		private final List<long[]> ipv6 = new ArrayList<>();
+		private boolean allowAll;
+		private boolean empty = true;
+
+		private Builder() {
+		}
+
+		/**
+		 * Adds the range between two addresses, in any order
+		 *
+		 * @param startIpRange String
+		 * @param endIpRange   String
+		 * @return This builder
+		 */
+		public Builder range(final String startIpRange, final String endIpRange) {
+			empty = false;
+			if (ValidatorUtils.isEmpty(startIpRange) || ValidatorUtils.isEmpty(endIpRange)) {
+				allowAll = true;
+				return this;
+			}
+
+			try {
+				val lower = new IPAddressString(startIpRange).toAddress();
+				val upper = new IPAddressString(endIpRange).toAddress();
+				if (lower == null || upper == null) {
+					log.warn("#range - Invalid range {} - {}", startIpRange, endIpRange);
+					return this;
+				}
+				val range = lower.spanWithRange(upper);
+				add(range.getLower(), range.getUpper());
+			} catch (AddressStringException | AddressConversionException | IncompatibleAddressException e) {
+				log.warn("#range - Invalid range {} - {}: {}", startIpRange, endIpRange, e.getMessage());
+			}
+			return this;
+		}
+
+		/**
+		 * Adds a single address or a CIDR block, i.e. {@code 10.0.0.0/8}
+		 *
+		 * @param address String
+		 * @return This builder
+		 */
+		public Builder address(final String address) {
+			return range(address, address);
+		}
+
+		/**
+		 * Adds several addresses or CIDR blocks
+		 *
+		 * @param addresses {@code List<String>}
+		 * @return This builder
+		 */
+		public Builder addresses(final List<String> addresses) {
+			addresses.forEach(this::address);
+			return this;
+		}
+
+		/**
+		 * @return The compiled {@link IpRangeMatcher}
+		 */
+		public IpRangeMatcher build() {
+			return new IpRangeMatcher(allowAll || empty, ipv4, ipv6);
+		}
+
+		private void add(final IPAddress lower, final IPAddress upper) {
+			if (lower.isIPv4()) {
+				ipv4.add(new long[] { 0, lower.toIPv4().longValue(), 0, upper.toIPv4().longValue() });
+			} else {
+				val lowerBytes = lower.getBytes();
+				val upperBytes = upper.getBytes();
+				ipv6.add(new long[] { high(lowerBytes), low(lowerBytes), high(upperBytes), low(upperBytes) });
+			}
+		}
+	}
+
+}
@@ -0,0 +1,226 @@
+package mx.softixx.cis.common.core.pattern;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+import lombok.val;
+
+/**
+ * Registry of compiled {@code java.util.regex.Pattern}.
+ * <p>
+ * Every constant declared in {@link PatternUtils} is compiled once when the
+ * class is loaded. Any other regular expression provided by the caller is
+ * compiled on demand and kept in a bounded cache of {@value #MAX_CACHE_SIZE}
+ * entries.
+ * </p>
+ * <p>
+ * The cache is read without locking. Each entry keeps the time of its last
+ * access and, when an insert exceeds the size, the least recently used entries
+ * are evicted by a single thread, so the order is approximate under
+ * concurrency.
+ * </p>
+ *
+ * @author Maikel Guerra Ferrer - mguerraferrer@gmail.com
+ *
+ */
+public final class PatternRegistry {
+
+	private PatternRegistry() {
+		throw new IllegalStateException("Utility class");
+	}
+
+	/**
+	 * Max number of caller-supplied patterns kept in the cache
+	 */
+	public static final int MAX_CACHE_SIZE = 256;
+
+	public static final Pattern EMAIL = Pattern.compile(PatternUtils.EMAIL_PATTERN);
+	public static final Pattern ALPHABETIC = Pattern.compile(PatternUtils.ALPHABETIC_PATTERN);
+	public static final Pattern ALPHABETIC_WITH_SPACE = Pattern.compile(PatternUtils.ALPHABETIC_WITH_SPACE_PATTERN);
+	public static final Pattern NUMBER = Pattern.compile(PatternUtils.NUMBER_PATTERN);
+	public static final Pattern NUMBER_POSITIVE = Pattern.compile(PatternUtils.NUMBER_POSITIVE_PATTERN);
+	public static final Pattern NUMBER_WITH_SPACE = Pattern.compile(PatternUtils.NUMBER_WITH_SPACE_PATTERN);
+	public static final Pattern DOUBLE = Pattern.compile(PatternUtils.DOUBLE_PATTERN);
+	public static final Pattern DOUBLE_TWO_DECIMAL = Pattern.compile(PatternUtils.DOUBLE_TWO_DECIMAL_PATTERN);
+	public static final Pattern RFC = Pattern.compile(PatternUtils.RFC_PATTERN);
+	public static final Pattern RFC12 = Pattern.compile(PatternUtils.RFC12_PATTERN);
+	public static final Pattern RFC13 = Pattern.compile(PatternUtils.RFC13_PATTERN);
+	public static final Pattern CURP = Pattern.compile(PatternUtils.CURP_PATTERN);
+	public static final Pattern STATE_MX = Pattern.compile(PatternUtils.STATE_MX_PATTERN);
+	public static final Pattern ZIP_CODE_MX = Pattern.compile(PatternUtils.ZIP_CODE_MX_PATTERN);
+	public static final Pattern PHONE_MX = Pattern.compile(PatternUtils.PHONE_MX_PATTERN);
+	public static final Pattern BOOLEAN = Pattern.compile(PatternUtils.BOOLEAN_PATTERN);
+	public static final Pattern DATE = Pattern.compile(PatternUtils.DATE_PATTERN);
+	public static final Pattern DATE_TIME_24H = Pattern.compile(PatternUtils.DATE_TIME_24H_PATTERN);
+	public static final Pattern DATE_TIME_24H_FULL = Pattern.compile(PatternUtils.DATE_TIME_24H_FULL_PATTERN);
+	public static final Pattern DATE_TIME_24H_T = Pattern.compile(PatternUtils.DATE_TIME_24H_T_PATTERN);
+	public static final Pattern DATE_TIME_24H_T_FULL = Pattern.compile(PatternUtils.DATE_TIME_24H_T_FULL_PATTERN);
+	public static final Pattern DATE_TIME_24H_DOT = Pattern.compile(PatternUtils.DATE_TIME_24H_DOT_PATTERN);
+	public static final Pattern DATE_TIME_24H_DOT_T = Pattern.compile(PatternUtils.DATE_TIME_24H_DOT_T_PATTERN);
+	public static final Pattern TIME_12H = Pattern.compile(PatternUtils.TIME_12H_PATTERN);
+	public static final Pattern TIME_12H_FULL = Pattern.compile(PatternUtils.TIME_12H_FULL_PATTERN);
+	public static final Pattern TIME_24H = Pattern.compile(PatternUtils.TIME_24H_PATTERN);
+	public static final Pattern TIME_24H_FULL = Pattern.compile(PatternUtils.TIME_24H_FULL_PATTERN);
+
+	/**
+	 * {@link PatternUtils} constants indexed by their regular expression. This map
+	 * is never modified after class initialization, so it is read without locking
+	 */
+	private static final Map<String, Pattern> PREDEFINED = Map.ofEntries(
+			entry(EMAIL), entry(ALPHABETIC), entry(ALPHABETIC_WITH_SPACE), entry(NUMBER), entry(NUMBER_POSITIVE),
+			entry(NUMBER_WITH_SPACE), entry(DOUBLE), entry(DOUBLE_TWO_DECIMAL), entry(RFC), entry(RFC12),
+			entry(RFC13), entry(CURP), entry(STATE_MX), entry(ZIP_CODE_MX), entry(PHONE_MX), entry(BOOLEAN),
+			entry(DATE), entry(DATE_TIME_24H), entry(DATE_TIME_24H_FULL), entry(DATE_TIME_24H_T),
+			entry(DATE_TIME_24H_T_FULL), entry(DATE_TIME_24H_DOT), entry(DATE_TIME_24H_DOT_T), entry(TIME_12H),
+			entry(TIME_12H_FULL), entry(TIME_24H), entry(TIME_24H_FULL));
+
+	/**
+	 * Caller-supplied patterns with their last access
+	 */
+	private static final ConcurrentHashMap<String, CachedPattern> CACHE = new ConcurrentHashMap<>();
+
+	/**
+	 * Held by the thread evicting entries, the others skip the eviction
+	 */
+	private static final AtomicBoolean EVICTING = new AtomicBoolean();
+
+	private static final LongAdder HITS = new LongAdder();
+	private static final LongAdder MISSES = new LongAdder();
+
+	/**
+	 * Returns the compiled {@code Pattern} for the given regular expression. The
+	 * {@link PatternUtils} constants are always resolved without compiling, the
+	 * rest are compiled once and cached
+	 *
+	 * @param regexp The regular expression
+	 * @return The compiled {@code Pattern}
+	 * @throws java.util.regex.PatternSyntaxException If the expression's syntax is
+	 *                                                invalid
+	 */
+	public static Pattern compile(final String regexp) {
+		val predefined = PREDEFINED.get(regexp);
+		if (predefined != null) {
+			HITS.increment();
+			return predefined;
+		}
+
+		val cached = CACHE.get(regexp);
+		if (cached != null) {
+			HITS.increment();
+			cached.lastAccess = System.nanoTime();
+			return cached.pattern;
+		}
+
+		// ##### Two threads may compile the same expression concurrently, the
+		// first one cached is returned to both
+		MISSES.increment();
+		val created = new CachedPattern(Pattern.compile(regexp));
+		val previous = CACHE.putIfAbsent(regexp, created);
+		if (previous != null) {
+			return previous.pattern;
+		}
+		if (CACHE.size() > MAX_CACHE_SIZE) {
+			evict();
+		}
+		return created.pattern;
+	}
+
+	/**
+	 * Evaluates if the value matches the given regular expression
+	 *
+	 * @param regexp The regular expression
+	 * @param value  The value to match
+	 * @return True if the entire value matches the expression, otherwise false
+	 */
+	public static boolean matches(final String regexp, final CharSequence value) {
+		return compile(regexp).matcher(value).matches();
+	}
+
+	/**
+	 * Returns the number of lookups resolved without compiling
+	 *
+	 * @return the number of cache hits
+	 */
+	public static long hits() {
+		return HITS.sum();
+	}
+
+	/**
+	 * Returns the number of lookups that required compiling the expression
+	 *
+	 * @return the number of cache misses
+	 */
+	public static long misses() {
+		return MISSES.sum();
+	}
+
+	/**
+	 * Returns the number of caller-supplied patterns currently cached
+	 *
+	 * @return the cache size
+	 */
+	public static int size() {
+		return CACHE.size();
+	}
+
+	/**
+	 * Removes the caller-supplied patterns from the cache and resets the counters
+	 */
+	public static void clear() {
+		CACHE.clear();
+		HITS.reset();
+		MISSES.reset();
+	}
+
+	/**
+	 * Removes the least recently used entries until the size is within the limit
+	 */
+	private static void evict() {
+		// ##### Checked again after releasing, an insert may have been skipped meanwhile
+		do {
+			if (!EVICTING.compareAndSet(false, true)) {
+				return;
+			}
+			try {
+				while (CACHE.size() > MAX_CACHE_SIZE) {
+					removeEldest();
+				}
+			} finally {
+				EVICTING.set(false);
+			}
+		} while (CACHE.size() > MAX_CACHE_SIZE);
+	}
+
+	private static void removeEldest() {
+		String eldest = null;
+		var eldestAccess = 0L;
+		for (val entry : CACHE.entrySet()) {
+			val access = entry.getValue().lastAccess;
+			if (eldest == null || access - eldestAccess < 0) {
+				eldest = entry.getKey();
+				eldestAccess = access;
+			}
+		}
+		if (eldest != null) {
+			CACHE.remove(eldest);
+		}
+	}
+
+	private static Map.Entry<String, Pattern> entry(final Pattern pattern) {
+		return Map.entry(pattern.pattern(), pattern);
+	}
+
+	private static final class CachedPattern {
+		private final Pattern pattern;
+		private volatile long lastAccess;
+
+		private CachedPattern(final Pattern pattern) {
+			this.pattern = pattern;
+			this.lastAccess = System.nanoTime();
+		}
+	}
+
+}
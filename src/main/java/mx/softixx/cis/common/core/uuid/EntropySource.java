@@ -0,0 +1,165 @@
+package mx.softixx.cis.common.core.uuid;
+
+import java.security.DrbgParameters;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import lombok.val;
+
+/**
+ * Sources of random values without contention between threads.
+ * <p>
+ * Every thread has its own generator, so threads never block each other as
+ * with a shared {@code SecureRandom} or {@code UUID.randomUUID()}.
+ * </p>
+ * <ul>
+ * <li>{@link #STRONG}: per-thread DRBG {@code SecureRandom} (SHA-256, 256-bit
+ * strength) that produces blocks of {@value #BLOCK_SIZE} bytes and is reseeded
+ * from the system entropy every {@value #RESEED_INTERVAL} bytes. Use it for
+ * tokens, keys and any value that must not be predictable.</li>
+ * <li>{@link #FAST}: per-thread {@code SplittableRandom} seeded from
+ * {@link #STRONG} and replaced every {@value #RESEED_INTERVAL} values. Use it
+ * for identifiers that only need to be unique.</li>
+ * </ul>
+ *
+ * @author Maikel Guerra Ferrer - mguerraferrer@gmail.com
+ *
+ */
+public enum EntropySource {
+
+	STRONG(StrongGenerator::new),
+	FAST(FastGenerator::new);
+
+	/**
+	 * Number of bytes requested to the {@code SecureRandom} at once
+	 */
+	public static final int BLOCK_SIZE = 256;
+
+	/**
+	 * Number of bytes ({@link #STRONG}) or values ({@link #FAST}) generated
+	 * between reseeds
+	 */
+	public static final int RESEED_INTERVAL = 1 << 20;
+
+	private final ThreadLocal<Generator> generators;
+
+	private EntropySource(final Supplier<Generator> factory) {
+		this.generators = ThreadLocal.withInitial(factory);
+	}
+
+	/**
+	 * @return A random long
+	 */
+	public long nextLong() {
+		return generators.get().nextLong();
+	}
+
+	/**
+	 * Fills the array with random bytes
+	 *
+	 * @param bytes byte[]
+	 */
+	public void nextBytes(final byte[] bytes) {
+		generators.get().nextBytes(bytes);
+	}
+
+	/**
+	 * Creates a random (version 4) UUID with this source
+	 *
+	 * @return {@code UUID}
+	 */
+	public UUID randomUUID() {
+		val generator = generators.get();
+		val msb = (generator.nextLong() & 0xFFFFFFFFFFFF0FFFL) | 0x0000000000004000L;
+		val lsb = (generator.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+		return new UUID(msb, lsb);
+	}
+
+	private abstract static class Generator {
+		abstract long nextLong();
+
+		abstract void nextBytes(byte[] bytes);
+	}
+
+	private static final class StrongGenerator extends Generator {
+		private final SecureRandom random;
+		private final byte[] block = new byte[BLOCK_SIZE];
+		private int position = BLOCK_SIZE;
+		private long generated;
+
+		StrongGenerator() {
+			try {
+				this.random = SecureRandom.getInstance("DRBG",
+						DrbgParameters.instantiation(256, DrbgParameters.Capability.RESEED_ONLY, null));
+			} catch (NoSuchAlgorithmException e) {
+				throw new IllegalStateException("DRBG not supported", e);
+			}
+		}
+
+		@Override
+		long nextLong() {
+			if (position > BLOCK_SIZE - Long.BYTES) {
+				refill();
+			}
+			var value = 0L;
+			for (int i = 0; i < Long.BYTES; i++) {
+				value = (value << 8) | (block[position++] & 0xFF);
+			}
+			return value;
+		}
+
+		@Override
+		void nextBytes(final byte[] bytes) {
+			var offset = 0;
+			while (offset < bytes.length) {
+				if (position == BLOCK_SIZE) {
+					refill();
+				}
+				val length = Math.min(bytes.length - offset, BLOCK_SIZE - position);
+				System.arraycopy(block, position, bytes, offset, length);
+				position += length;
+				offset += length;
+			}
+		}
+
+		private void refill() {
+			if (generated >= RESEED_INTERVAL) {
+				random.reseed();
+				generated = 0;
+			}
+			random.nextBytes(block);
+			generated += BLOCK_SIZE;
+			position = 0;
+		}
+	}
+
+	private static final class FastGenerator extends Generator {
+		private SplittableRandom random = new SplittableRandom(STRONG.nextLong());
+		private int generated;
+
+		@Override
+		long nextLong() {
+			if (++generated > RESEED_INTERVAL) {
+				random = new SplittableRandom(STRONG.nextLong());
+				generated = 1;
+			}
+			return random.nextLong();
+		}
+
+		@Override
+		void nextBytes(final byte[] bytes) {
+			var i = 0;
+			while (i < bytes.length) {
+				var value = nextLong();
+				for (int n = Math.min(bytes.length - i, Long.BYTES); n > 0; n--) {
+					bytes[i++] = (byte) value;
+					value >>>= 8;
+				}
+			}
+		}
+	}
+
+}
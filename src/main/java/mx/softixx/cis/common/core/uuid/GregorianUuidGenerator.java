@@ -0,0 +1,185 @@
+package mx.softixx.cis.common.core.uuid;
+
+import java.time.Clock;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import lombok.val;
+
+/**
+ * Lock-free generator of version 1 and version 6 UUIDs (RFC 9562).
+ * <p>
+ * The timestamp is the number of 100-nanosecond intervals since the Gregorian
+ * epoch (1582-10-15), obtained from a {@code java.time.Clock} plus a
+ * constant offset. The last timestamp is kept in an {@code AtomicLong} and
+ * every UUID takes the next interval, so the values of a generator never
+ * repeat, even across threads and if the system clock goes back. When more
+ * than 10,000 UUIDs are requested within a millisecond the following intervals
+ * are borrowed.
+ * </p>
+ * <p>
+ * The clock sequence is random per instance, so generators of different
+ * processes with the same node ID do not collide after a restart. The default
+ * node ID is random with the multicast bit set, as required when the MAC
+ * address is not used.
+ * </p>
+ *
+ * @author Maikel Guerra Ferrer - mguerraferrer@gmail.com
+ *
+ */
+public final class GregorianUuidGenerator {
+
+	private static final GregorianUuidGenerator DEFAULT = new GregorianUuidGenerator();
+
+	/**
+	 * 100-nanosecond intervals between 1582-10-15T00:00Z and 1970-01-01T00:00Z
+	 */
+	private static final long GREGORIAN_OFFSET = 0x01B21DD213814000L;
+	private static final long INTERVALS_PER_MILLI = 10_000L;
+
+	private static final long NODE_MASK = 0xFFFFFFFFFFFFL;
+	private static final long MULTICAST = 0x010000000000L;
+	private static final int CLOCK_SEQUENCE_MASK = 0x3FFF;
+	private static final long VARIANT = 0x8000000000000000L;
+	private static final long VERSION_1 = 0x1000L;
+	private static final long VERSION_6 = 0x6000L;
+
+	/**
+	 * Last 60-bit timestamp used
+	 */
+	private final AtomicLong state = new AtomicLong();
+
+	/**
+	 * Variant, clock sequence and node ID, the same for every UUID
+	 */
+	private final long leastSigBits;
+
+	private final Clock clock;
+
+	/**
+	 * Creates a generator with a random node ID and clock sequence
+	 */
+	public GregorianUuidGenerator() {
+		this((EntropySource.STRONG.nextLong() & NODE_MASK) | MULTICAST,
+				(int) EntropySource.STRONG.nextLong() & CLOCK_SEQUENCE_MASK);
+	}
+
+	/**
+	 * @param node          48-bit node ID, i.e. the MAC address
+	 * @param clockSequence 14-bit clock sequence
+	 * @throws IllegalArgumentException If any value exceeds its size
+	 */
+	public GregorianUuidGenerator(final long node, final int clockSequence) {
+		this(node, clockSequence, Clock.systemUTC());
+	}
+
+	/**
+	 * @param node          48-bit node ID, i.e. the MAC address
+	 * @param clockSequence 14-bit clock sequence
+	 * @param clock         {@code java.time.Clock} of the timestamp
+	 * @throws IllegalArgumentException If any value exceeds its size
+	 */
+	public GregorianUuidGenerator(final long node, final int clockSequence, final Clock clock) {
+		if ((node & ~NODE_MASK) != 0) {
+			throw new IllegalArgumentException("Node ID must be 48 bits: " + node);
+		}
+		if ((clockSequence & ~CLOCK_SEQUENCE_MASK) != 0) {
+			throw new IllegalArgumentException("Clock sequence must be 14 bits: " + clockSequence);
+		}
+		this.leastSigBits = VARIANT | ((long) clockSequence << 48) | node;
+		this.clock = Objects.requireNonNull(clock, "clock");
+	}
+
+	/**
+	 * @return The generator shared by {@link UuidGeneratorUtils}
+	 */
+	public static GregorianUuidGenerator getDefault() {
+		return DEFAULT;
+	}
+
+	/**
+	 * Creates a version 1 UUID
+	 *
+	 * @return {@code UUID}
+	 */
+	public UUID nextV1() {
+		return new UUID(version1(reserve(1)), leastSigBits);
+	}
+
+	/**
+	 * Creates a version 6 UUID, the same fields of version 1 with the timestamp
+	 * from the most significant bits so the values are sorted by creation time
+	 *
+	 * @return {@code UUID} greater than any other version 6 UUID created by this
+	 *         generator
+	 */
+	public UUID nextV6() {
+		return new UUID(version6(reserve(1)), leastSigBits);
+	}
+
+	/**
+	 * Fills the array with consecutive version 6 UUIDs, reserving all the
+	 * timestamps with a single update
+	 *
+	 * @param target {@code UUID[]}
+	 * @return The same array
+	 */
+	public UUID[] fillV6(final UUID[] target) {
+		Objects.requireNonNull(target, "target");
+		if (target.length == 0) {
+			return target;
+		}
+
+		var timestamp = reserve(target.length);
+		for (int i = 0; i < target.length; i++) {
+			target[i] = new UUID(version6(timestamp++), leastSigBits);
+		}
+		return target;
+	}
+
+	/**
+	 * Returns the creation time of a version 1 or version 6 UUID
+	 *
+	 * @param uuid UUID
+	 * @return Unix time in milliseconds
+	 * @throws IllegalArgumentException If the UUID is not version 1 or 6
+	 */
+	public static long timestamp(final UUID uuid) {
+		val msb = uuid.getMostSignificantBits();
+		long timestamp;
+		if (uuid.version() == 1) {
+			timestamp = ((msb & 0x0FFFL) << 48) | (((msb >>> 16) & 0xFFFFL) << 32) | (msb >>> 32);
+		} else if (uuid.version() == 6) {
+			timestamp = ((msb >>> 16) << 12) | (msb & 0x0FFFL);
+		} else {
+			throw new IllegalArgumentException("Not a version 1 or 6 UUID: " + uuid);
+		}
+		return Math.floorDiv(timestamp - GREGORIAN_OFFSET, INTERVALS_PER_MILLI);
+	}
+
+	/**
+	 * Reserves {@code count} consecutive timestamps
+	 *
+	 * @return The first reserved timestamp
+	 */
+	private long reserve(final int count) {
+		val now = clock.millis() * INTERVALS_PER_MILLI + GREGORIAN_OFFSET;
+		while (true) {
+			val previous = state.get();
+			val first = Math.max(now, previous + 1);
+			if (state.compareAndSet(previous, first + count - 1)) {
+				return first;
+			}
+		}
+	}
+
+	private static long version1(final long timestamp) {
+		return (timestamp << 32) | ((timestamp >>> 16) & 0xFFFF0000L) | VERSION_1 | ((timestamp >>> 48) & 0x0FFFL);
+	}
+
+	private static long version6(final long timestamp) {
+		return ((timestamp >>> 12) << 16) | VERSION_6 | (timestamp & 0x0FFFL);
+	}
+
+}
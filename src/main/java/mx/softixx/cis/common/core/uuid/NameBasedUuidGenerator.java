@@ -0,0 +1,120 @@
+package mx.softixx.cis.common.core.uuid;
+
+import java.security.MessageDigest;
+import java.util.Objects;
+import java.util.UUID;
+
+import lombok.val;
+
+/**
+ * Generator of name-based UUIDs of a fixed namespace, version 3 (MD5) or
+ * version 5 (SHA-1).
+ * <p>
+ * The namespace is decoded once and the digests and buffers are confined to
+ * the calling thread, so generating a UUID does not look up the
+ * {@code MessageDigest} provider nor allocate intermediate arrays: the name is
+ * encoded in UTF-8 into a reusable buffer of fixed size, hashed in chunks when
+ * it is longer, and the hash is written into a reusable output. The result is the same as
+ * {@link UuidGeneratorUtils#generateType3UUID(String, String)} and
+ * {@link UuidGeneratorUtils#generateType5UUID(String, String)}. Instances are
+ * immutable and thread-safe.
+ * </p>
+ *
+ * @author Maikel Guerra Ferrer - mguerraferrer@gmail.com
+ *
+ */
+public final class NameBasedUuidGenerator {
+
+	/**
+	 * Namespaces defined in RFC 9562
+	 */
+	public static final UUID NAMESPACE_DNS = UUID.fromString("6ba7b810-9dad-11d1-80b4-00c04fd430c8");
+	public static final UUID NAMESPACE_URL = UUID.fromString("6ba7b811-9dad-11d1-80b4-00c04fd430c8");
+	public static final UUID NAMESPACE_OID = UUID.fromString("6ba7b812-9dad-11d1-80b4-00c04fd430c8");
+	public static final UUID NAMESPACE_X500 = UUID.fromString("6ba7b814-9dad-11d1-80b4-00c04fd430c8");
+
+	private static final int MD5_VERSION = 3;
+	private static final int SHA1_VERSION = 5;
+
+	private final byte[] namespace;
+	private final int version;
+
+	private NameBasedUuidGenerator(final UUID namespace, final int version) {
+		this.namespace = UuidCodec.toBytes(Objects.requireNonNull(namespace, "namespace"));
+		this.version = version;
+	}
+
+	/**
+	 * @param namespace UUID
+	 * @return Generator of version 3 UUIDs
+	 */
+	public static NameBasedUuidGenerator md5(final UUID namespace) {
+		return new NameBasedUuidGenerator(namespace, MD5_VERSION);
+	}
+
+	/**
+	 * @param namespace UUID
+	 * @return Generator of version 5 UUIDs
+	 */
+	public static NameBasedUuidGenerator sha1(final UUID namespace) {
+		return new NameBasedUuidGenerator(namespace, SHA1_VERSION);
+	}
+
+	/**
+	 * Creates the UUID of a name encoded in UTF-8
+	 *
+	 * @param name CharSequence
+	 * @return {@code UUID}
+	 */
+	public UUID generate(final CharSequence name) {
+		val digests = ThreadLocalDigests.current();
+		return digests.nameUuid(digest(digests), namespace, name, version);
+	}
+
+	/**
+	 * Creates the UUID of a name given as bytes
+	 *
+	 * @param name byte[]
+	 * @return {@code UUID}
+	 */
+	public UUID generate(final byte[] name) {
+		return generate(name, 0, name.length);
+	}
+
+	/**
+	 * Creates the UUID of a name given as a range of bytes
+	 *
+	 * @param name   byte[]
+	 * @param offset First byte of the name
+	 * @param length Number of bytes of the name
+	 * @return {@code UUID}
+	 */
+	public UUID generate(final byte[] name, final int offset, final int length) {
+		Objects.checkFromIndexSize(offset, length, name.length);
+		val digests = ThreadLocalDigests.current();
+		return digests.nameUuid(digest(digests), namespace, name, offset, length, version);
+	}
+
+	/**
+	 * @return Version of the UUIDs created, 3 or 5
+	 */
+	public int version() {
+		return version;
+	}
+
+	/**
+	 * Creates the UUID of a name without building a generator, the namespace is
+	 * given in hexadecimal with or without dashes
+	 */
+	static UUID generate(final CharSequence namespace, final CharSequence name, final int version) {
+		val digests = ThreadLocalDigests.current();
+		digests.decodeNamespace(namespace);
+		val digest = version == MD5_VERSION ? digests.md5 : digests.sha1;
+		return digests.nameUuid(digest, digests.namespace, name, version);
+	}
+
+	private MessageDigest digest(final ThreadLocalDigests digests) {
+		return version == MD5_VERSION ? digests.md5 : digests.sha1;
+	}
+
+}
@@ -0,0 +1,197 @@
+package mx.softixx.cis.common.core.uuid;
+
+import java.security.DigestException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.UUID;
+
+import lombok.val;
+
+/**
+ * Message digests and buffers confined to the current thread, so the hashes of
+ * {@link UuidGeneratorUtils} and {@link NameBasedUuidGenerator} neither look up
+ * the provider nor allocate arrays on every call.
+ *
+ * @author Maikel Guerra Ferrer - mguerraferrer@gmail.com
+ *
+ */
+final class ThreadLocalDigests {
+
+	private static final ThreadLocal<ThreadLocalDigests> CURRENT = ThreadLocal.withInitial(ThreadLocalDigests::new);
+
+	private static final int CAPACITY = 256;
+
+	/**
+	 * Bytes of the longest UTF-8 sequence, a surrogate pair
+	 */
+	private static final int MAX_UTF8_BYTES = 4;
+
+	final MessageDigest md5 = getInstance("MD5");
+	final MessageDigest sha1 = getInstance("SHA-1");
+	final MessageDigest sha256 = getInstance("SHA-256");
+
+	/**
+	 * Output of MD5 and SHA-1
+	 */
+	final byte[] hash = new byte[20];
+
+	/**
+	 * Output of SHA-256
+	 */
+	final byte[] hash256 = new byte[32];
+
+	/**
+	 * 16 bytes of a namespace
+	 */
+	final byte[] namespace = new byte[16];
+
+	/**
+	 * Encoded input, long values are hashed in chunks of this size
+	 */
+	final byte[] input = new byte[CAPACITY];
+
+	private ThreadLocalDigests() {
+	}
+
+	static ThreadLocalDigests current() {
+		return CURRENT.get();
+	}
+
+	/**
+	 * Hashes the UTF-8 bytes of the value, as
+	 * {@code String.getBytes(StandardCharsets.UTF_8)}. The bytes are encoded in
+	 * {@link #input} and passed to the digest every time the buffer is full, so
+	 * long values do not grow the buffer of the thread
+	 */
+	void updateUtf8(final MessageDigest digest, final CharSequence value) {
+		val length = value.length();
+		val bytes = input;
+		val limit = bytes.length - MAX_UTF8_BYTES;
+		var position = 0;
+		for (int i = 0; i < length; i++) {
+			if (position > limit) {
+				digest.update(bytes, 0, position);
+				position = 0;
+			}
+
+			val c = value.charAt(i);
+			if (c < 0x80) {
+				bytes[position++] = (byte) c;
+			} else if (c < 0x800) {
+				bytes[position++] = (byte) (0xC0 | (c >> 6));
+				bytes[position++] = (byte) (0x80 | (c & 0x3F));
+			} else if (Character.isSurrogate(c)) {
+				// ##### Unpaired surrogates are replaced with '?' as in String.getBytes
+				if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+					val codePoint = Character.toCodePoint(c, value.charAt(++i));
+					bytes[position++] = (byte) (0xF0 | (codePoint >> 18));
+					bytes[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+					bytes[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+					bytes[position++] = (byte) (0x80 | (codePoint & 0x3F));
+				} else {
+					bytes[position++] = '?';
+				}
+			} else {
+				bytes[position++] = (byte) (0xE0 | (c >> 12));
+				bytes[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+				bytes[position++] = (byte) (0x80 | (c & 0x3F));
+			}
+		}
+		digest.update(bytes, 0, position);
+	}
+
+	/**
+	 * Writes the 36 ASCII bytes of {@code UUID.toString()} in {@link #input}
+	 *
+	 * @return Number of bytes written
+	 */
+	int encodeUuid(final UUID uuid) {
+		UuidCodec.format(uuid, input, 0);
+		return UuidCodec.CANONICAL_LENGTH;
+	}
+
+	/**
+	 * Writes the 16 bytes of a UUID in hexadecimal (dashes are ignored) in
+	 * {@link #namespace}
+	 *
+	 * @throws IllegalArgumentException If the value does not have 32 hexadecimal
+	 *                                  digits
+	 */
+	void decodeNamespace(final CharSequence value) {
+		var digits = 0;
+		for (int i = 0; i < value.length(); i++) {
+			val c = value.charAt(i);
+			if (c == '-') {
+				continue;
+			}
+			val digit = UuidCodec.hexValue(c);
+			if (digit < 0 || digits == 32) {
+				throw new IllegalArgumentException("Invalid UUID: " + value);
+			}
+			namespace[digits >> 1] = (byte) ((digits & 1) == 0 ? digit << 4 : namespace[digits >> 1] | digit);
+			digits++;
+		}
+		if (digits != 32) {
+			throw new IllegalArgumentException("Invalid UUID: " + value);
+		}
+	}
+
+	/**
+	 * Hashes the namespace (16 bytes) followed by the UTF-8 bytes of the name
+	 * and returns the name-based UUID of the given version
+	 */
+	UUID nameUuid(final MessageDigest digest, final byte[] namespaceBytes, final CharSequence name,
+			final int version) {
+		digest.update(namespaceBytes, 0, 16);
+		updateUtf8(digest, name);
+		digest(digest, hash);
+		return toUuid(hash, version);
+	}
+
+	/**
+	 * Hashes the namespace (16 bytes) followed by {@code length} bytes of the
+	 * name and returns the name-based UUID of the given version
+	 */
+	UUID nameUuid(final MessageDigest digest, final byte[] namespaceBytes, final byte[] name, final int offset,
+			final int length, final int version) {
+		digest.update(namespaceBytes, 0, 16);
+		digest.update(name, offset, length);
+		digest(digest, hash);
+		return toUuid(hash, version);
+	}
+
+	static void digest(final MessageDigest digest, final byte[] output) {
+		try {
+			digest.digest(output, 0, digest.getDigestLength());
+		} catch (DigestException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Builds a UUID from the first 16 bytes of a hash, setting the version and
+	 * the IETF variant
+	 */
+	static UUID toUuid(final byte[] hash, final int version) {
+		var msb = 0L;
+		var lsb = 0L;
+		for (int i = 0; i < 8; i++) {
+			msb = (msb << 8) | (hash[i] & 0xFF);
+		}
+		for (int i = 8; i < 16; i++) {
+			lsb = (lsb << 8) | (hash[i] & 0xFF);
+		}
+		msb = (msb & 0xFFFFFFFFFFFF0FFFL) | ((long) version << 12);
+		lsb = (lsb & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+		return new UUID(msb, lsb);
+	}
+
+	private static MessageDigest getInstance(final String algorithm) {
+		try {
+			return MessageDigest.getInstance(algorithm);
+		} catch (NoSuchAlgorithmException nsae) {
+			throw new InternalError(algorithm + " not supported", nsae);
+		}
+	}
+
+}
@@ -0,0 +1,147 @@
+package mx.softixx.cis.common.core.uuid;
+
+import java.time.Clock;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import lombok.val;
+
+/**
+ * Lock-free generator of version 7 UUIDs (RFC 9562).
+ * <p>
+ * The 48 most significant bits are the Unix time in milliseconds, so the values
+ * are sorted by creation time and keep the locality of B-tree indexes on
+ * insert. The time is followed by a 20-bit counter (12 bits in {@code rand_a}
+ * and 8 bits at the start of {@code rand_b}) and 54 random bits taken from an
+ * {@link EntropySource}, {@link EntropySource#FAST} by default.
+ * </p>
+ * <p>
+ * Time and counter are kept together in a single {@code AtomicLong} updated
+ * with compare-and-set, so the values created by a generator are strictly
+ * increasing, even across threads and if the system clock goes back. When the
+ * counter is exhausted within a millisecond the next millisecond is borrowed.
+ * </p>
+ *
+ * @author Maikel Guerra Ferrer - mguerraferrer@gmail.com
+ *
+ */
+public final class TimeOrderedUuidGenerator {
+
+	private static final TimeOrderedUuidGenerator DEFAULT = new TimeOrderedUuidGenerator();
+
+	private static final int COUNTER_BITS = 20;
+	private static final int RAND_A_BITS = 12;
+	private static final int RAND_B_COUNTER_BITS = COUNTER_BITS - RAND_A_BITS;
+	private static final long RAND_A_MASK = (1L << RAND_A_BITS) - 1;
+	private static final long RAND_B_COUNTER_MASK = (1L << RAND_B_COUNTER_BITS) - 1;
+	private static final long RANDOM_MASK = (1L << (62 - RAND_B_COUNTER_BITS)) - 1;
+	private static final long VERSION = 0x7000L;
+	private static final long VARIANT = 0x8000000000000000L;
+
+	/**
+	 * Unix time in milliseconds shifted {@value #COUNTER_BITS} bits plus the
+	 * counter of the last value created
+	 */
+	private final AtomicLong state = new AtomicLong();
+
+	private final EntropySource source;
+	private final Clock clock;
+
+	public TimeOrderedUuidGenerator() {
+		// ##### Instances are independent, use getDefault() to share the state
+		this(EntropySource.FAST);
+	}
+
+	/**
+	 * @param source {@link EntropySource} of the random bits
+	 */
+	public TimeOrderedUuidGenerator(final EntropySource source) {
+		this(source, Clock.systemUTC());
+	}
+
+	/**
+	 * @param source {@link EntropySource} of the random bits
+	 * @param clock  {@code java.time.Clock} of the Unix time
+	 */
+	public TimeOrderedUuidGenerator(final EntropySource source, final Clock clock) {
+		this.source = Objects.requireNonNull(source, "source");
+		this.clock = Objects.requireNonNull(clock, "clock");
+	}
+
+	/**
+	 * @return The generator shared by {@link UuidGeneratorUtils}
+	 */
+	public static TimeOrderedUuidGenerator getDefault() {
+		return DEFAULT;
+	}
+
+	/**
+	 * Creates a version 7 UUID
+	 *
+	 * @return {@code UUID} greater than any other created by this generator
+	 */
+	public UUID next() {
+		return create(reserve(1), source.nextLong());
+	}
+
+	/**
+	 * Fills the array with consecutive version 7 UUIDs, reserving all the
+	 * counters with a single update
+	 *
+	 * @param target {@code UUID[]}
+	 * @return The same array
+	 */
+	public UUID[] fill(final UUID[] target) {
+		Objects.requireNonNull(target, "target");
+		if (target.length == 0) {
+			return target;
+		}
+
+		var value = reserve(target.length);
+		for (int i = 0; i < target.length; i++) {
+			target[i] = create(value++, source.nextLong());
+		}
+		return target;
+	}
+
+	/**
+	 * Returns the creation time of a version 7 UUID
+	 *
+	 * @param uuid UUID
+	 * @return Unix time in milliseconds
+	 * @throws IllegalArgumentException If the UUID is not version 7
+	 */
+	public static long timestamp(final UUID uuid) {
+		if (uuid.version() != 7) {
+			throw new IllegalArgumentException("Not a version 7 UUID: " + uuid);
+		}
+		return uuid.getMostSignificantBits() >>> 16;
+	}
+
+	/**
+	 * Reserves {@code count} consecutive states
+	 *
+	 * @return The first reserved state
+	 */
+	private long reserve(final int count) {
+		val now = clock.millis() << COUNTER_BITS;
+		while (true) {
+			val previous = state.get();
+			val first = Math.max(now, previous + 1);
+			if (state.compareAndSet(previous, first + count - 1)) {
+				return first;
+			}
+		}
+	}
+
+	private static UUID create(final long value, final long random) {
+		val millis = value >>> COUNTER_BITS;
+		val counter = value & ((1L << COUNTER_BITS) - 1);
+		val msb = (millis << 16) | VERSION | ((counter >>> RAND_B_COUNTER_BITS) & RAND_A_MASK);
+		val lsb = VARIANT | ((counter & RAND_B_COUNTER_MASK) << (62 - RAND_B_COUNTER_BITS))
+				| (random & RANDOM_MASK);
+		return new UUID(msb, lsb);
+	}
+
+}
@@ -0,0 +1,538 @@
+package mx.softixx.cis.common.core.uuid;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.UUID;
+
+import lombok.val;
+
+/**
+ * Table-driven conversions of UUIDs to and from text and bytes.
+ * <ul>
+ * <li>Canonical form: 36 characters {@code xxxxxxxx-xxxx-xxxx-xxxx-xxxxxxxxxxxx}
+ * in lowercase, parsed in any case, written into and read from
+ * {@code byte[]}, {@code char[]} or {@code CharSequence} without intermediate
+ * Strings.</li>
+ * <li>Base62: 22 characters {@code [0-9A-Za-z]}, fixed width and sorted as the
+ * unsigned 128-bit value.</li>
+ * <li>Crockford Base32: 26 characters, case insensitive and with the aliases
+ * {@code I}, {@code L} (1) and {@code O} (0) when parsing.</li>
+ * <li>Binary: 16 bytes, most significant first, in arrays or
+ * {@code ByteBuffer}.</li>
+ * </ul>
+ * <p>
+ * Parsing methods return {@code null} if the value is not valid.
+ * </p>
+ *
+ * @author Maikel Guerra Ferrer - mguerraferrer@gmail.com
+ *
+ */
+public final class UuidCodec {
+
+	private UuidCodec() {
+		throw new IllegalStateException("Utility class");
+	}
+
+	public static final int CANONICAL_LENGTH = 36;
+	public static final int BASE62_LENGTH = 22;
+	public static final int BASE32_LENGTH = 26;
+	public static final int BYTES = 16;
+
+	private static final byte[] HEX_DIGITS = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+	private static final byte[] BASE62_DIGITS = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz"
+			.getBytes(StandardCharsets.US_ASCII);
+	private static final byte[] BASE32_DIGITS = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".getBytes(StandardCharsets.US_ASCII);
+
+	/**
+	 * Values of the ASCII characters in each alphabet, -1 if not valid
+	 */
+	private static final byte[] HEX_VALUES = values(HEX_DIGITS, true);
+	private static final byte[] BASE62_VALUES = values(BASE62_DIGITS, false);
+	private static final byte[] BASE32_VALUES = values(BASE32_DIGITS, true);
+
+	/**
+	 * Two lowercase hexadecimal digits of every byte value
+	 */
+	private static final short[] HEX_PAIRS = new short[256];
+
+	/**
+	 * 62^5, the largest power of 62 lower than 2^30
+	 */
+	private static final long BASE62_CHUNK = 916132832L;
+
+	static {
+		for (int i = 0; i < 256; i++) {
+			HEX_PAIRS[i] = (short) ((HEX_DIGITS[i >>> 4] << 8) | HEX_DIGITS[i & 0x0F]);
+		}
+		BASE32_VALUES['I'] = BASE32_VALUES['i'] = 1;
+		BASE32_VALUES['L'] = BASE32_VALUES['l'] = 1;
+		BASE32_VALUES['O'] = BASE32_VALUES['o'] = 0;
+	}
+
+	// ##### Canonical form
+
+	/**
+	 * @param uuid UUID
+	 * @return The canonical lowercase form
+	 */
+	public static String toString(final UUID uuid) {
+		val bytes = new byte[CANONICAL_LENGTH];
+		format(uuid, bytes, 0);
+		return new String(bytes, StandardCharsets.ISO_8859_1);
+	}
+
+	/**
+	 * Writes the 36 ASCII characters of the canonical form
+	 *
+	 * @param uuid   UUID
+	 * @param dst    byte[]
+	 * @param offset First position written
+	 */
+	public static void format(final UUID uuid, final byte[] dst, final int offset) {
+		Objects.checkFromIndexSize(offset, CANONICAL_LENGTH, dst.length);
+		val msb = uuid.getMostSignificantBits();
+		val lsb = uuid.getLeastSignificantBits();
+		putHex(dst, offset, msb >>> 32, 4);
+		dst[offset + 8] = '-';
+		putHex(dst, offset + 9, msb >>> 16, 2);
+		dst[offset + 13] = '-';
+		putHex(dst, offset + 14, msb, 2);
+		dst[offset + 18] = '-';
+		putHex(dst, offset + 19, lsb >>> 48, 2);
+		dst[offset + 23] = '-';
+		putHex(dst, offset + 24, lsb, 6);
+	}
+
+	/**
+	 * Writes the 36 characters of the canonical form
+	 *
+	 * @param uuid   UUID
+	 * @param dst    char[]
+	 * @param offset First position written
+	 */
+	public static void format(final UUID uuid, final char[] dst, final int offset) {
+		Objects.checkFromIndexSize(offset, CANONICAL_LENGTH, dst.length);
+		val msb = uuid.getMostSignificantBits();
+		val lsb = uuid.getLeastSignificantBits();
+		for (int i = 0, position = offset; i < 32; i++) {
+			if (i == 8 || i == 12 || i == 16 || i == 20) {
+				dst[position++] = '-';
+			}
+			val value = i < 16 ? msb >>> (60 - 4 * i) : lsb >>> (124 - 4 * i);
+			dst[position++] = (char) HEX_DIGITS[(int) value & 0x0F];
+		}
+	}
+
+	/**
+	 * Appends the canonical form
+	 *
+	 * @param uuid UUID
+	 * @param sb   StringBuilder
+	 * @return The same StringBuilder
+	 */
+	public static StringBuilder format(final UUID uuid, final StringBuilder sb) {
+		val msb = uuid.getMostSignificantBits();
+		val lsb = uuid.getLeastSignificantBits();
+		for (int i = 0; i < 32; i++) {
+			if (i == 8 || i == 12 || i == 16 || i == 20) {
+				sb.append('-');
+			}
+			val value = i < 16 ? msb >>> (60 - 4 * i) : lsb >>> (124 - 4 * i);
+			sb.append((char) HEX_DIGITS[(int) value & 0x0F]);
+		}
+		return sb;
+	}
+
+	/**
+	 * Parses the canonical form, in any case
+	 *
+	 * @param value CharSequence
+	 * @return {@code UUID} or null if the value is not 36 characters with
+	 *         hexadecimal digits and dashes at positions 8, 13, 18 and 23
+	 */
+	public static UUID parse(final CharSequence value) {
+		if (value == null || value.length() != CANONICAL_LENGTH || value.charAt(8) != '-' || value.charAt(13) != '-'
+				|| value.charAt(18) != '-' || value.charAt(23) != '-') {
+			return null;
+		}
+
+		var msb = 0L;
+		var lsb = 0L;
+		var invalid = 0;
+		for (int i = 0, position = 0; i < 32; i++, position++) {
+			if (i == 8 || i == 12 || i == 16 || i == 20) {
+				position++;
+			}
+			val digit = hexValue(value.charAt(position));
+			invalid |= digit;
+			if (i < 16) {
+				msb = (msb << 4) | digit;
+			} else {
+				lsb = (lsb << 4) | digit;
+			}
+		}
+		return invalid < 0 ? null : new UUID(msb, lsb);
+	}
+
+	/**
+	 * Parses the canonical form from ASCII bytes
+	 *
+	 * @param src    byte[]
+	 * @param offset First position read
+	 * @return {@code UUID} or null if the bytes are not a canonical UUID
+	 */
+	public static UUID parse(final byte[] src, final int offset) {
+		Objects.checkFromIndexSize(offset, CANONICAL_LENGTH, src.length);
+		if (src[offset + 8] != '-' || src[offset + 13] != '-' || src[offset + 18] != '-' || src[offset + 23] != '-') {
+			return null;
+		}
+
+		var msb = 0L;
+		var lsb = 0L;
+		var invalid = 0;
+		for (int i = 0, position = offset; i < 32; i++, position++) {
+			if (i == 8 || i == 12 || i == 16 || i == 20) {
+				position++;
+			}
+			val digit = hexValue(src[position] & 0xFF);
+			invalid |= digit;
+			if (i < 16) {
+				msb = (msb << 4) | digit;
+			} else {
+				lsb = (lsb << 4) | digit;
+			}
+		}
+		return invalid < 0 ? null : new UUID(msb, lsb);
+	}
+
+	// ##### Base62
+
+	/**
+	 * @param uuid UUID
+	 * @return 22 Base62 characters
+	 */
+	public static String toBase62(final UUID uuid) {
+		val bytes = new byte[BASE62_LENGTH];
+		formatBase62(uuid, bytes, 0);
+		return new String(bytes, StandardCharsets.ISO_8859_1);
+	}
+
+	/**
+	 * Writes the 22 Base62 ASCII characters
+	 *
+	 * @param uuid   UUID
+	 * @param dst    byte[]
+	 * @param offset First position written
+	 */
+	public static void formatBase62(final UUID uuid, final byte[] dst, final int offset) {
+		Objects.checkFromIndexSize(offset, BASE62_LENGTH, dst.length);
+		val msb = uuid.getMostSignificantBits();
+		val lsb = uuid.getLeastSignificantBits();
+
+		// ##### Four 32-bit limbs divided by 62^5 to get 5 digits at a time
+		var l0 = msb >>> 32;
+		var l1 = msb & 0xFFFFFFFFL;
+		var l2 = lsb >>> 32;
+		var l3 = lsb & 0xFFFFFFFFL;
+		var end = offset + BASE62_LENGTH;
+		while (end > offset) {
+			var part = l0;
+			l0 = part / BASE62_CHUNK;
+			part = ((part % BASE62_CHUNK) << 32) | l1;
+			l1 = part / BASE62_CHUNK;
+			part = ((part % BASE62_CHUNK) << 32) | l2;
+			l2 = part / BASE62_CHUNK;
+			part = ((part % BASE62_CHUNK) << 32) | l3;
+			l3 = part / BASE62_CHUNK;
+			var remainder = part % BASE62_CHUNK;
+			for (int i = 0; i < 5 && end > offset; i++) {
+				dst[--end] = BASE62_DIGITS[(int) (remainder % 62)];
+				remainder /= 62;
+			}
+		}
+	}
+
+	/**
+	 * Parses 22 Base62 characters
+	 *
+	 * @param value CharSequence
+	 * @return {@code UUID} or null if the value is not valid or exceeds 128 bits
+	 */
+	public static UUID parseBase62(final CharSequence value) {
+		if (value == null || value.length() != BASE62_LENGTH) {
+			return null;
+		}
+
+		// ##### Four 32-bit limbs, most significant first
+		long l0 = 0;
+		long l1 = 0;
+		long l2 = 0;
+		long l3 = 0;
+		for (int i = 0; i < BASE62_LENGTH; i++) {
+			val c = value.charAt(i);
+			val digit = c < 128 ? BASE62_VALUES[c] : -1;
+			if (digit < 0) {
+				return null;
+			}
+			l3 = l3 * 62 + digit;
+			l2 = l2 * 62 + (l3 >>> 32);
+			l1 = l1 * 62 + (l2 >>> 32);
+			l0 = l0 * 62 + (l1 >>> 32);
+			l3 &= 0xFFFFFFFFL;
+			l2 &= 0xFFFFFFFFL;
+			l1 &= 0xFFFFFFFFL;
+			if (l0 > 0xFFFFFFFFL) {
+				return null;
+			}
+		}
+		return new UUID((l0 << 32) | l1, (l2 << 32) | l3);
+	}
+
+	// ##### Crockford Base32
+
+	/**
+	 * @param uuid UUID
+	 * @return 26 Crockford Base32 characters in uppercase
+	 */
+	public static String toBase32(final UUID uuid) {
+		val bytes = new byte[BASE32_LENGTH];
+		formatBase32(uuid, bytes, 0);
+		return new String(bytes, StandardCharsets.ISO_8859_1);
+	}
+
+	/**
+	 * Writes the 26 Crockford Base32 ASCII characters
+	 *
+	 * @param uuid   UUID
+	 * @param dst    byte[]
+	 * @param offset First position written
+	 */
+	public static void formatBase32(final UUID uuid, final byte[] dst, final int offset) {
+		Objects.checkFromIndexSize(offset, BASE32_LENGTH, dst.length);
+		val msb = uuid.getMostSignificantBits();
+		val lsb = uuid.getLeastSignificantBits();
+		// ##### 130 bits, the first character holds the 3 most significant bits
+		for (int i = 0; i < BASE32_LENGTH; i++) {
+			val shift = 125 - 5 * i;
+			long bits;
+			if (shift >= 64) {
+				bits = msb >>> (shift - 64);
+			} else if (shift > 59) {
+				bits = (msb << (64 - shift)) | (lsb >>> shift);
+			} else {
+				bits = lsb >>> shift;
+			}
+			dst[offset + i] = BASE32_DIGITS[(int) bits & 0x1F];
+		}
+	}
+
+	/**
+	 * Parses 26 Crockford Base32 characters
+	 *
+	 * @param value CharSequence
+	 * @return {@code UUID} or null if the value is not valid or exceeds 128 bits
+	 */
+	public static UUID parseBase32(final CharSequence value) {
+		if (value == null || value.length() != BASE32_LENGTH) {
+			return null;
+		}
+
+		var msb = 0L;
+		var lsb = 0L;
+		for (int i = 0; i < BASE32_LENGTH; i++) {
+			val c = value.charAt(i);
+			val digit = c < 128 ? BASE32_VALUES[c] : -1;
+			if (digit < 0 || (i == 0 && digit > 7)) {
+				return null;
+			}
+			msb = (msb << 5) | (lsb >>> 59);
+			lsb = (lsb << 5) | digit;
+		}
+		return new UUID(msb, lsb);
+	}
+
+	// ##### Binary
+
+	/**
+	 * @param uuid UUID
+	 * @return 16 bytes, most significant first
+	 */
+	public static byte[] toBytes(final UUID uuid) {
+		val bytes = new byte[BYTES];
+		putBytes(uuid, bytes, 0);
+		return bytes;
+	}
+
+	/**
+	 * Writes the 16 bytes of the UUID, most significant first
+	 *
+	 * @param uuid   UUID
+	 * @param dst    byte[]
+	 * @param offset First position written
+	 */
+	public static void putBytes(final UUID uuid, final byte[] dst, final int offset) {
+		Objects.checkFromIndexSize(offset, BYTES, dst.length);
+		putLong(dst, offset, uuid.getMostSignificantBits());
+		putLong(dst, offset + Long.BYTES, uuid.getLeastSignificantBits());
+	}
+
+	/**
+	 * Reads 16 bytes, most significant first
+	 *
+	 * @param src    byte[]
+	 * @param offset First position read
+	 * @return {@code UUID}
+	 */
+	public static UUID fromBytes(final byte[] src, final int offset) {
+		Objects.checkFromIndexSize(offset, BYTES, src.length);
+		return new UUID(getLong(src, offset), getLong(src, offset + Long.BYTES));
+	}
+
+	/**
+	 * Writes the UUIDs one after another, 16 bytes each
+	 *
+	 * @param uuids  {@code UUID[]}
+	 * @param dst    byte[] with at least {@code 16 * uuids.length} bytes after the
+	 *               offset
+	 * @param offset First position written
+	 * @return Position after the last byte written
+	 */
+	public static int encode(final UUID[] uuids, final byte[] dst, final int offset) {
+		Objects.checkFromIndexSize(offset, uuids.length * BYTES, dst.length);
+		var position = offset;
+		for (val uuid : uuids) {
+			putLong(dst, position, uuid.getMostSignificantBits());
+			putLong(dst, position + Long.BYTES, uuid.getLeastSignificantBits());
+			position += BYTES;
+		}
+		return position;
+	}
+
+	/**
+	 * Reads {@code dst.length} UUIDs written by {@link #encode(UUID[], byte[], int)}
+	 *
+	 * @param src    byte[]
+	 * @param offset First position read
+	 * @param dst    {@code UUID[]}
+	 * @return The same array
+	 */
+	public static UUID[] decode(final byte[] src, final int offset, final UUID[] dst) {
+		Objects.checkFromIndexSize(offset, dst.length * BYTES, src.length);
+		var position = offset;
+		for (int i = 0; i < dst.length; i++) {
+			dst[i] = new UUID(getLong(src, position), getLong(src, position + Long.BYTES));
+			position += BYTES;
+		}
+		return dst;
+	}
+
+	/**
+	 * Writes the 16 bytes of the UUID at the buffer position, most significant
+	 * first whatever the order of the buffer
+	 *
+	 * @param buffer ByteBuffer
+	 * @param uuid   UUID
+	 * @return The same buffer
+	 */
+	public static ByteBuffer put(final ByteBuffer buffer, final UUID uuid) {
+		val bigEndian = buffer.order() == ByteOrder.BIG_ENDIAN;
+		val msb = uuid.getMostSignificantBits();
+		val lsb = uuid.getLeastSignificantBits();
+		buffer.putLong(bigEndian ? msb : Long.reverseBytes(msb));
+		buffer.putLong(bigEndian ? lsb : Long.reverseBytes(lsb));
+		return buffer;
+	}
+
+	/**
+	 * Writes the UUIDs at the buffer position, 16 bytes each
+	 *
+	 * @param buffer ByteBuffer
+	 * @param uuids  {@code UUID[]}
+	 * @return The same buffer
+	 */
+	public static ByteBuffer put(final ByteBuffer buffer, final UUID[] uuids) {
+		for (val uuid : uuids) {
+			put(buffer, uuid);
+		}
+		return buffer;
+	}
+
+	/**
+	 * Reads 16 bytes at the buffer position, most significant first whatever the
+	 * order of the buffer
+	 *
+	 * @param buffer ByteBuffer
+	 * @return {@code UUID}
+	 */
+	public static UUID get(final ByteBuffer buffer) {
+		val bigEndian = buffer.order() == ByteOrder.BIG_ENDIAN;
+		val msb = buffer.getLong();
+		val lsb = buffer.getLong();
+		return bigEndian ? new UUID(msb, lsb) : new UUID(Long.reverseBytes(msb), Long.reverseBytes(lsb));
+	}
+
+	/**
+	 * Reads {@code dst.length} UUIDs at the buffer position
+	 *
+	 * @param buffer ByteBuffer
+	 * @param dst    {@code UUID[]}
+	 * @return The same array
+	 */
+	public static UUID[] get(final ByteBuffer buffer, final UUID[] dst) {
+		for (int i = 0; i < dst.length; i++) {
+			dst[i] = get(buffer);
+		}
+		return dst;
+	}
+
+	/**
+	 * Value of an ASCII hexadecimal digit in any case
+	 *
+	 * @return Value between 0 and 15 or -1 if the character is not a digit
+	 */
+	static int hexValue(final int c) {
+		return c < 128 ? HEX_VALUES[c] : -1;
+	}
+
+	/**
+	 * Writes {@code 2 * bytes} hexadecimal digits of the lowest bytes of the value
+	 */
+	private static void putHex(final byte[] dst, final int offset, final long value, final int bytes) {
+		for (int i = 0; i < bytes; i++) {
+			val pair = HEX_PAIRS[(int) (value >>> (8 * (bytes - 1 - i))) & 0xFF];
+			dst[offset + 2 * i] = (byte) (pair >>> 8);
+			dst[offset + 2 * i + 1] = (byte) pair;
+		}
+	}
+
+	private static void putLong(final byte[] dst, final int offset, final long value) {
+		for (int i = 0; i < Long.BYTES; i++) {
+			dst[offset + i] = (byte) (value >>> (56 - 8 * i));
+		}
+	}
+
+	private static long getLong(final byte[] src, final int offset) {
+		var value = 0L;
+		for (int i = offset; i < offset + Long.BYTES; i++) {
+			value = (value << 8) | (src[i] & 0xFF);
+		}
+		return value;
+	}
+
+	private static byte[] values(final byte[] digits, final boolean ignoreCase) {
+		val values = new byte[128];
+		Arrays.fill(values, (byte) -1);
+		for (int i = 0; i < digits.length; i++) {
+			values[digits[i]] = (byte) i;
+			if (ignoreCase) {
+				values[Character.toLowerCase(digits[i])] = (byte) i;
+				values[Character.toUpperCase(digits[i])] = (byte) i;
+			}
+		}
+		return values;
+	}
+
+}
@@ -1,14 +1,6 @@
 package mx.softixx.cis.common.core.uuid;
 
 import java.io.UnsupportedEncodingException;
-import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
-import java.security.SecureRandom;
-import java.time.Duration;
-import java.time.LocalDateTime;
-import java.util.Arrays;
-import java.util.Random;
 import java.util.UUID;
 
 import lombok.val;
@@ -19,38 +11,26 @@ public final class UuidGeneratorUtils {
 	private UuidGeneratorUtils() {
 	}
 	
-	private static final Random random = new SecureRandom();
-	
 	public static String generateUUID() {
 		return UuidGeneratorUtils.generateUniqueKeysWithUUIDAndMessageDigest();
 	}
 	
 	/**
 	 * Type 1 UUID Generation
+	 * 
+	 * @see GregorianUuidGenerator
 	 */
 	public static UUID generateType1UUID() {
-		long most64SigBits = get64MostSignificantBitsForVersion1();
-		long least64SigBits = get64LeastSignificantBitsForVersion1();
-
-		return new UUID(most64SigBits, least64SigBits);
-	}
-
-	private static long get64LeastSignificantBitsForVersion1() {
-		val random63BitLong = random.nextLong() & 0x3FFFFFFFFFFFFFFFL;
-		val variant3BitFlag = 0x8000000000000000L;
-		return random63BitLong + variant3BitFlag;
+		return GregorianUuidGenerator.getDefault().nextV1();
 	}
 
-	private static long get64MostSignificantBitsForVersion1() {
-		val start = LocalDateTime.of(1582, 10, 15, 0, 0, 0);
-		val duration = Duration.between(start, LocalDateTime.now());
-		val seconds = duration.getSeconds();
-		val nanos = duration.getNano();
-		val timeForUuidIn100Nanos = seconds * 10000000 + nanos * 100;
-		val least12SignificantBitOfTime = (timeForUuidIn100Nanos & 0x000000000000FFFFL) >> 4;
-		val version = 1 << 12;
-
-		return (timeForUuidIn100Nanos & 0xFFFFFFFFFFFF0000L) + version + least12SignificantBitOfTime;
+	/**
+	 * Type 6 UUID Generation, the fields of Type 1 sorted by time
+	 * 
+	 * @see GregorianUuidGenerator
+	 */
+	public static UUID generateType6UUID() {
+		return GregorianUuidGenerator.getDefault().nextV6();
 	}
 
 	/**
@@ -59,19 +39,44 @@ public final class UuidGeneratorUtils {
 	 * @throws UnsupportedEncodingException
 	 */
 	public static UUID generateType3UUID(String namespace, String name) throws UnsupportedEncodingException {
+		return NameBasedUuidGenerator.generate(namespace, name, 3);
+	}
 
-		byte[] nameSpaceBytes = ValueUtils.bytesFromUUID(namespace);
-		byte[] nameBytes = name.getBytes(StandardCharsets.UTF_8);
-		byte[] result = ValueUtils.joinBytes(nameSpaceBytes, nameBytes);
+	/**
+	 * Type 4 UUID Generation with the per-thread strong source, without the
+	 * contention of {@code UUID.randomUUID()}
+	 * 
+	 * @see EntropySource#STRONG
+	 */
+	public static UUID generateType4UUID() {
+		return EntropySource.STRONG.randomUUID();
+	}
 
-		return UUID.nameUUIDFromBytes(result);
+	/**
+	 * Type 4 UUID Generation with the given source
+	 * 
+	 * @param source {@link EntropySource}
+	 */
+	public static UUID generateType4UUID(EntropySource source) {
+		return source.randomUUID();
 	}
 
 	/**
-	 * Type 4 UUID Generation
+	 * Type 7 UUID Generation, time-ordered and monotonic
+	 * 
+	 * @see TimeOrderedUuidGenerator
 	 */
-	public static UUID generateType4UUID() {
-		return UUID.randomUUID();
+	public static UUID generateType7UUID() {
+		return TimeOrderedUuidGenerator.getDefault().next();
+	}
+
+	/**
+	 * Fills the array with consecutive Type 7 UUIDs
+	 * 
+	 * @see TimeOrderedUuidGenerator#fill(UUID[])
+	 */
+	public static UUID[] generateType7UUIDs(UUID[] target) {
+		return TimeOrderedUuidGenerator.getDefault().fill(target);
 	}
 
 	/**
@@ -81,16 +86,12 @@ public final class UuidGeneratorUtils {
 	 * @throws UnsupportedEncodingException
 	 */
 	public static String generateUniqueKeysWithUUIDAndMessageDigest() {
-		try {
-			
-			val salt = MessageDigest.getInstance("SHA-256");
-			salt.update(UUID.randomUUID().toString().getBytes(StandardCharsets.UTF_8));
+		val digests = ThreadLocalDigests.current();
+		val length = digests.encodeUuid(EntropySource.STRONG.randomUUID());
+		digests.sha256.update(digests.input, 0, length);
+		ThreadLocalDigests.digest(digests.sha256, digests.hash256);
 
-			return ValueUtils.bytesToHex(salt.digest());
-			
-		} catch (NoSuchAlgorithmException e) {
-			return null;
-		}
+		return ValueUtils.bytesToHex(digests.hash256);
 	}
 
 	/**
@@ -99,40 +100,14 @@ public final class UuidGeneratorUtils {
 	 * @throws UnsupportedEncodingException
 	 */
 	public static UUID generateType5UUID(String namespace, String name) throws UnsupportedEncodingException {
-
-		byte[] nameSpaceBytes = ValueUtils.bytesFromUUID(namespace);
-		byte[] nameBytes = name.getBytes(StandardCharsets.UTF_8);
-		byte[] result = ValueUtils.joinBytes(nameSpaceBytes, nameBytes);
-
-		return type5UUIDFromBytes(result);
+		return NameBasedUuidGenerator.generate(namespace, name, 5);
 	}
 
 	public static UUID type5UUIDFromBytes(byte[] name) {
-		MessageDigest md;
-		try {
-			md = MessageDigest.getInstance("SHA-1");
-		} catch (NoSuchAlgorithmException nsae) {
-			throw new InternalError("SHA-1 not supported", nsae);
-		}
-		byte[] bytes = Arrays.copyOfRange(md.digest(name), 0, 16);
-		bytes[6] &= 0x0f; /* clear version */
-		bytes[6] |= 0x50; /* set to version 5 */
-		bytes[8] &= 0x3f; /* clear variant */
-		bytes[8] |= 0x80; /* set to IETF variant */
-		return constructType5UUID(bytes);
-	}
-
-	private static UUID constructType5UUID(byte[] data) {
-		long msb = 0;
-		long lsb = 0;
-		assert data.length == 16 : "data must be 16 bytes in length";
-
-		for (int i = 0; i < 8; i++)
-			msb = (msb << 8) | (data[i] & 0xff);
-
-		for (int i = 8; i < 16; i++)
-			lsb = (lsb << 8) | (data[i] & 0xff);
-		return new UUID(msb, lsb);
+		val digests = ThreadLocalDigests.current();
+		digests.sha1.update(name);
+		ThreadLocalDigests.digest(digests.sha1, digests.hash);
+		return ThreadLocalDigests.toUuid(digests.hash, 5);
 	}
 	
-}
\ No newline at end of file
+}
@@ -0,0 +1,172 @@
+package mx.softixx.cis.common.core.validator;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import lombok.val;
+
+/**
+ * Validates columns of values in bulk.
+ * <p>
+ * Every value is evaluated with the {@link ValidatorUtils} method of its
+ * {@link ValidationRule}, so the outcome is the same as calling that method
+ * value by value. The result of a column is a {@code BitSet} in which the bit
+ * {@code i} is set when the value at index {@code i} is <b>invalid</b>.
+ * </p>
+ * <p>
+ * Columns with more than {@value #PARALLEL_THRESHOLD} values are split in
+ * chunks that are validated in parallel on a {@code ForkJoinPool}. Chunk
+ * boundaries are aligned to 64 values, so every task writes its own words of
+ * the bitmap and no synchronization is needed.
+ * </p>
+ *
+ * @author Maikel Guerra Ferrer - mguerraferrer@gmail.com
+ *
+ */
+public final class BulkValidator {
+
+	private BulkValidator() {
+		throw new IllegalStateException("Utility class");
+	}
+
+	/**
+	 * Min number of values of a chunk validated by a single task
+	 */
+	public static final int PARALLEL_THRESHOLD = 4096;
+
+	/**
+	 * Validates each column of the batch with the rule defined in the schema.
+	 * Columns not present in the schema are ignored
+	 *
+	 * @param schema  {@link ValidationSchema}
+	 * @param columns {@code Map<String, List<String>>} column name to values
+	 * @return {@code Map<String, BitSet>} column name to failure bitmap, in schema
+	 *         order
+	 */
+	public static Map<String, BitSet> validate(final ValidationSchema schema, final Map<String, List<String>> columns) {
+		return validate(schema, columns, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Validates each column of the batch with the rule defined in the schema using
+	 * the given pool. Columns not present in the schema are ignored
+	 *
+	 * @param schema  {@link ValidationSchema}
+	 * @param columns {@code Map<String, List<String>>} column name to values
+	 * @param pool    {@code ForkJoinPool} used to run the validation
+	 * @return {@code Map<String, BitSet>} column name to failure bitmap, in schema
+	 *         order
+	 */
+	public static Map<String, BitSet> validate(final ValidationSchema schema, final Map<String, List<String>> columns,
+			final ForkJoinPool pool) {
+		Objects.requireNonNull(schema, "schema");
+		Objects.requireNonNull(columns, "columns");
+
+		val result = new LinkedHashMap<String, BitSet>();
+		for (val entry : schema.rules().entrySet()) {
+			val values = columns.get(entry.getKey());
+			if (values != null) {
+				result.put(entry.getKey(), validate(entry.getValue(), values, pool));
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Validates a column of values with the given rule
+	 *
+	 * @param rule   {@link ValidationRule}
+	 * @param values {@code List<String>} preferably with random access
+	 * @return {@code BitSet} with the indexes of the invalid values
+	 */
+	public static BitSet validate(final ValidationRule rule, final List<String> values) {
+		return validate(rule, values, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Validates a column of values with the given rule using the given pool
+	 *
+	 * @param rule   {@link ValidationRule}
+	 * @param values {@code List<String>} preferably with random access
+	 * @param pool   {@code ForkJoinPool} used to run the validation
+	 * @return {@code BitSet} with the indexes of the invalid values
+	 */
+	public static BitSet validate(final ValidationRule rule, final List<String> values, final ForkJoinPool pool) {
+		Objects.requireNonNull(rule, "rule");
+		Objects.requireNonNull(values, "values");
+
+		val size = values.size();
+		val words = new long[(size + 63) >>> 6];
+		val task = new ColumnTask(rule, values, words, 0, size);
+		if (size <= PARALLEL_THRESHOLD) {
+			task.compute();
+		} else {
+			pool.invoke(task);
+		}
+		return BitSet.valueOf(words);
+	}
+
+	/**
+	 * Validates a column of values with the given rule
+	 *
+	 * @param rule   {@link ValidationRule}
+	 * @param values {@code String[]}
+	 * @return {@code BitSet} with the indexes of the invalid values
+	 */
+	public static BitSet validate(final ValidationRule rule, final String[] values) {
+		return validate(rule, Arrays.asList(values));
+	}
+
+	/**
+	 * Counts the invalid values of a failure bitmap
+	 *
+	 * @param failures {@code BitSet} returned by this class
+	 * @return Number of invalid values
+	 */
+	public static int failures(final BitSet failures) {
+		return failures != null ? failures.cardinality() : 0;
+	}
+
+	private static final class ColumnTask extends RecursiveAction {
+		private static final long serialVersionUID = -3416420196412880715L;
+
+		private final transient ValidationRule rule;
+		private final transient List<String> values;
+		private final long[] words;
+		private final int from;
+		private final int to;
+
+		ColumnTask(ValidationRule rule, List<String> values, long[] words, int from, int to) {
+			this.rule = rule;
+			this.values = values;
+			this.words = words;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected void compute() {
+			val length = to - from;
+			if (length > PARALLEL_THRESHOLD && getPool() != null) {
+				// ##### Split on a multiple of 64 so both halves write different words
+				val middle = (from + (length >>> 1)) & ~63;
+				invokeAll(new ColumnTask(rule, values, words, from, middle),
+						  new ColumnTask(rule, values, words, middle, to));
+				return;
+			}
+
+			for (int i = from; i < to; i++) {
+				if (!rule.isValid(values.get(i))) {
+					words[i >>> 6] |= 1L << i;
+				}
+			}
+		}
+	}
+
+}
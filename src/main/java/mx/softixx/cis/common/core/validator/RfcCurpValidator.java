@@ -0,0 +1,296 @@
+package mx.softixx.cis.common.core.validator;
+
+import lombok.val;
+
+/**
+ * Single-pass validators for the mexican RFC (Registro Federal de
+ * Contribuyentes) and CURP (Clave Única de Registro de Población).
+ * <p>
+ * The format methods accept exactly the same values as
+ * {@code PatternUtils.RFC_PATTERN}, {@code PatternUtils.RFC12_PATTERN},
+ * {@code PatternUtils.RFC13_PATTERN} and {@code PatternUtils.CURP_PATTERN}, but
+ * scan the characters directly instead of running the regular expression and
+ * allocate nothing. The check digit methods additionally verify the SAT
+ * homoclave digit (RFC) and the RENAPO verification digit (CURP).
+ * </p>
+ *
+ * @author Maikel Guerra Ferrer - mguerraferrer@gmail.com
+ *
+ */
+public final class RfcCurpValidator {
+
+	private RfcCurpValidator() {
+		throw new IllegalStateException("Utility class");
+	}
+
+	private static final char N_TILDE = 'Ñ';
+	private static final int DATE_LENGTH = 6;
+	private static final int CURP_LENGTH = 18;
+
+	/**
+	 * SAT dictionary used to compute the RFC check digit
+	 */
+	private static final String RFC_DICTIONARY = "0123456789ABCDEFGHIJKLMN&OPQRSTUVWXYZ Ñ";
+
+	/**
+	 * RENAPO dictionary used to compute the CURP check digit
+	 */
+	private static final String CURP_DICTIONARY = "0123456789ABCDEFGHIJKLMNÑOPQRSTUVWXYZ";
+
+	/**
+	 * Evaluates if the value has the format of a RFC (persona física or persona
+	 * moral)
+	 *
+	 * @param rfc CharSequence
+	 * @return True if the value matches {@code PatternUtils.RFC_PATTERN}, otherwise
+	 *         false
+	 */
+	public static boolean isRfc(final CharSequence rfc) {
+		return isRfc(rfc, 3) || isRfc(rfc, 4);
+	}
+
+	/**
+	 * Evaluates if the value has the format of a RFC of a persona moral (3 letters)
+	 *
+	 * @param rfc CharSequence
+	 * @return True if the value matches {@code PatternUtils.RFC12_PATTERN},
+	 *         otherwise false
+	 */
+	public static boolean isRfc12(final CharSequence rfc) {
+		return isRfc(rfc, 3);
+	}
+
+	/**
+	 * Evaluates if the value has the format of a RFC of a persona física (4
+	 * letters)
+	 *
+	 * @param rfc CharSequence
+	 * @return True if the value matches {@code PatternUtils.RFC13_PATTERN},
+	 *         otherwise false
+	 */
+	public static boolean isRfc13(final CharSequence rfc) {
+		return isRfc(rfc, 4);
+	}
+
+	/**
+	 * Evaluates if the value has the format of a RFC and, when the check digit is
+	 * present, that it corresponds to the rest of the characters
+	 *
+	 * @param rfc CharSequence
+	 * @return True if the value is a RFC with a valid check digit, otherwise false
+	 */
+	public static boolean isRfcWithCheckDigit(final CharSequence rfc) {
+		if (isRfc(rfc, 3) && rfcCheckDigitMatches(rfc, 3)) {
+			return true;
+		}
+		return isRfc(rfc, 4) && rfcCheckDigitMatches(rfc, 4);
+	}
+
+	/**
+	 * Evaluates if the value has the format of a CURP
+	 *
+	 * @param curp CharSequence
+	 * @return True if the value matches {@code PatternUtils.CURP_PATTERN},
+	 *         otherwise false
+	 */
+	public static boolean isCurp(final CharSequence curp) {
+		if (curp == null || curp.length() != CURP_LENGTH) {
+			return false;
+		}
+
+		if (!isUpper(curp.charAt(0)) || !isCurpVowel(curp.charAt(1)) || !isUpper(curp.charAt(2))
+				|| !isUpper(curp.charAt(3))) {
+			return false;
+		}
+
+		if (!isDate(curp, 4)) {
+			return false;
+		}
+
+		val gender = curp.charAt(10);
+		if (gender != 'M' && gender != 'H') {
+			return false;
+		}
+
+		if (!isState(curp.charAt(11), curp.charAt(12))) {
+			return false;
+		}
+
+		for (int i = 13; i < 16; i++) {
+			if (!isConsonant(curp.charAt(i))) {
+				return false;
+			}
+		}
+
+		val differentiator = curp.charAt(16);
+		return (isDigit(differentiator) || isUpper(differentiator)) && isDigit(curp.charAt(17));
+	}
+
+	/**
+	 * Evaluates if the value has the format of a CURP and its last digit is the
+	 * RENAPO verification digit of the first 17 characters
+	 *
+	 * @param curp CharSequence
+	 * @return True if the value is a CURP with a valid check digit, otherwise false
+	 */
+	public static boolean isCurpWithCheckDigit(final CharSequence curp) {
+		return isCurp(curp) && curpCheckDigit(curp) == curp.charAt(CURP_LENGTH - 1);
+	}
+
+	/**
+	 * Computes the SAT check digit of a RFC. The value must contain, at least, the
+	 * letters, the date and the two homoclave characters (11 or 12 characters)
+	 *
+	 * @param rfc     CharSequence
+	 * @param letters Number of leading letters, 3 (persona moral) or 4 (persona
+	 *                física)
+	 * @return The check digit ('0'-'9' or 'A') or {@code Character.MIN_VALUE} if
+	 *         the value contains characters not present in the SAT dictionary
+	 */
+	public static char rfcCheckDigit(final CharSequence rfc, final int letters) {
+		// ##### The persona moral RFC is left-padded with a space to 12 characters
+		val padding = 4 - letters;
+		val length = letters + DATE_LENGTH + 2;
+		var sum = 0;
+		for (int i = 0; i < length; i++) {
+			val value = RFC_DICTIONARY.indexOf(rfc.charAt(i));
+			if (value < 0) {
+				return Character.MIN_VALUE;
+			}
+			sum += value * (13 - (i + padding));
+		}
+		// ##### Padding spaces contribute 37 * weight
+		for (int i = 0; i < padding; i++) {
+			sum += 37 * (13 - i);
+		}
+
+		val digit = (11 - sum % 11) % 11;
+		return digit == 10 ? 'A' : (char) ('0' + digit);
+	}
+
+	/**
+	 * Computes the RENAPO check digit of the first 17 characters of a CURP
+	 *
+	 * @param curp CharSequence
+	 * @return The check digit ('0'-'9') or {@code Character.MIN_VALUE} if the
+	 *         value contains characters not present in the RENAPO dictionary
+	 */
+	public static char curpCheckDigit(final CharSequence curp) {
+		var sum = 0;
+		for (int i = 0; i < CURP_LENGTH - 1; i++) {
+			val value = CURP_DICTIONARY.indexOf(curp.charAt(i));
+			if (value < 0) {
+				return Character.MIN_VALUE;
+			}
+			sum += value * (CURP_LENGTH - i);
+		}
+		return (char) ('0' + (10 - sum % 10) % 10);
+	}
+
+	private static boolean isRfc(final CharSequence rfc, final int letters) {
+		if (rfc == null) {
+			return false;
+		}
+
+		val length = rfc.length();
+		val minLength = letters + DATE_LENGTH + 2;
+		if (length != minLength && length != minLength + 1) {
+			return false;
+		}
+
+		for (int i = 0; i < letters; i++) {
+			if (!isRfcLetter(rfc.charAt(i))) {
+				return false;
+			}
+		}
+
+		if (!isDate(rfc, letters)) {
+			return false;
+		}
+
+		for (int i = letters + DATE_LENGTH; i < minLength; i++) {
+			val c = rfc.charAt(i);
+			if (!isDigit(c) && !isUpper(c)) {
+				return false;
+			}
+		}
+
+		if (length > minLength) {
+			val checkDigit = rfc.charAt(minLength);
+			return isDigit(checkDigit) || checkDigit == 'A';
+		}
+		return true;
+	}
+
+	private static boolean rfcCheckDigitMatches(final CharSequence rfc, final int letters) {
+		val minLength = letters + DATE_LENGTH + 2;
+		if (rfc.length() == minLength) {
+			return true;
+		}
+		return rfcCheckDigit(rfc, letters) == rfc.charAt(minLength);
+	}
+
+	/**
+	 * Evaluates the {@code [0-9]{2}(0[1-9]|1[012])(0[1-9]|[12][0-9]|3[01])}
+	 * fragment starting at the given offset
+	 */
+	private static boolean isDate(final CharSequence value, final int offset) {
+		if (!isDigit(value.charAt(offset)) || !isDigit(value.charAt(offset + 1))) {
+			return false;
+		}
+
+		val m1 = value.charAt(offset + 2);
+		val m2 = value.charAt(offset + 3);
+		val validMonth = (m1 == '0' && m2 >= '1' && m2 <= '9') || (m1 == '1' && m2 >= '0' && m2 <= '2');
+		if (!validMonth) {
+			return false;
+		}
+
+		val d1 = value.charAt(offset + 4);
+		val d2 = value.charAt(offset + 5);
+		return (d1 == '0' && d2 >= '1' && d2 <= '9') || ((d1 == '1' || d1 == '2') && isDigit(d2))
+				|| (d1 == '3' && (d2 == '0' || d2 == '1'));
+	}
+
+	/**
+	 * Evaluates the state fragment of {@code PatternUtils.CURP_PATTERN}
+	 */
+	private static boolean isState(final char first, final char second) {
+		return switch (second) {
+			case 'S' -> "ABCMTZ".indexOf(first) >= 0;
+			case 'C' -> "BCJMOT".indexOf(first) >= 0;
+			case 'L' -> "CNPST".indexOf(first) >= 0;
+			case 'T' -> "GNQ".indexOf(first) >= 0;
+			case 'R' -> "GQS".indexOf(first) >= 0;
+			case 'M', 'H' -> first == 'C';
+			case 'N' -> first == 'M' || first == 'Y';
+			case 'G' -> first == 'D' || first == 'H';
+			case 'E' -> first == 'N';
+			case 'Z' -> first == 'V';
+			case 'F' -> first == 'D';
+			case 'P' -> first == 'S';
+			default -> false;
+		};
+	}
+
+	private static boolean isDigit(final char c) {
+		return c >= '0' && c <= '9';
+	}
+
+	private static boolean isUpper(final char c) {
+		return c >= 'A' && c <= 'Z';
+	}
+
+	private static boolean isRfcLetter(final char c) {
+		return isUpper(c) || c == '&' || c == N_TILDE;
+	}
+
+	private static boolean isCurpVowel(final char c) {
+		return c == 'A' || c == 'E' || c == 'I' || c == 'O' || c == 'U' || c == 'X';
+	}
+
+	private static boolean isConsonant(final char c) {
+		return isUpper(c) && c != 'A' && c != 'E' && c != 'I' && c != 'O' && c != 'U';
+	}
+
+}
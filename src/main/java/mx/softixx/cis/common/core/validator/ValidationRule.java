@@ -0,0 +1,67 @@
+package mx.softixx.cis.common.core.validator;
+
+import java.util.function.Predicate;
+
+/**
+ * Validation rules that can be applied to a column of values by
+ * {@link BulkValidator}. Each rule delegates to the equivalent
+ * {@link ValidatorUtils} method, so the result for every value is the same as
+ * calling the method directly
+ * 
+ * @author Maikel Guerra Ferrer - mguerraferrer@gmail.com
+ *
+ */
+public enum ValidationRule {
+	REQUIRED(ValidatorUtils::validateRequired),
+	EMAIL(ValidatorUtils::validateEmail),
+	NULLABLE_EMAIL(ValidatorUtils::validateNullableEmail),
+	RFC(ValidatorUtils::validateRFC),
+	NULLABLE_RFC(ValidatorUtils::validateNullableRFC),
+	RFC12(ValidatorUtils::validateRFC12),
+	RFC13(ValidatorUtils::validateRFC13),
+	CURP(ValidatorUtils::validateCURP),
+	NULLABLE_CURP(ValidatorUtils::validateNullableCURP),
+	PHONE_MX(ValidatorUtils::validatePhoneMx),
+	ZIP_CODE_MX(ValidatorUtils::validateZipCodeMx),
+	ALPHABETIC(ValidatorUtils::validateAlphabetic),
+	NULLABLE_ALPHABETIC(ValidatorUtils::validateNullableAlphabetic),
+	ALPHABETIC_WITH_SPACE(ValidatorUtils::validateAlphabeticWithSpace),
+	NULLABLE_ALPHABETIC_WITH_SPACE(ValidatorUtils::validateNullableAlphabeticWithSpace),
+	NUMBER(ValidatorUtils::validateNumber),
+	NULLABLE_NUMBER(ValidatorUtils::validateNullableNumber),
+	NUMBER_WITH_SPACE(ValidatorUtils::validateNumberWithSpace),
+	NULLABLE_NUMBER_WITH_SPACE(ValidatorUtils::validateNullableNumberWithSpace),
+	DECIMAL(ValidatorUtils::validateDecimal),
+	NULLABLE_DECIMAL(ValidatorUtils::validateNullableDecimal),
+	DATE(ValidatorUtils::validateDate),
+	NULLABLE_DATE(ValidatorUtils::validateNullableDate),
+	DATE_TIME(ValidatorUtils::validateDateTime),
+	NULLABLE_DATE_TIME(ValidatorUtils::validateNullableDateTime),
+	TIME_12H(ValidatorUtils::validateTime12H),
+	NULLABLE_TIME_12H(ValidatorUtils::validateNullableTime12H),
+	TIME_24H(ValidatorUtils::validateTime24H),
+	NULLABLE_TIME_24H(ValidatorUtils::validateNullableTime24H);
+
+	private final Predicate<String> validator;
+
+	ValidationRule(final Predicate<String> validator) {
+		this.validator = validator;
+	}
+
+	/**
+	 * Evaluates the value with the {@link ValidatorUtils} method of the rule. A
+	 * value for which the method throws an exception (i.e. a {@code null} value
+	 * with a non-nullable rule) is considered invalid
+	 * 
+	 * @param value String
+	 * @return True if the value is valid, otherwise false
+	 */
+	public boolean isValid(final String value) {
+		try {
+			return validator.test(value);
+		} catch (RuntimeException e) {
+			return false;
+		}
+	}
+	
+}
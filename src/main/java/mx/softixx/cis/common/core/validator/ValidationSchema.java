@@ -0,0 +1,56 @@
+package mx.softixx.cis.common.core.validator;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Maps each column of a record batch to the {@link ValidationRule} that its
+ * values must satisfy. Columns keep their insertion order
+ * <p>
+ * <b>Example</b><br>
+ * val schema = new ValidationSchema() <br>
+ * &nbsp;&nbsp;.column("email", ValidationRule.NULLABLE_EMAIL) <br>
+ * &nbsp;&nbsp;.column("rfc", ValidationRule.NULLABLE_RFC); <br>
+ * </p>
+ * 
+ * @author Maikel Guerra Ferrer - mguerraferrer@gmail.com
+ *
+ */
+public final class ValidationSchema {
+
+	private final Map<String, ValidationRule> rules = new LinkedHashMap<>();
+
+	/**
+	 * Adds (or replaces) the rule of a column
+	 * 
+	 * @param column Column name
+	 * @param rule   {@link ValidationRule}
+	 * @return this schema
+	 */
+	public ValidationSchema column(final String column, final ValidationRule rule) {
+		rules.put(Objects.requireNonNull(column, "column"), Objects.requireNonNull(rule, "rule"));
+		return this;
+	}
+
+	/**
+	 * Returns the rule of a column
+	 * 
+	 * @param column Column name
+	 * @return {@link ValidationRule} or null if the column is not in the schema
+	 */
+	public ValidationRule rule(final String column) {
+		return rules.get(column);
+	}
+
+	/**
+	 * Returns an unmodifiable view of the schema
+	 * 
+	 * @return {@code Map<String, ValidationRule>} in insertion order
+	 */
+	public Map<String, ValidationRule> rules() {
+		return Collections.unmodifiableMap(rules);
+	}
+
+}
@@ -1,13 +1,10 @@
 package mx.softixx.cis.common.core.validator;
 
-import java.text.SimpleDateFormat;
 import java.util.Arrays;
-import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Scanner;
-import java.util.regex.Pattern;
 
 import org.springframework.util.ObjectUtils;
 import org.springframework.util.StringUtils;
@@ -16,12 +13,13 @@ import lombok.val;
 import lombok.extern.slf4j.Slf4j;
 import mx.softixx.cis.common.core.data.DoubleUtils;
 import mx.softixx.cis.common.core.data.IntegerUtils;
+import mx.softixx.cis.common.core.datetime.ClockUtils;
 import mx.softixx.cis.common.core.datetime.DateFormatter;
 import mx.softixx.cis.common.core.datetime.DateUtils;
 import mx.softixx.cis.common.core.datetime.LocalDateTimeUtils;
 import mx.softixx.cis.common.core.datetime.LocalDateUtils;
 import mx.softixx.cis.common.core.datetime.LocalTimeUtils;
-import mx.softixx.cis.common.core.pattern.PatternUtils;
+import mx.softixx.cis.common.core.pattern.PatternRegistry;
 
 @Slf4j
 public final class ValidatorUtils  {
@@ -259,17 +257,7 @@ public final class ValidatorUtils  {
 	}
 	
 	public static boolean isNumeric(final String str) {
-		try {
-			
-			if (isNotEmpty(str)) {
-				Integer.parseInt(str);
-				return true;
-			}
-
-		} catch (NumberFormatException nfe) {
-			log.error("ValidatorUtils#isNumeric error {}", nfe.getMessage());
-		}
-		return false;
+		return isNotEmpty(str) && IntegerUtils.tryParse(str).isPresent();
 	}
 
 	public static boolean isValidExtension(final List<String> extensions, final String ext) {
@@ -294,7 +282,7 @@ public final class ValidatorUtils  {
 		if (!ObjectUtils.isEmpty(value) && !ObjectUtils.isEmpty(regexp)) {
 			try {
 				
-				val isMatch = Pattern.matches(regexp, value);
+				val isMatch = PatternRegistry.matches(regexp, value);
 				if (!isMatch) {
 					log.warn("ValidatorUtils#validatePattern warning! - Constraint validation failed: The value {} doesn't match with the regex {}", value, regexp);
 				}
@@ -309,7 +297,7 @@ public final class ValidatorUtils  {
 	}
 	
 	public static boolean validateAlphabetic(final String letter) {
-		return Pattern.compile(PatternUtils.ALPHABETIC_PATTERN).matcher(letter).matches();
+		return PatternRegistry.ALPHABETIC.matcher(letter).matches();
 	}
 
 	public static boolean validateNullableAlphabetic(final String letter) {
@@ -325,7 +313,7 @@ public final class ValidatorUtils  {
 	}
 
 	public static boolean validateAlphabeticWithSpace(final String letter) {
-		return Pattern.compile(PatternUtils.ALPHABETIC_WITH_SPACE_PATTERN).matcher(letter).matches();
+		return PatternRegistry.ALPHABETIC_WITH_SPACE.matcher(letter).matches();
 	}
 
 	public static boolean validateNullableAlphabeticWithSpace(final String letter) {
@@ -360,7 +348,7 @@ public final class ValidatorUtils  {
 		if (number == null) {
 			return false;
 		}
-		return Pattern.compile(PatternUtils.NUMBER_PATTERN).matcher(number).matches();
+		return PatternRegistry.NUMBER.matcher(number).matches();
 	}
 
 	public static boolean validateNullableNumber(final String number) {
@@ -376,7 +364,7 @@ public final class ValidatorUtils  {
 	}
 
 	public static boolean validateNumberWithSpace(final String number) {
-		return Pattern.compile(PatternUtils.NUMBER_WITH_SPACE_PATTERN).matcher(number).matches();
+		return PatternRegistry.NUMBER_WITH_SPACE.matcher(number).matches();
 	}
 
 	public static boolean validateNullableNumberWithSpace(final String number) {
@@ -396,9 +384,7 @@ public final class ValidatorUtils  {
 			return false;
 		}
 
-		val pattern = Pattern.compile(PatternUtils.NUMBER_PATTERN);
-		val matcher = pattern.matcher(IntegerUtils.format(number));
-		return matcher.matches();
+		return PatternRegistry.NUMBER.matcher(IntegerUtils.format(number)).matches();
 	}
 
 	public static boolean validateIntNullableNumber(final Integer number) {
@@ -430,17 +416,7 @@ public final class ValidatorUtils  {
 	}
 
 	private static boolean dateValidator(final String date) {
-		Date formattedDate = null;
-		try {
-
-			val format = DateFormatter.DATE_SIMPLE_FORMAT.getFormat();
-			val sdf = new SimpleDateFormat(format);
-			formattedDate = sdf.parse(date);
-
-		} catch (Exception e) {
-			return false;
-		}
-		return formattedDate != null;
+		return DateUtils.tryParseDate(date, DateFormatter.DATE_SIMPLE_FORMAT) != null;
 	}
 
 	public static boolean validateDateTime(final String date) {
@@ -460,17 +436,7 @@ public final class ValidatorUtils  {
 	}
 
 	private static boolean dateTimeValidator(final String date) {
-		Date formattedDate = null;
-		try {
-
-			val format = DateFormatter.DATE_TIME_FULL_FORMAT.getFormat();
-			val sdf = new SimpleDateFormat(format);
-			formattedDate = sdf.parse(date);
-
-		} catch (Exception e) {
-			return false;
-		}
-		return formattedDate != null;
+		return DateUtils.tryParseDate(date, DateFormatter.DATE_TIME_FULL_FORMAT) != null;
 	}
 	
 	public static boolean validateFutureOrPresent(final String date, final String format, boolean validateTime, boolean dateUtc) {
@@ -483,7 +449,7 @@ public final class ValidatorUtils  {
 	private static boolean futureOrPresentValidator(final String date, final String format, boolean validateTime, boolean dateUtc) {
 		var parsedDate = DateUtils.parseDate(date, format);
 		if (parsedDate != null) {
-			var compareDate = new Date();
+			var compareDate = ClockUtils.currentDate();
 			if (dateUtc) {
 				compareDate = DateUtils.dateUTC();
 				parsedDate = DateUtils.convertToUTC(parsedDate);
@@ -507,7 +473,7 @@ public final class ValidatorUtils  {
 	private static boolean pastOrPresentValidator(final String date, final String format, boolean validateTime, boolean dateUtc) {
 		var parsedDate = DateUtils.parseDate(date, format);
 		if (parsedDate != null) {
-			var compareDate = new Date();
+			var compareDate = ClockUtils.currentDate();
 			if (dateUtc) {
 				compareDate = DateUtils.dateUTC();
 				parsedDate = DateUtils.convertToUTC(parsedDate);
@@ -575,7 +541,7 @@ public final class ValidatorUtils  {
 	}
 
 	public static boolean validateEmail(final String email) {
-		return Pattern.compile(PatternUtils.EMAIL_PATTERN).matcher(email).matches();
+		return PatternRegistry.EMAIL.matcher(email).matches();
 	}
 
 	public static boolean validateNullableEmail(final String email) {
@@ -632,7 +598,7 @@ public final class ValidatorUtils  {
 	}
 
 	public static boolean validateRFC(final String rfc) {
-		return Pattern.compile(PatternUtils.RFC_PATTERN).matcher(rfc).matches();
+		return RfcCurpValidator.isRfc(rfc);
 	}
 
 	public static boolean validateNullableRFC(final String rfc) {
@@ -647,16 +613,36 @@ public final class ValidatorUtils  {
 		}
 	}
 
+	/**
+	 * Validates the RFC format and, when present, its SAT check digit
+	 * 
+	 * @param rfc String
+	 * @return True if the value is a RFC with a valid check digit, otherwise false
+	 */
+	public static boolean validateRFCWithCheckDigit(final String rfc) {
+		return RfcCurpValidator.isRfcWithCheckDigit(rfc);
+	}
+
 	public static boolean validateRFC12(final String rfc) {
-		return Pattern.compile(PatternUtils.RFC12_PATTERN).matcher(rfc).matches();
+		return RfcCurpValidator.isRfc12(rfc);
 	}
 
 	public static boolean validateRFC13(final String rfc) {
-		return Pattern.compile(PatternUtils.RFC13_PATTERN).matcher(rfc).matches();
+		return RfcCurpValidator.isRfc13(rfc);
 	}
 
 	public static boolean validateCURP(final String curp) {
-		return Pattern.compile(PatternUtils.CURP_PATTERN).matcher(curp).matches();
+		return RfcCurpValidator.isCurp(curp);
+	}
+
+	/**
+	 * Validates the CURP format and its RENAPO check digit
+	 * 
+	 * @param curp String
+	 * @return True if the value is a CURP with a valid check digit, otherwise false
+	 */
+	public static boolean validateCURPWithCheckDigit(final String curp) {
+		return RfcCurpValidator.isCurpWithCheckDigit(curp);
 	}
 
 	public static boolean validateNullableCURP(final String curp) {
@@ -672,11 +658,11 @@ public final class ValidatorUtils  {
 	}
 
 	public static boolean validatePhoneMx(final String phone) {
-		return Pattern.compile(PatternUtils.PHONE_MX_PATTERN).matcher(phone).matches();
+		return PatternRegistry.PHONE_MX.matcher(phone).matches();
 	}
 
 	public static boolean validateZipCodeMx(final String zipCode) {
-		return Pattern.compile(PatternUtils.ZIP_CODE_MX_PATTERN).matcher(zipCode).matches();
+		return PatternRegistry.ZIP_CODE_MX.matcher(zipCode).matches();
 	}
 	
 }
\ No newline at end of file
@@ -0,0 +1,52 @@
+package mx.softixx.cis.common.core.datetime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.ZoneId;
+
+import org.junit.jupiter.api.Test;
+
+import lombok.val;
+
+/**
+ * Date fields of {@link CoarseClock} snapshots
+ *
+ * @author Maikel Guerra Ferrer - mguerraferrer@gmail.com
+ *
+ */
+class CoarseClockTest {
+
+	@Test
+	void dateFieldsMatchTheLocalDateTime() throws Exception {
+		try (val clock = CoarseClock.start(ZoneId.of("America/Mexico_City"), Duration.ofMillis(1))) {
+			for (int i = 0; i < 100; i++) {
+				val dateTime = clock.localDateTime();
+				val date = clock.localDate();
+				// ##### The snapshot may change between reads only when the day changes
+				if (!date.equals(dateTime.toLocalDate())) {
+					continue;
+				}
+				assertThat(clock.year()).isEqualTo(date.getYear());
+				assertThat(clock.month()).isEqualTo(date.getMonthValue());
+				assertThat(clock.dayOfMonth()).isEqualTo(date.getDayOfMonth());
+				Thread.sleep(1);
+			}
+		}
+	}
+
+	@Test
+	void localDateIsReusedWithinTheDay() throws Exception {
+		try (val clock = CoarseClock.start(ZoneId.of("UTC"), Duration.ofMillis(1))) {
+			val first = clock.localDate();
+			val millis = clock.millis();
+			Thread.sleep(20);
+			assertThat(clock.millis()).isGreaterThan(millis);
+			val second = clock.localDate();
+			if (second.equals(first)) {
+				assertThat(second).isSameAs(first);
+			}
+		}
+	}
+
+}
@@ -0,0 +1,196 @@
+package mx.softixx.cis.common.core.datetime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.text.ParsePosition;
+import java.text.SimpleDateFormat;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.zone.ZoneOffsetTransition;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+import java.util.TimeZone;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import lombok.val;
+
+/**
+ * Compatibility corpus of {@link LenientDateParser}: every input is also parsed
+ * with {@code SimpleDateFormat#parse(String, ParsePosition)} in the same
+ * default zone and both results must be the same {@code Date} (or null).
+ * <p>
+ * The expected values are computed at run time, so the corpus follows the
+ * tzdata of the JDK that runs it.
+ * </p>
+ *
+ * @author Maikel Guerra Ferrer - mguerraferrer@gmail.com
+ *
+ */
+class LenientDateParserTest {
+
+	private static final String[] TRANSITION_PATTERNS = { "yyyy-MM-dd HH:mm:ss", "dd/MM/yyyy HH:mm",
+			"yyyy-MM-dd'T'HH:mm:ss.SSS", "yyyyMMddHHmmss" };
+
+	private static final String[] FIELD_PATTERNS = { "yyyy-MM-dd", "yyyy-MM-dd HH:mm", "yyyy-MM-dd HH:mm:ss",
+			"yyyy-MM-dd'T'HH:mm:ss", "dd/MM/yyyy", "dd.MM.yyyy", "dd/MM/yyyy HH:mm", "dd/MM/yyyy HH:mm:ss",
+			"dd/MM/yyyy hh:mm:ss a", "hh:mm a", "HH:mm", "HH:mm:ss", "d/M/yy", "yyyyMMddHHmmssSSS", "k:mm", "K:mm",
+			"dd 'de' MM 'de' yyyy", "''yyyy''MM" };
+
+	private static final String[] FIELD_VALUES = { "0", "00", "1", "01", "7", "12", "13", "24", "25", "28", "29",
+			"30", "31", "32", "59", "60", "61", "99", "100", "365", "999", "1000", "0000", "1582", "1899", "1900",
+			"1901", "1970", "2037", "2038", "9999", "10000", "123456789", "1234567890", "-1", "+1", " 7", "\t7",
+			"  12", "", "x", "1a" };
+
+	private static final String[] SUFFIXES = { " ", "x", "0", ":00" };
+
+	private static final String[] TEXTS = { "", " ", "31/02/2020", "29/02/2021", "00/00/0000", "32/13/2020",
+			"01/01/2020 25:61:61", "01/01/2020abc", "1/1/1", "  5/ 6/2020", "5 /6/2020", "01/01/20", "01/01/-5",
+			"-01/01/2020", "01/01/2020 10:00", "99999999/01/2020", "2020-02-30", "2020-13-01 24:00",
+			"2020-1-1 1:1", "20201301250000", "2020010100000", "12:00 PM", "12:00 am", "00:00 AM", "13:00 PM" };
+
+	private TimeZone defaultZone;
+
+	@BeforeEach
+	void saveDefaultZone() {
+		defaultZone = TimeZone.getDefault();
+	}
+
+	@AfterEach
+	void restoreDefaultZone() {
+		TimeZone.setDefault(defaultZone);
+	}
+
+	static Stream<String> zoneIds() {
+		return ZoneId.getAvailableZoneIds().stream().sorted();
+	}
+
+	/**
+	 * Wall times around every historical transition (gaps, overlaps and changes
+	 * of the standard offset), the future transitions of the rules and the start
+	 * and the middle of every year from 1850 to 2100
+	 */
+	@ParameterizedTest
+	@MethodSource("zoneIds")
+	void matchesSimpleDateFormatAroundTransitions(final String zoneId) {
+		TimeZone.setDefault(TimeZone.getTimeZone(zoneId));
+		val corpus = transitionCorpus(ZoneId.of(zoneId));
+
+		val mismatches = new ArrayList<String>();
+		for (val pattern : TRANSITION_PATTERNS) {
+			val formatter = DateTimeFormatter.ofPattern(pattern.replace("yyyy", "uuuu"));
+			val sdf = new SimpleDateFormat(pattern);
+			for (val ldt : corpus) {
+				compare(formatter.format(ldt), pattern, sdf, mismatches);
+			}
+		}
+		assertThat(mismatches).as(zoneId).isEmpty();
+	}
+
+	/**
+	 * Out of range, missing, signed, padded and oversized values in every field
+	 */
+	@ParameterizedTest
+	@ValueSource(strings = { "America/Mexico_City", "America/Tijuana", "UTC", "Europe/London", "Europe/Dublin",
+			"Australia/Lord_Howe", "Asia/Kolkata", "Pacific/Apia", "Africa/Casablanca" })
+	void matchesSimpleDateFormatWithOutOfRangeFields(final String zoneId) {
+		TimeZone.setDefault(TimeZone.getTimeZone(zoneId));
+		val random = new Random(zoneId.hashCode());
+
+		val mismatches = new ArrayList<String>();
+		for (val pattern : FIELD_PATTERNS) {
+			val sdf = new SimpleDateFormat(pattern);
+			for (val text : TEXTS) {
+				compare(text, pattern, sdf, mismatches);
+			}
+			for (int i = 0; i < 2_000; i++) {
+				compare(randomText(pattern, random), pattern, sdf, mismatches);
+			}
+		}
+		assertThat(mismatches).as(zoneId).isEmpty();
+	}
+
+	private static void compare(final String text, final String pattern, final SimpleDateFormat sdf,
+			final List<String> mismatches) {
+		val expected = sdf.parse(text, new ParsePosition(0));
+		val actual = LenientDateParser.parse(text, pattern);
+		if (!Objects.equals(expected, actual) && mismatches.size() < 20) {
+			mismatches.add("'" + text + "' [" + pattern + "] expected " + millis(expected) + " but was "
+					+ millis(actual));
+		}
+	}
+
+	private static Long millis(final Date date) {
+		return date != null ? date.getTime() : null;
+	}
+
+	private static List<LocalDateTime> transitionCorpus(final ZoneId zone) {
+		val rules = zone.getRules();
+		val transitions = new ArrayList<ZoneOffsetTransition>(rules.getTransitions());
+		var next = rules.nextTransition(Instant.parse("2020-01-01T00:00:00Z"));
+		for (int i = 0; next != null && i < 60; i++) {
+			transitions.add(next);
+			next = rules.nextTransition(next.getInstant());
+		}
+
+		val corpus = new ArrayList<LocalDateTime>();
+		for (val transition : transitions) {
+			val before = transition.getDateTimeBefore();
+			val after = transition.getDateTimeAfter();
+			val start = before.isBefore(after) ? before : after;
+			for (val minutes : new long[] { -61, -1, 0, 1, 15, 30, 59, 60, 61, 121 }) {
+				corpus.add(start.plusMinutes(minutes).plusSeconds(Math.floorMod(minutes, 60)));
+			}
+		}
+		for (int year = 1850; year <= 2100; year++) {
+			corpus.add(LocalDateTime.of(year, 1, 1, 0, 0));
+			corpus.add(LocalDateTime.of(year, 7, 1, 12, 34, 56, 789_000_000));
+		}
+		return corpus;
+	}
+
+	/**
+	 * Replaces every field of the pattern with a value of {@link #FIELD_VALUES}
+	 */
+	private static String randomText(final String pattern, final Random random) {
+		val text = new StringBuilder();
+		var quoted = false;
+		var i = 0;
+		while (i < pattern.length()) {
+			val c = pattern.charAt(i);
+			if (c == '\'') {
+				if (i + 1 < pattern.length() && pattern.charAt(i + 1) == '\'') {
+					text.append('\'');
+					i += 2;
+					continue;
+				}
+				quoted = !quoted;
+				i++;
+			} else if (!quoted && Character.isLetter(c)) {
+				while (i < pattern.length() && pattern.charAt(i) == c) {
+					i++;
+				}
+				text.append(c == 'a' ? random.nextBoolean() ? "AM" : "PM"
+						: FIELD_VALUES[random.nextInt(FIELD_VALUES.length)]);
+			} else {
+				text.append(c);
+				i++;
+			}
+		}
+		if (random.nextInt(10) == 0) {
+			text.append(SUFFIXES[random.nextInt(SUFFIXES.length)]);
+		}
+		return text.toString();
+	}
+
+}
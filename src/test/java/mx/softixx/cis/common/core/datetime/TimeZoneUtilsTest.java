@@ -0,0 +1,25 @@
+package mx.softixx.cis.common.core.datetime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+/**
+ * Zone preferred for each raw offset of Mexico
+ *
+ * @author Maikel Guerra Ferrer - mguerraferrer@gmail.com
+ *
+ */
+class TimeZoneUtilsTest {
+
+	private static final int HOUR = 3_600_000;
+
+	@ParameterizedTest
+	@CsvSource({ "-5, America/Cancun", "-6, America/Mexico_City", "-7, America/Mazatlan", "-8, America/Tijuana" })
+	void mainMexicanZoneIsPreferredForEachOffset(final int hours, final String zoneId) {
+		assertThat(TimeZoneUtils.getTimeZone(hours * HOUR)).isEqualTo(zoneId);
+		assertThat(TimeZoneUtils.getZoneIds(hours * HOUR)).startsWith(zoneId);
+	}
+
+}
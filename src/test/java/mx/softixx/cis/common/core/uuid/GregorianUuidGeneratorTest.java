@@ -0,0 +1,199 @@
+package mx.softixx.cis.common.core.uuid;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import lombok.val;
+
+/**
+ * Uniqueness and order of the UUIDs of {@link GregorianUuidGenerator} under
+ * concurrency
+ *
+ * @author Maikel Guerra Ferrer - mguerraferrer@gmail.com
+ *
+ */
+class GregorianUuidGeneratorTest {
+
+	private static final int THREADS = 8;
+	private static final int UUIDS_PER_THREAD = 500_000;
+	private static final int BATCH = 64;
+
+	private static final long NODE = 0x0A1B2C3D4E5FL;
+	private static final int CLOCK_SEQUENCE = 0x1234;
+
+	@Test
+	void concurrentUuidsAreUniqueAndIncreasing() throws Exception {
+		assertUniqueAndIncreasing(new GregorianUuidGenerator(NODE, CLOCK_SEQUENCE));
+	}
+
+	/**
+	 * A fixed clock forces the generator to borrow the following intervals
+	 */
+	@Test
+	void concurrentUuidsWithFixedClockAreUniqueAndIncreasing() throws Exception {
+		val clock = Clock.fixed(Instant.parse("2026-10-18T12:00:00Z"), ZoneOffset.UTC);
+		assertUniqueAndIncreasing(new GregorianUuidGenerator(NODE, CLOCK_SEQUENCE, clock));
+	}
+
+	@Test
+	void uuidsKeepIncreasingWhenTheClockGoesBack() {
+		val clock = new SteppingClock(Instant.parse("2026-10-18T12:00:00Z").toEpochMilli(), -1);
+		val generator = new GregorianUuidGenerator(NODE, CLOCK_SEQUENCE, clock);
+
+		var previous = -1L;
+		for (int i = 0; i < 100_000; i++) {
+			val uuid = i % 2 == 0 ? generator.nextV1() : generator.nextV6();
+			val timestamp = rawTimestamp(uuid);
+			assertThat(timestamp).isGreaterThan(previous);
+			previous = timestamp;
+		}
+	}
+
+	@Test
+	void uuidsHaveTheVersionVariantNodeAndCreationTime() {
+		val now = Instant.parse("2026-10-18T12:00:00.123Z");
+		val generator = new GregorianUuidGenerator(NODE, CLOCK_SEQUENCE, Clock.fixed(now, ZoneOffset.UTC));
+
+		val v1 = generator.nextV1();
+		val v6 = generator.fillV6(new UUID[1])[0];
+		assertThat(v1.version()).isEqualTo(1);
+		assertThat(v6.version()).isEqualTo(6);
+		for (val uuid : new UUID[] { v1, v6 }) {
+			assertThat(uuid.variant()).isEqualTo(2);
+			assertThat(uuid.getLeastSignificantBits() & 0xFFFFFFFFFFFFL).isEqualTo(NODE);
+			assertThat((int) (uuid.getLeastSignificantBits() >>> 48) & 0x3FFF).isEqualTo(CLOCK_SEQUENCE);
+			assertThat(GregorianUuidGenerator.timestamp(uuid)).isEqualTo(now.toEpochMilli());
+		}
+		assertThat(v1.timestamp()).isEqualTo(rawTimestamp(v1));
+	}
+
+	/**
+	 * Every thread mixes {@code nextV1}, {@code nextV6} and {@code fillV6} and
+	 * checks that its own timestamps are strictly increasing, then the timestamps
+	 * of all the threads must be distinct
+	 */
+	private static void assertUniqueAndIncreasing(final GregorianUuidGenerator generator) throws Exception {
+		val executor = Executors.newFixedThreadPool(THREADS);
+		try {
+			val start = new CountDownLatch(1);
+			val results = new ArrayList<Future<long[]>>();
+			for (int t = 0; t < THREADS; t++) {
+				results.add(submit(executor, generator, start));
+			}
+			start.countDown();
+
+			val all = new long[THREADS * UUIDS_PER_THREAD];
+			var offset = 0;
+			for (val result : results) {
+				val timestamps = result.get(2, TimeUnit.MINUTES);
+				System.arraycopy(timestamps, 0, all, offset, timestamps.length);
+				offset += timestamps.length;
+			}
+
+			Arrays.sort(all);
+			for (int i = 1; i < all.length; i++) {
+				assertThat(all[i]).as("duplicated timestamp").isNotEqualTo(all[i - 1]);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private static Future<long[]> submit(final ExecutorService executor, final GregorianUuidGenerator generator,
+			final CountDownLatch start) {
+		return executor.submit(() -> {
+			val timestamps = new long[UUIDS_PER_THREAD];
+			val batch = new UUID[BATCH];
+			start.await();
+
+			var count = 0;
+			var step = 0;
+			while (count < UUIDS_PER_THREAD) {
+				switch (step++ % 3) {
+				case 0 -> timestamps[count++] = checkedTimestamp(generator.nextV1(), 1);
+				case 1 -> timestamps[count++] = checkedTimestamp(generator.nextV6(), 6);
+				default -> {
+					generator.fillV6(batch);
+					for (int i = 0; i < BATCH && count < UUIDS_PER_THREAD; i++) {
+						timestamps[count++] = checkedTimestamp(batch[i], 6);
+					}
+				}
+				}
+			}
+
+			for (int i = 1; i < timestamps.length; i++) {
+				if (timestamps[i] <= timestamps[i - 1]) {
+					throw new AssertionError("Timestamp " + timestamps[i] + " after " + timestamps[i - 1]);
+				}
+			}
+			return timestamps;
+		});
+	}
+
+	private static long checkedTimestamp(final UUID uuid, final int version) {
+		if (uuid.version() != version || uuid.variant() != 2) {
+			throw new AssertionError("Unexpected version or variant: " + uuid);
+		}
+		return rawTimestamp(uuid);
+	}
+
+	/**
+	 * 60-bit timestamp of a version 1 or 6 UUID
+	 */
+	private static long rawTimestamp(final UUID uuid) {
+		val msb = uuid.getMostSignificantBits();
+		if (uuid.version() == 1) {
+			return ((msb & 0x0FFFL) << 48) | (((msb >>> 16) & 0xFFFFL) << 32) | (msb >>> 32);
+		}
+		return ((msb >>> 16) << 12) | (msb & 0x0FFFL);
+	}
+
+	/**
+	 * Clock that moves {@code step} milliseconds on every read
+	 */
+	private static final class SteppingClock extends Clock {
+		private long millis;
+		private final long step;
+
+		private SteppingClock(final long millis, final long step) {
+			this.millis = millis;
+			this.step = step;
+		}
+
+		@Override
+		public ZoneOffset getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(final ZoneId zone) {
+			return this;
+		}
+
+		@Override
+		public long millis() {
+			millis += step;
+			return millis;
+		}
+
+		@Override
+		public Instant instant() {
+			return Instant.ofEpochMilli(millis());
+		}
+	}
+
+}
@@ -0,0 +1,78 @@
+package mx.softixx.cis.common.core.uuid;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Random;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import lombok.val;
+
+/**
+ * Name-based UUIDs of {@link NameBasedUuidGenerator} compared with the hash of
+ * {@code namespace + name.getBytes(UTF_8)}, including names longer than the
+ * buffer of the thread
+ *
+ * @author Maikel Guerra Ferrer - mguerraferrer@gmail.com
+ *
+ */
+class NameBasedUuidGeneratorTest {
+
+	private static final UUID NAMESPACE = NameBasedUuidGenerator.NAMESPACE_DNS;
+
+	/**
+	 * ASCII, 2 and 3 byte characters, surrogate pairs and unpaired surrogates
+	 */
+	private static final String[] CHARS = { "a", "Z", "0", "ñ", "é", "€", "中", "😀", "𝄞", "\uD800", "\uDC00" };
+
+	@Test
+	void namesOfAnyLengthMatchTheHashOfTheirUtf8Bytes() throws Exception {
+		val md5 = NameBasedUuidGenerator.md5(NAMESPACE);
+		val sha1 = NameBasedUuidGenerator.sha1(NAMESPACE);
+		val random = new Random(16);
+
+		for (int length = 0; length <= 1_200; length++) {
+			val name = randomName(random, length);
+			assertThat(md5.generate(name)).as(name).isEqualTo(expected("MD5", 3, name));
+			assertThat(sha1.generate(name)).as(name).isEqualTo(expected("SHA-1", 5, name));
+		}
+	}
+
+	@Test
+	void longNamesMatchTheHashOfTheirUtf8Bytes() throws Exception {
+		val name = randomName(new Random(5), 1_000_000);
+		assertThat(NameBasedUuidGenerator.sha1(NAMESPACE).generate(name)).isEqualTo(expected("SHA-1", 5, name));
+		assertThat(UuidGeneratorUtils.generateType3UUID(NAMESPACE.toString(), name))
+				.isEqualTo(expected("MD5", 3, name));
+	}
+
+	@Test
+	void version3MatchesNameUuidFromBytes() {
+		val name = "www.example.com";
+		val bytes = ByteBuffer.allocate(16 + name.length())
+							  .putLong(NAMESPACE.getMostSignificantBits())
+							  .putLong(NAMESPACE.getLeastSignificantBits())
+							  .put(name.getBytes(StandardCharsets.UTF_8))
+							  .array();
+		assertThat(NameBasedUuidGenerator.md5(NAMESPACE).generate(name)).isEqualTo(UUID.nameUUIDFromBytes(bytes));
+	}
+
+	private static UUID expected(final String algorithm, final int version, final String name) throws Exception {
+		val digest = MessageDigest.getInstance(algorithm);
+		digest.update(UuidCodec.toBytes(NAMESPACE));
+		return ThreadLocalDigests.toUuid(digest.digest(name.getBytes(StandardCharsets.UTF_8)), version);
+	}
+
+	private static String randomName(final Random random, final int length) {
+		val name = new StringBuilder(length * 2);
+		while (name.length() < length) {
+			name.append(CHARS[random.nextInt(CHARS.length)]);
+		}
+		return name.toString();
+	}
+
+}